@@ -0,0 +1,58 @@
+package com.sap.cloud.lm.sl.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+import com.sap.cloud.lm.sl.common.SLException;
+
+public class ConcurrentUtil {
+
+    /**
+     * Waits for all tasks, even after one of them has failed, and returns their results in the order of the tasks. When a task fails, the
+     * cancellation flag is set, so that the tasks, which have not started yet, can skip their work. Running tasks are never interrupted.
+     * The first failure is rethrown as it is, if it is unchecked, and is wrapped in an {@link SLException} with the given message otherwise.
+     */
+    public static <T> List<T> waitForAll(List<Future<T>> tasks, AtomicBoolean isCancelled, String failureMessage) throws SLException {
+        List<T> results = new ArrayList<>(tasks.size());
+        Throwable failure = null;
+        boolean isInterrupted = false;
+        for (Future<T> task : tasks) {
+            boolean isDone = false;
+            while (!isDone) {
+                try {
+                    results.add(task.get());
+                    isDone = true;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                    failure = ObjectUtils.defaultIfNull(failure, e);
+                } catch (ExecutionException e) {
+                    isDone = true;
+                    failure = ObjectUtils.defaultIfNull(failure, e.getCause());
+                }
+                if (failure != null) {
+                    isCancelled.set(true);
+                }
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread()
+                .interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new SLException(failure, failureMessage);
+        }
+        return results;
+    }
+
+}
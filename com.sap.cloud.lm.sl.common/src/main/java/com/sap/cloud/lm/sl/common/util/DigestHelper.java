@@ -2,17 +2,31 @@ package com.sap.cloud.lm.sl.common.util;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.bind.DatatypeConverter;
 
 public class DigestHelper {
 
-    private static final int BUFFER_SIZE = 4 * 1024;
+    static final int BUFFER_SIZE = 4 * 1024;
+    // A heap buffer is allocated for each file, since the digests read heap buffers directly through their arrays, and its memory is not
+    // retained by the threads, which have computed checksums.
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
 
     public static String appendDigests(String digest, String additionalDigest, String digestAlgorithm) throws NoSuchAlgorithmException {
         byte[] fileChecksum = DatatypeConverter.parseHexBinary(digest);
@@ -27,37 +41,122 @@ public class DigestHelper {
         return DatatypeConverter.printHexBinary(computeFileCheckSumBytes(file, algorithm));
     }
 
+    /**
+     * Computes the checksums of the file with all of the given algorithms, while reading the file only once.
+     * 
+     * @return the checksums by algorithm
+     */
+    public static Map<String, String> computeFileChecksums(Path file, String... algorithms) throws NoSuchAlgorithmException, IOException {
+        Map<String, MessageDigest> digests = createDigests(algorithms);
+        updateDigests(file, digests);
+        return completeDigests(digests);
+    }
+
     private static byte[] computeFileCheckSumBytes(Path file, String algorithm) throws NoSuchAlgorithmException, IOException {
         MessageDigest md = MessageDigest.getInstance(algorithm);
+        updateDigests(file, Collections.singletonMap(algorithm, md));
+        return md.digest();
+    }
 
-        try (InputStream is = Files.newInputStream(file)) {
-            int read = 0;
-            byte[] buffer = new byte[BUFFER_SIZE];
-            while ((read = is.read(buffer)) > -1) {
-                md.update(buffer, 0, read);
+    private static void updateDigests(Path file, Map<String, MessageDigest> digests) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(FILE_BUFFER_SIZE);
+            while (channel.read(buffer) > -1) {
+                buffer.flip();
+                for (MessageDigest md : digests.values()) {
+                    buffer.mark();
+                    md.update(buffer);
+                    buffer.reset();
+                }
+                buffer.clear();
             }
         }
-        return md.digest();
     }
 
+    static Map<String, MessageDigest> createDigests(String... algorithms) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> digests = new LinkedHashMap<>();
+        for (String algorithm : algorithms) {
+            digests.put(algorithm, MessageDigest.getInstance(algorithm));
+        }
+        return digests;
+    }
+
+    static Map<String, String> completeDigests(Map<String, MessageDigest> digests) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (Map.Entry<String, MessageDigest> digest : digests.entrySet()) {
+            result.put(digest.getKey(), DatatypeConverter.printHexBinary(digest.getValue()
+                .digest()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Computes the checksum of the directory as a Merkle tree, in which the checksum of each directory is computed from the checksums of
+     * its files and subdirectories, ordered by name. The file checksums are computed concurrently. Symbolic links are ignored.
+     */
     public static String computeDirectoryCheckSum(Path filePath, String algorithm) throws NoSuchAlgorithmException, IOException {
         return DatatypeConverter.printHexBinary(computeDirectoryCheckSumBytes(filePath, algorithm));
     }
 
     private static byte[] computeDirectoryCheckSumBytes(Path directoryPath, String algorithm) throws NoSuchAlgorithmException, IOException {
+        List<Path> paths = listDirectoryContent(directoryPath);
+        Map<Path, byte[]> fileCheckSums = computeFileCheckSumBytes(paths, algorithm);
+        Map<Path, List<Path>> directoryContents = paths.stream()
+            .collect(Collectors.groupingBy(Path::getParent));
+        return computeDirectoryCheckSumBytes(directoryPath, directoryContents, fileCheckSums, algorithm);
+    }
+
+    private static List<Path> listDirectoryContent(Path directoryPath) throws IOException {
+        try (Stream<Path> paths = Files.walk(directoryPath)) {
+            return paths.filter(path -> !path.equals(directoryPath))
+                .filter(path -> !Files.isSymbolicLink(path))
+                .sorted(Comparator.comparing(path -> getRelativePath(directoryPath, path)))
+                .collect(Collectors.toList());
+        }
+    }
+
+    // The separator is normalized, so that the order does not depend on the file system.
+    private static String getRelativePath(Path directoryPath, Path path) {
+        return directoryPath.relativize(path)
+            .toString()
+            .replace(File.separatorChar, '/');
+    }
+
+    private static Map<Path, byte[]> computeFileCheckSumBytes(List<Path> paths, String algorithm)
+        throws NoSuchAlgorithmException, IOException {
+        MessageDigest.getInstance(algorithm);
+        try {
+            return paths.parallelStream()
+                .filter(path -> !Files.isDirectory(path))
+                .collect(Collectors.toConcurrentMap(Function.identity(), path -> computeFileCheckSumBytesUnchecked(path, algorithm)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static byte[] computeFileCheckSumBytesUnchecked(Path file, String algorithm) {
+        try {
+            return computeFileCheckSumBytes(file, algorithm);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            // The algorithm is validated before the file checksums are computed.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] computeDirectoryCheckSumBytes(Path directoryPath, Map<Path, List<Path>> directoryContents,
+        Map<Path, byte[]> fileCheckSums, String algorithm) throws NoSuchAlgorithmException {
         MessageDigest md = MessageDigest.getInstance(algorithm);
-        for (File fileInDir : directoryPath.toFile()
-            .listFiles()) {
-            Path filePathInDir = fileInDir.toPath();
-            if (Files.isSymbolicLink(filePathInDir)) {
-                continue;
-            }
-            if (Files.isDirectory(filePathInDir)) {
-                md.update(computeDirectoryCheckSumBytes(filePathInDir, algorithm));
+        for (Path path : directoryContents.getOrDefault(directoryPath, Collections.emptyList())) {
+            byte[] fileCheckSum = fileCheckSums.get(path);
+            if (fileCheckSum != null) {
+                md.update(fileCheckSum);
             } else {
-                md.update(computeFileCheckSumBytes(filePathInDir, algorithm));
+                md.update(computeDirectoryCheckSumBytes(path, directoryContents, fileCheckSums, algorithm));
             }
         }
         return md.digest();
     }
+
 }
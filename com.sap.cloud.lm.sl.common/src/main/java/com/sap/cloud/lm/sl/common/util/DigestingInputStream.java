@@ -0,0 +1,95 @@
+package com.sap.cloud.lm.sl.common.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+/**
+ * Computes the digests of the data read through the stream with one or more algorithms at once, so that an archive can be checksummed in
+ * the same pass in which it is uploaded or extracted. The digests cover only the data that has actually been read or skipped.
+ */
+public class DigestingInputStream extends FilterInputStream {
+
+    private final Map<String, MessageDigest> digests;
+    private Map<String, String> completedDigests;
+
+    public DigestingInputStream(InputStream in, String... algorithms) throws NoSuchAlgorithmException {
+        super(in);
+        this.digests = DigestHelper.createDigests(algorithms);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            for (MessageDigest digest : digests.values()) {
+                digest.update((byte) b);
+            }
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = in.read(b, off, len);
+        if (read > 0) {
+            for (MessageDigest digest : digests.values()) {
+                digest.update(b, off, read);
+            }
+        }
+        return read;
+    }
+
+    // Skipped data is read as well, as otherwise it would be missing from the digests.
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, DigestHelper.BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // Marks are not supported, because the data read after a reset would be digested twice.
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * @return the digest computed with the given algorithm, which must be one of the algorithms the stream was created with
+     */
+    public String getDigest(String algorithm) {
+        return getDigests().get(algorithm);
+    }
+
+    /**
+     * Completes the digests. The stream must not be read afterwards.
+     * 
+     * @return the digests by algorithm
+     */
+    public synchronized Map<String, String> getDigests() {
+        if (completedDigests == null) {
+            completedDigests = DigestHelper.completeDigests(digests);
+        }
+        return completedDigests;
+    }
+
+}
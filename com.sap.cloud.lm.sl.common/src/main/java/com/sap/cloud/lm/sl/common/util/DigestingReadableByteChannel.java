@@ -0,0 +1,61 @@
+package com.sap.cloud.lm.sl.common.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+/**
+ * The channel counterpart of {@link DigestingInputStream}. Reading through a direct buffer avoids copying the data to the heap before it
+ * is digested.
+ */
+public class DigestingReadableByteChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel channel;
+    private final Map<String, MessageDigest> digests;
+    private Map<String, String> completedDigests;
+
+    public DigestingReadableByteChannel(ReadableByteChannel channel, String... algorithms) throws NoSuchAlgorithmException {
+        this.channel = channel;
+        this.digests = DigestHelper.createDigests(algorithms);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int position = dst.position();
+        int read = channel.read(dst);
+        if (read > 0) {
+            for (MessageDigest digest : digests.values()) {
+                ByteBuffer readData = dst.duplicate();
+                readData.limit(position + read);
+                readData.position(position);
+                digest.update(readData);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public String getDigest(String algorithm) {
+        return getDigests().get(algorithm);
+    }
+
+    public synchronized Map<String, String> getDigests() {
+        if (completedDigests == null) {
+            completedDigests = DigestHelper.completeDigests(digests);
+        }
+        return completedDigests;
+    }
+
+}
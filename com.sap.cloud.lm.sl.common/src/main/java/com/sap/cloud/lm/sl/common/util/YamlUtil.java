@@ -17,10 +17,13 @@ public class YamlUtil {
 
     private static final int EXCEPTION_MESSAGE_YAML_LENGTH_LIMIT = 255;
 
+    // Yaml instances are not thread-safe, but creating them is expensive, so each thread reuses its own instance.
+    private static final ThreadLocal<Yaml> PARSERS = ThreadLocal.withInitial(() -> new Yaml(new YamlTaggedObjectsConstructor()));
+
     @SuppressWarnings("unchecked")
     public static Map<String, Object> convertYamlToMap(String yaml) throws ParsingException {
         try {
-            return (Map<String, Object>) new Yaml(new YamlTaggedObjectsConstructor()).load(yaml);
+            return (Map<String, Object>) load(yaml);
         } catch (Exception e) {
             throw new ParsingException(e, constructParsingExceptionMessage(e, yaml));
         }
@@ -29,7 +32,7 @@ public class YamlUtil {
     @SuppressWarnings("unchecked")
     public static Map<String, Object> convertYamlToMap(InputStream yaml) throws ParsingException {
         try {
-            return (Map<String, Object>) new Yaml(new YamlTaggedObjectsConstructor()).load(yaml);
+            return (Map<String, Object>) load(yaml);
         } catch (Exception e) {
             throw new ParsingException(e, Messages.ERROR_PARSING_YAML_STREAM, e.getMessage());
         }
@@ -38,7 +41,7 @@ public class YamlUtil {
     @SuppressWarnings("unchecked")
     public static List<Object> convertYamlToList(String yaml) throws ParsingException {
         try {
-            return (List<Object>) new Yaml(new YamlTaggedObjectsConstructor()).load(yaml);
+            return (List<Object>) load(yaml);
         } catch (Exception e) {
             throw new ParsingException(e, constructParsingExceptionMessage(e, yaml));
         }
@@ -47,12 +50,37 @@ public class YamlUtil {
     @SuppressWarnings("unchecked")
     public static List<Object> convertYamlToList(InputStream yaml) throws ParsingException {
         try {
-            return (List<Object>) new Yaml(new YamlTaggedObjectsConstructor()).load(yaml);
+            return (List<Object>) load(yaml);
         } catch (Exception e) {
             throw new ParsingException(e, Messages.ERROR_PARSING_YAML_STREAM, e.getMessage());
         }
     }
 
+    private static Object load(String yaml) {
+        try {
+            return PARSERS.get()
+                .load(yaml);
+        } catch (RuntimeException e) {
+            discardParser();
+            throw e;
+        }
+    }
+
+    private static Object load(InputStream yaml) {
+        try {
+            return PARSERS.get()
+                .load(yaml);
+        } catch (RuntimeException e) {
+            discardParser();
+            throw e;
+        }
+    }
+
+    // The constructor of a parser may be left in an inconsistent state by a failed parse.
+    private static void discardParser() {
+        PARSERS.remove();
+    }
+
     public static String convertToYaml(Object object) {
         Yaml yaml = new Yaml(new SafeConstructor(), new YamlRepresenter());
         return yaml.dumpAsMap(object);
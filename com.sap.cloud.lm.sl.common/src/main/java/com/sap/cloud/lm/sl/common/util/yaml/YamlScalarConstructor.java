@@ -0,0 +1,42 @@
+package com.sap.cloud.lm.sl.common.util.yaml;
+
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import com.sap.cloud.lm.sl.common.tags.YamlTaggedObjectsConstructor;
+
+/**
+ * Constructs the values of scalars read as events of the YAML parser, in the same way in which they are constructed when the whole
+ * document is loaded with {@link com.sap.cloud.lm.sl.common.util.YamlUtil}.
+ */
+public class YamlScalarConstructor extends YamlTaggedObjectsConstructor {
+
+    private static final Resolver RESOLVER = new Resolver();
+    // Some of the constructors keep state between calls, so they are not shared between threads.
+    private static final ThreadLocal<YamlScalarConstructor> INSTANCES = ThreadLocal.withInitial(YamlScalarConstructor::new);
+
+    private YamlScalarConstructor() {
+    }
+
+    public static Object construct(ScalarEvent event) {
+        ScalarNode node = new ScalarNode(resolveTag(event), event.getValue(), event.getStartMark(), event.getEndMark(),
+            event.getScalarStyle());
+        YamlScalarConstructor constructor = INSTANCES.get();
+        return constructor.getConstructor(node)
+            .construct(node);
+    }
+
+    // Resolves the tag of the scalar in the same way as the composer of the YAML parser.
+    public static Tag resolveTag(ScalarEvent event) {
+        String tag = event.getTag();
+        if (tag == null || tag.equals("!")) {
+            return RESOLVER.resolve(NodeId.scalar, event.getValue(), event.getImplicit()
+                .canOmitTagInPlainScalar());
+        }
+        return new Tag(tag);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.sap.cloud.lm.sl.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.common.SLException;
+
+public class ConcurrentUtilTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testWaitForAllReturnsResultsInOrder() throws Exception {
+        CountDownLatch secondTaskDone = new CountDownLatch(1);
+        List<Future<String>> tasks = Arrays.asList(executor.submit(() -> {
+            secondTaskDone.await();
+            return "first";
+        }), executor.submit(() -> {
+            secondTaskDone.countDown();
+            return "second";
+        }));
+
+        List<String> results = ConcurrentUtil.waitForAll(tasks, new AtomicBoolean(), "Error");
+
+        assertEquals(Arrays.asList("first", "second"), results);
+    }
+
+    @Test
+    public void testWaitForAllWaitsForRunningTasksOnFailure() throws Exception {
+        CountDownLatch slowTaskStarted = new CountDownLatch(1);
+        AtomicBoolean slowTaskFinished = new AtomicBoolean();
+        AtomicBoolean isCancelled = new AtomicBoolean();
+        List<Future<Void>> tasks = Arrays.asList(executor.submit(() -> {
+            slowTaskStarted.await();
+            throw new IllegalStateException("Failed");
+        }), executor.submit(() -> {
+            slowTaskStarted.countDown();
+            Thread.sleep(100);
+            slowTaskFinished.set(true);
+            return null;
+        }));
+
+        try {
+            ConcurrentUtil.waitForAll(tasks, isCancelled, "Error");
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("Failed", e.getMessage());
+        }
+        assertTrue(slowTaskFinished.get());
+        assertTrue(isCancelled.get());
+    }
+
+    @Test
+    public void testWaitForAllWrapsCheckedFailures() throws Exception {
+        List<Future<Void>> tasks = Arrays.asList(executor.submit(() -> {
+            throw new IOException("Failed");
+        }));
+
+        try {
+            ConcurrentUtil.waitForAll(tasks, new AtomicBoolean(), "Error");
+            fail();
+        } catch (SLException e) {
+            assertEquals("Error", e.getMessage());
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+}
@@ -2,21 +2,66 @@ package com.sap.cloud.lm.sl.common.util;
 
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
 
+import javax.xml.bind.DatatypeConverter;
+
+import org.apache.commons.io.IOUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class DigestHelperTest {
 
+    private static final Path WEB_ZIP = Paths.get("src/test/resources/com/sap/cloud/lm/sl/common/util/web.zip");
+    private static final String WEB_ZIP_MD5 = "439B99DFFD0583200D5D21F4CD1BF035";
+    private static final String WEB_ZIP_SHA256 = "92CB62F85B7C1AB36729D35C96FCF875CBEC1C7ECCBAAD3B173CF53A00EFD2EC";
+
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testComputeFileChecksum() throws Exception {
-        assertEquals("439B99DFFD0583200D5D21F4CD1BF035",
-            DigestHelper.computeFileChecksum(Paths.get("src/test/resources/com/sap/cloud/lm/sl/common/util/web.zip"), "MD5"));
+        assertEquals(WEB_ZIP_MD5, DigestHelper.computeFileChecksum(WEB_ZIP, "MD5"));
+    }
+
+    @Test
+    public void testComputeFileChecksums() throws Exception {
+        assertEquals(getWebZipChecksums(), DigestHelper.computeFileChecksums(WEB_ZIP, "MD5", "SHA-256"));
+    }
+
+    @Test
+    public void testDigestingInputStream() throws Exception {
+        try (DigestingInputStream is = new DigestingInputStream(Files.newInputStream(WEB_ZIP), "MD5", "SHA-256")) {
+            is.read();
+            is.skip(16);
+            IOUtils.toByteArray(is);
+            assertEquals(getWebZipChecksums(), is.getDigests());
+            assertEquals(WEB_ZIP_MD5, is.getDigest("MD5"));
+        }
+    }
+
+    @Test
+    public void testDigestingReadableByteChannel() throws Exception {
+        try (DigestingReadableByteChannel channel = new DigestingReadableByteChannel(FileChannel.open(WEB_ZIP), "MD5", "SHA-256")) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+            while (channel.read(buffer) > -1) {
+                buffer.clear();
+            }
+            assertEquals(getWebZipChecksums(), channel.getDigests());
+        }
     }
 
     @Test
@@ -25,4 +70,31 @@ public class DigestHelperTest {
             DigestHelper.computeDirectoryCheckSum(Paths.get("src/test/resources/com/sap/cloud/lm/sl/common/util"), "MD5"));
     }
 
+    @Test
+    public void testComputeDirectoryChecksumOfNestedDirectories() throws Exception {
+        Path directory = temporaryFolder.newFolder("directory")
+            .toPath();
+        Path subdirectory = Files.createDirectory(directory.resolve("b"));
+        Files.write(directory.resolve("c"), "c".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("a"), "a".getBytes(StandardCharsets.UTF_8));
+        Files.write(subdirectory.resolve("d"), "d".getBytes(StandardCharsets.UTF_8));
+
+        String subdirectoryChecksum = DigestHelper.appendDigests(DigestHelper.computeFileChecksum(subdirectory.resolve("d"), "MD5"), "",
+            "MD5");
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        md.update(DatatypeConverter.parseHexBinary(DigestHelper.computeFileChecksum(directory.resolve("a"), "MD5")));
+        md.update(DatatypeConverter.parseHexBinary(subdirectoryChecksum));
+        md.update(DatatypeConverter.parseHexBinary(DigestHelper.computeFileChecksum(directory.resolve("c"), "MD5")));
+
+        assertEquals(subdirectoryChecksum, DigestHelper.computeDirectoryCheckSum(subdirectory, "MD5"));
+        assertEquals(DatatypeConverter.printHexBinary(md.digest()), DigestHelper.computeDirectoryCheckSum(directory, "MD5"));
+    }
+
+    private Map<String, String> getWebZipChecksums() {
+        Map<String, String> checksums = new HashMap<>();
+        checksums.put("MD5", WEB_ZIP_MD5);
+        checksums.put("SHA-256", WEB_ZIP_SHA256);
+        return checksums;
+    }
+
 }
@@ -1,82 +1,57 @@
 package com.sap.cloud.lm.sl.mta.builders.v2;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorHandler;
+import com.sap.cloud.lm.sl.mta.handlers.v2.ModuleDependencyGraph;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
-import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 
+/**
+ * Collects the modules, which each module of a descriptor depends on directly or transitively. The dependencies of all modules are
+ * collected together the first time they are needed, so that the dependencies shared by several modules are collected only once.
+ */
 public class ModuleDependenciesCollector {
 
     protected DeploymentDescriptor descriptor;
-    private DescriptorHandler handler;
-    protected Set<String> seenModules = new HashSet<>();
+    private Map<String, Set<String>> transitiveDependencies;
 
-    public ModuleDependenciesCollector(DeploymentDescriptor descriptor, DescriptorHandler handler) {
+    public ModuleDependenciesCollector(DeploymentDescriptor descriptor) {
         this.descriptor = descriptor;
-        this.handler = handler;
     }
 
-    protected List<String> getDependencies(Module module) {
-        return module.getRequiredDependencies()
-            .stream()
-            .map(RequiredDependency::getName)
-            .collect(Collectors.toList());
+    /**
+     * @deprecated the handler is not used to collect the dependencies, use {@link #ModuleDependenciesCollector(DeploymentDescriptor)}
+     *             instead
+     */
+    @Deprecated
+    public ModuleDependenciesCollector(DeploymentDescriptor descriptor, DescriptorHandler handler) {
+        this(descriptor);
     }
 
     public Set<String> collect(Module module) {
-        clearVisitedModules();
-        return getDependenciesRecursively(module);
-    }
-
-    private void clearVisitedModules() {
-        seenModules.clear();
-    }
-
-    private Set<String> getDependenciesRecursively(Module module) {
-        if (visited(module)) {
-            return Collections.emptySet();
+        Set<String> dependencies = collectAll().get(module.getName());
+        if (dependencies == null) {
+            return new LinkedHashSet<>();
         }
-        markVisited(module);
-        return collectDependenciesRecursively(module);
+        return new LinkedHashSet<>(dependencies);
     }
 
-    private boolean visited(Module module) {
-        return seenModules.contains(module.getName());
-    }
-
-    private void markVisited(Module module) {
-        seenModules.add(module.getName());
-    }
-
-    private Set<String> collectDependenciesRecursively(Module module) {
-        Set<String> dependencies = new LinkedHashSet<>();
-        for (String dependency : getDependencies(module)) {
-            Module moduleProvidingDependency = findModuleSatisfyingDependency(dependency);
-            if (notRequiresSelf(module, moduleProvidingDependency)) {
-                dependencies.add(moduleProvidingDependency.getName());
-                dependencies.addAll(getDependenciesRecursively(moduleProvidingDependency));
-            }
+    /**
+     * @return the names of the modules, which each module depends on, by the names of the modules
+     */
+    public Map<String, Set<String>> collectAll() {
+        if (transitiveDependencies == null) {
+            transitiveDependencies = Collections.unmodifiableMap(getDependencyGraph().getTransitiveDependencies());
         }
-        return dependencies;
+        return transitiveDependencies;
     }
 
-    protected Module findModuleSatisfyingDependency(String dependency) {
-        return descriptor.getModules()
-            .stream()
-            .filter(module -> handler.findProvidedDependency(module, dependency) != null)
-            .findFirst()
-            .orElse(null);
+    protected ModuleDependencyGraph getDependencyGraph() {
+        return ModuleDependencyGraph.ofRequiredDependencies(descriptor.getModules());
     }
 
-    private boolean notRequiresSelf(Module module, Module requiredModule) {
-        return requiredModule != null && !requiredModule.getName()
-            .equals(module.getName());
-    }
 }
@@ -4,17 +4,20 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-import org.apache.commons.collections4.ListUtils;
-
+import com.sap.cloud.lm.sl.mta.handlers.v2.ModuleDependencyGraph;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
 
 public class ModuleDependenciesCollector extends com.sap.cloud.lm.sl.mta.builders.v2.ModuleDependenciesCollector {
 
     public ModuleDependenciesCollector(DeploymentDescriptor descriptor) {
-        super(descriptor, null);
+        super(descriptor);
     }
 
+    /**
+     * Replaces the deployed-after attribute of the module with all modules it depends on. Since the dependencies of all modules are
+     * collected before any of them is replaced, the result does not depend on the order in which the modules are collected.
+     */
     @Override
     public Set<String> collect(Module module) {
         Set<String> collectedDependencies = super.collect(module);
@@ -24,17 +27,8 @@ public class ModuleDependenciesCollector extends com.sap.cloud.lm.sl.mta.builder
     }
 
     @Override
-    protected List<String> getDependencies(Module module) {
-        return ListUtils.emptyIfNull(module.getDeployedAfter());
+    protected ModuleDependencyGraph getDependencyGraph() {
+        return ModuleDependencyGraph.ofDeployedAfter(descriptor.getModules());
     }
 
-    @Override
-    protected Module findModuleSatisfyingDependency(String dependency) {
-        return descriptor.getModules()
-            .stream()
-            .filter(module -> module.getName()
-                .equals(dependency))
-            .findFirst()
-            .orElse(null);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.apache.commons.io.IOUtils;
+
+import com.sap.cloud.lm.sl.common.SLException;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+
+/**
+ * The digests of the entries of an archive and of the modules listed in its manifest, computed in a single pass over the archive. The
+ * digest of a module is computed from the names and digests of the entries that belong to it, and the digest of the archive from those of
+ * all its entries. Comparing the trees of two versions of an archive shows which modules have changed.
+ */
+public class ArchiveDigestTree {
+
+    private static final String MTA_MODULE_ATTRIBUTE = "MTA-Module";
+
+    private final String algorithm;
+    private final String digest;
+    private final SortedMap<String, String> entryDigests;
+    private final SortedMap<String, String> moduleDigests;
+
+    private ArchiveDigestTree(String algorithm, String digest, SortedMap<String, String> entryDigests,
+        SortedMap<String, String> moduleDigests) {
+        this.algorithm = algorithm;
+        this.digest = digest;
+        this.entryDigests = Collections.unmodifiableSortedMap(entryDigests);
+        this.moduleDigests = Collections.unmodifiableSortedMap(moduleDigests);
+    }
+
+    public static ArchiveDigestTree create(InputStream archiveStream, String algorithm, ArchiveSizeLimits limits) throws SLException {
+        MessageDigest md = getMessageDigest(algorithm);
+        SortedMap<String, String> entryDigests = new TreeMap<>();
+        AtomicReference<Manifest> manifest = new AtomicReference<>();
+        ArchiveHandler.visitEntries(archiveStream, entryName -> !entryName.endsWith("/"), limits, (entry, entryStream) -> {
+            DigestInputStream digestingEntryStream = new DigestInputStream(entryStream, md);
+            if (entry.getName()
+                .equals(JarFile.MANIFEST_NAME)) {
+                manifest.set(new Manifest(digestingEntryStream));
+            }
+            IOUtils.skip(digestingEntryStream, Long.MAX_VALUE);
+            entryDigests.put(entry.getName(), DatatypeConverter.printHexBinary(md.digest()));
+        });
+        SortedMap<String, String> moduleDigests = computeModuleDigests(md, manifest.get(), entryDigests);
+        return new ArchiveDigestTree(algorithm, combineDigests(md, entryDigests), entryDigests, moduleDigests);
+    }
+
+    private static MessageDigest getMessageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new SLException(e, Messages.ERROR_COMPUTING_ARCHIVE_DIGESTS);
+        }
+    }
+
+    private static SortedMap<String, String> computeModuleDigests(MessageDigest md, Manifest manifest,
+        SortedMap<String, String> entryDigests) {
+        SortedMap<String, String> moduleDigests = new TreeMap<>();
+        if (manifest == null) {
+            return moduleDigests;
+        }
+        Map<String, SortedMap<String, String>> moduleEntryDigests = new TreeMap<>();
+        for (Map.Entry<String, Attributes> manifestEntry : manifest.getEntries()
+            .entrySet()) {
+            String moduleNames = manifestEntry.getValue()
+                .getValue(MTA_MODULE_ATTRIBUTE);
+            SortedMap<String, String> entries = getEntryDigests(entryDigests, manifestEntry.getKey());
+            if (moduleNames == null || entries.isEmpty()) {
+                continue;
+            }
+            for (String moduleName : moduleNames.split(",")) {
+                moduleEntryDigests.computeIfAbsent(moduleName.trim(), name -> new TreeMap<>())
+                    .putAll(entries);
+            }
+        }
+        for (Map.Entry<String, SortedMap<String, String>> module : moduleEntryDigests.entrySet()) {
+            moduleDigests.put(module.getKey(), combineDigests(md, module.getValue()));
+        }
+        return moduleDigests;
+    }
+
+    // The path of a module in the manifest is either the name of a file or the name of a directory, in which case all entries under it
+    // belong to the module.
+    private static SortedMap<String, String> getEntryDigests(SortedMap<String, String> entryDigests, String path) {
+        SortedMap<String, String> result = new TreeMap<>();
+        String directoryPath = path.endsWith("/") ? path : path + "/";
+        if (entryDigests.containsKey(path)) {
+            result.put(path, entryDigests.get(path));
+        }
+        result.putAll(entryDigests.subMap(directoryPath, directoryPath + Character.MAX_VALUE));
+        return result;
+    }
+
+    private static String combineDigests(MessageDigest md, SortedMap<String, String> digests) {
+        for (Map.Entry<String, String> digest : digests.entrySet()) {
+            md.update(digest.getKey()
+                .getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(DatatypeConverter.parseHexBinary(digest.getValue()));
+        }
+        return DatatypeConverter.printHexBinary(md.digest());
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public SortedMap<String, String> getEntryDigests() {
+        return entryDigests;
+    }
+
+    public String getEntryDigest(String entryName) {
+        return entryDigests.get(entryName);
+    }
+
+    public SortedMap<String, String> getModuleDigests() {
+        return moduleDigests;
+    }
+
+    public String getModuleDigest(String moduleName) {
+        return moduleDigests.get(moduleName);
+    }
+
+    public DigestDiff diffEntries(ArchiveDigestTree previousTree) {
+        validateAlgorithm(previousTree);
+        return new DigestDiff(previousTree.getEntryDigests(), entryDigests);
+    }
+
+    public DigestDiff diffModules(ArchiveDigestTree previousTree) {
+        validateAlgorithm(previousTree);
+        return new DigestDiff(previousTree.getModuleDigests(), moduleDigests);
+    }
+
+    private void validateAlgorithm(ArchiveDigestTree previousTree) {
+        if (!algorithm.equals(previousTree.getAlgorithm())) {
+            throw new SLException(Messages.CANNOT_COMPARE_DIGESTS_COMPUTED_WITH_DIFFERENT_ALGORITHMS, previousTree.getAlgorithm(),
+                algorithm);
+        }
+    }
+
+}
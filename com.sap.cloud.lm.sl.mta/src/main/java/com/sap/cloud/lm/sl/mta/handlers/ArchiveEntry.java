@@ -0,0 +1,32 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.util.zip.ZipEntry;
+
+public class ArchiveEntry extends ZipEntry {
+
+    private final long localHeaderOffset;
+    private final int compressionMethod;
+
+    public ArchiveEntry(String name, long localHeaderOffset, int compressionMethod) {
+        super(name);
+        this.localHeaderOffset = localHeaderOffset;
+        this.compressionMethod = compressionMethod;
+    }
+
+    public ArchiveEntry(ArchiveEntry entry) {
+        super(entry);
+        this.localHeaderOffset = entry.localHeaderOffset;
+        this.compressionMethod = entry.compressionMethod;
+    }
+
+    public long getLocalHeaderOffset() {
+        return localHeaderOffset;
+    }
+
+    // ZipEntry accepts only the STORED and DEFLATED methods, while other methods must still be reported for the entry.
+    @Override
+    public int getMethod() {
+        return compressionMethod;
+    }
+
+}
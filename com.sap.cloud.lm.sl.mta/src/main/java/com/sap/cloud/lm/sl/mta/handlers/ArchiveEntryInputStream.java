@@ -0,0 +1,55 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.io.input.CountingInputStream;
+
+import com.sap.cloud.lm.sl.common.ContentException;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+
+/**
+ * Exposes the extracted content of a single archive entry and fails as soon as the bytes read from it exceed the configured limits. This
+ * does not rely on the sizes declared in the archive, which may be missing or forged.
+ */
+class ArchiveEntryInputStream extends CountingInputStream {
+
+    // Small entries are not checked for their compression ratio, since it can legitimately be high for them.
+    private static final long MIN_SIZE_FOR_COMPRESSION_RATIO_CHECK = 1024 * 1024;
+
+    private final String entryName;
+    private final ArchiveSizeLimits limits;
+    private final LongSupplier compressedBytesRead;
+    private final AtomicLong archiveBytesRead;
+
+    ArchiveEntryInputStream(InputStream entryStream, String entryName, ArchiveSizeLimits limits, LongSupplier compressedBytesRead,
+        AtomicLong archiveBytesRead) {
+        super(entryStream);
+        this.entryName = entryName;
+        this.limits = limits;
+        this.compressedBytesRead = compressedBytesRead;
+        this.archiveBytesRead = archiveBytesRead;
+    }
+
+    @Override
+    protected synchronized void afterRead(int n) {
+        super.afterRead(n);
+        if (n <= 0) {
+            return;
+        }
+        long entryBytesRead = getByteCount();
+        if (entryBytesRead > limits.getMaxEntrySize()) {
+            throw new ContentException(Messages.ERROR_SIZE_OF_ENTRY_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT, entryName, limits.getMaxEntrySize());
+        }
+        if (archiveBytesRead.addAndGet(n) > limits.getMaxArchiveSize()) {
+            throw new ContentException(Messages.ERROR_SIZE_OF_ARCHIVE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT, limits.getMaxArchiveSize());
+        }
+        if (entryBytesRead >= MIN_SIZE_FOR_COMPRESSION_RATIO_CHECK
+            && entryBytesRead > limits.getMaxCompressionRatio() * compressedBytesRead.getAsLong()) {
+            throw new ContentException(Messages.ERROR_COMPRESSION_RATIO_OF_FILE_EXCEEDS_CONFIGURED_LIMIT, entryName,
+                limits.getMaxCompressionRatio());
+        }
+    }
+
+}
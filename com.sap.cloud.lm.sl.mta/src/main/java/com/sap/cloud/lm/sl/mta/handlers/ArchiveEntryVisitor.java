@@ -0,0 +1,12 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+
+@FunctionalInterface
+public interface ArchiveEntryVisitor {
+
+    void visit(ZipEntry entry, InputStream entryStream) throws IOException;
+
+}
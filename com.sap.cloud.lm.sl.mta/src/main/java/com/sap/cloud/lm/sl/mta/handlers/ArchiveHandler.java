@@ -1,48 +1,155 @@
 package com.sap.cloud.lm.sl.mta.handlers;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.input.CountingInputStream;
 
 import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.common.SLException;
+import com.sap.cloud.lm.sl.common.util.ConcurrentUtil;
 import com.sap.cloud.lm.sl.mta.message.Messages;
 
 public class ArchiveHandler {
 
     public static final String MTA_DEPLOYMENT_DESCRIPTOR_NAME = "META-INF/mtad.yaml";
 
+    // Some virtual machines cannot allocate arrays of exactly Integer.MAX_VALUE elements.
+    private static final long MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
     public static Manifest getManifest(InputStream archiveStream, long maxManifestSize) throws SLException {
-        try (InputStream manifestStream = getInputStream(archiveStream, JarFile.MANIFEST_NAME, maxManifestSize)) {
-            return new Manifest(manifestStream);
+        return readManifest(getLimitedInputStream(archiveStream, JarFile.MANIFEST_NAME, maxManifestSize));
+    }
+
+    public static Manifest getManifest(ArchiveReader archiveReader, long maxManifestSize) throws SLException {
+        return readManifest(getInputStream(archiveReader, JarFile.MANIFEST_NAME, maxManifestSize));
+    }
+
+    private static Manifest readManifest(InputStream manifestStream) {
+        try (InputStream is = manifestStream) {
+            return new Manifest(is);
         } catch (IOException e) {
             throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_ARCHIVE_MANIFEST);
         }
     }
 
     public static String getDescriptor(InputStream archiveStream, long maxMtaDescriptorSize) throws SLException {
-        try (InputStream descriptorStream = getInputStream(archiveStream, MTA_DEPLOYMENT_DESCRIPTOR_NAME, maxMtaDescriptorSize)) {
-            return IOUtils.toString(descriptorStream, StandardCharsets.UTF_8);
+        return readDescriptor(getLimitedInputStream(archiveStream, MTA_DEPLOYMENT_DESCRIPTOR_NAME, maxMtaDescriptorSize));
+    }
+
+    public static String getDescriptor(ArchiveReader archiveReader, long maxMtaDescriptorSize) throws SLException {
+        return readDescriptor(getInputStream(archiveReader, MTA_DEPLOYMENT_DESCRIPTOR_NAME, maxMtaDescriptorSize));
+    }
+
+    private static String readDescriptor(InputStream descriptorStream) {
+        try (InputStream is = descriptorStream) {
+            return IOUtils.toString(is, StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT);
         }
     }
 
     public static byte[] getFileContent(InputStream archiveStream, String fileName, long maxMtaFileSize) throws SLException {
-        try (InputStream moduleStream = getInputStream(archiveStream, fileName, maxMtaFileSize)) {
-            return IOUtils.toByteArray(moduleStream);
+        return getFileContent(archiveStream, fileName, new ArchiveSizeLimits(maxMtaFileSize));
+    }
+
+    public static byte[] getFileContent(InputStream archiveStream, String fileName, ArchiveSizeLimits limits) throws SLException {
+        return readFileContent(getLimitedInputStream(archiveStream, fileName, limits), fileName);
+    }
+
+    public static byte[] getFileContent(ArchiveReader archiveReader, String fileName, long maxMtaFileSize) throws SLException {
+        return getFileContent(archiveReader, fileName, new ArchiveSizeLimits(maxMtaFileSize));
+    }
+
+    public static byte[] getFileContent(ArchiveReader archiveReader, String fileName, ArchiveSizeLimits limits) throws SLException {
+        return readFileContent(getInputStream(archiveReader, fileName, limits), fileName);
+    }
+
+    private static byte[] readFileContent(InputStream fileStream, String fileName) {
+        try (InputStream is = fileStream) {
+            return IOUtils.toByteArray(is);
         } catch (IOException e) {
             throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT, fileName);
         }
     }
 
+    public static ByteBuffer getFileContentBuffer(ArchiveReader archiveReader, String fileName, long maxMtaFileSize) throws SLException {
+        return getFileContentBuffer(archiveReader, fileName, new ArchiveSizeLimits(maxMtaFileSize));
+    }
+
+    /**
+     * Returns the content of an archive entry. Stored entries of archive files are memory-mapped instead of being copied to the heap.
+     *
+     * @throws ContentException if the entry is larger than a buffer can be
+     */
+    public static ByteBuffer getFileContentBuffer(ArchiveReader archiveReader, String fileName, ArchiveSizeLimits limits)
+        throws SLException {
+        ArchiveEntry entry = getEntry(archiveReader, fileName, limits);
+        if (entry.getSize() > MAX_BUFFER_SIZE) {
+            throw new ContentException(Messages.ARCHIVE_ENTRY_TOO_LARGE_FOR_BUFFER, fileName, entry.getSize());
+        }
+        if (!archiveReader.isMappable(entry)) {
+            return ByteBuffer.wrap(readFileContent(getInputStream(archiveReader, entry, limits), fileName));
+        }
+        try {
+            return archiveReader.map(entry);
+        } catch (IOException e) {
+            throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT, fileName);
+        }
+    }
+
+    public static long transferFileContent(ArchiveReader archiveReader, String fileName, long maxMtaFileSize, WritableByteChannel target)
+        throws SLException {
+        return transferFileContent(archiveReader, fileName, new ArchiveSizeLimits(maxMtaFileSize), target);
+    }
+
+    public static long transferFileContent(ArchiveReader archiveReader, String fileName, ArchiveSizeLimits limits,
+        WritableByteChannel target) throws SLException {
+        ArchiveEntry entry = getEntry(archiveReader, fileName, limits);
+        try {
+            if (archiveReader.isTransferable(entry)) {
+                return archiveReader.transferTo(entry, target);
+            }
+            try (InputStream entryStream = getInputStream(archiveReader, entry, limits)) {
+                return IOUtils.copyLarge(entryStream, Channels.newOutputStream(target));
+            }
+        } catch (IOException e) {
+            throw new SLException(e, Messages.ERROR_RETRIEVING_MTA_MODULE_CONTENT, fileName);
+        }
+    }
+
+    /**
+     * Returns the content of an archive entry, which fails as soon as the bytes read from it exceed the given size.
+     *
+     * @deprecated use {@link #getFileContent(InputStream, String, ArchiveSizeLimits)} or
+     *             {@link #visitEntries(InputStream, Predicate, ArchiveSizeLimits, ArchiveEntryVisitor)}, which also limit the size of the
+     *             whole archive and the compression ratio of its entries
+     */
+    @Deprecated
     public static InputStream getInputStream(InputStream is, String entryName, long maxEntrySize) {
+        return getLimitedInputStream(is, entryName, maxEntrySize);
+    }
+
+    private static ZipInputStream getZipEntryInputStream(InputStream is, String entryName, long maxEntrySize) {
         try {
             ZipInputStream zis = new ZipInputStream(is);
             for (ZipEntry e; (e = zis.getNextEntry()) != null;) {
@@ -58,6 +165,197 @@ public class ArchiveHandler {
         }
     }
 
+    private static InputStream getLimitedInputStream(InputStream is, String entryName, long maxEntrySize) {
+        return getLimitedInputStream(is, entryName, new ArchiveSizeLimits(maxEntrySize));
+    }
+
+    private static InputStream getLimitedInputStream(InputStream is, String entryName, ArchiveSizeLimits limits) {
+        CountingInputStream countingArchiveStream = new CountingInputStream(is);
+        InputStream entryStream = getZipEntryInputStream(countingArchiveStream, entryName, limits.getMaxEntrySize());
+        long entryStart = countingArchiveStream.getByteCount();
+        return new ArchiveEntryInputStream(entryStream, entryName, limits, () -> countingArchiveStream.getByteCount() - entryStart,
+            new AtomicLong());
+    }
+
+    public static InputStream getInputStream(ArchiveReader archiveReader, String entryName, long maxEntrySize) {
+        return getInputStream(archiveReader, entryName, new ArchiveSizeLimits(maxEntrySize));
+    }
+
+    public static InputStream getInputStream(ArchiveReader archiveReader, String entryName, ArchiveSizeLimits limits) {
+        return getInputStream(archiveReader, getEntry(archiveReader, entryName, limits), limits);
+    }
+
+    private static InputStream getInputStream(ArchiveReader archiveReader, ArchiveEntry entry, ArchiveSizeLimits limits) {
+        try {
+            return getLimitedInputStream(archiveReader, entry, limits, new AtomicLong());
+        } catch (IOException e) {
+            throw new SLException(e, Messages.ERROR_RETRIEVING_ARCHIVE_ENTRY, entry.getName());
+        }
+    }
+
+    /**
+     * The compression ratio is checked against the compressed bytes actually read from the archive, since the compressed size declared in
+     * the central directory may be forged.
+     */
+    private static InputStream getLimitedInputStream(ArchiveReader archiveReader, ArchiveEntry entry, ArchiveSizeLimits limits,
+        AtomicLong archiveBytesRead) throws IOException {
+        CountingInputStream compressedStream = new CountingInputStream(archiveReader.getCompressedInputStream(entry));
+        return new ArchiveEntryInputStream(archiveReader.getInputStream(entry, compressedStream), entry.getName(), limits,
+            compressedStream::getByteCount, archiveBytesRead);
+    }
+
+    private static ArchiveEntry getEntry(ArchiveReader archiveReader, String entryName, ArchiveSizeLimits limits) {
+        ArchiveEntry entry = archiveReader.getEntry(entryName);
+        if (entry == null) {
+            throw new ContentException(Messages.CANNOT_FIND_ARCHIVE_ENTRY, entryName);
+        }
+        validateZipEntrySize(entry, limits.getMaxEntrySize());
+        // Stored entries may be mapped or transferred as a whole, without being counted while they are read.
+        if (entry.getSize() > limits.getMaxArchiveSize()) {
+            throw new ContentException(Messages.ERROR_SIZE_OF_ARCHIVE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT, limits.getMaxArchiveSize());
+        }
+        return entry;
+    }
+
+    public static void visitEntries(InputStream archiveStream, Predicate<String> entryNameFilter, long maxEntrySize,
+        ArchiveEntryVisitor visitor) throws SLException {
+        visitEntries(archiveStream, entryNameFilter, new ArchiveSizeLimits(maxEntrySize), visitor);
+    }
+
+    public static void visitEntries(InputStream archiveStream, Predicate<String> entryNameFilter, ArchiveSizeLimits limits,
+        ArchiveEntryVisitor visitor) throws SLException {
+        CountingInputStream countingArchiveStream = new CountingInputStream(archiveStream);
+        AtomicLong archiveBytesRead = new AtomicLong();
+        try (ZipInputStream zis = new ZipInputStream(countingArchiveStream)) {
+            for (ZipEntry e; (e = zis.getNextEntry()) != null;) {
+                if (entryNameFilter.test(e.getName())) {
+                    visitEntry(zis, countingArchiveStream, e, limits, archiveBytesRead, visitor);
+                }
+            }
+            readRemainingContent(countingArchiveStream);
+        } catch (IOException e) {
+            throw new SLException(e, Messages.ERROR_READING_ARCHIVE_ENTRIES);
+        }
+    }
+
+    /**
+     * Visits the entries accepted by the filter concurrently, by inflating each of them in a separate task of the given executor. The
+     * visitor must therefore be thread-safe.
+     */
+    public static void visitEntries(ArchiveReader archiveReader, Predicate<String> entryNameFilter, long maxEntrySize,
+        ArchiveEntryVisitor visitor, ExecutorService executor) throws SLException {
+        visitEntries(archiveReader, entryNameFilter, new ArchiveSizeLimits(maxEntrySize), visitor, executor);
+    }
+
+    public static void visitEntries(ArchiveReader archiveReader, Predicate<String> entryNameFilter, ArchiveSizeLimits limits,
+        ArchiveEntryVisitor visitor, ExecutorService executor) throws SLException {
+        List<ArchiveEntry> entries = archiveReader.getEntries()
+            .stream()
+            .filter(entry -> entryNameFilter.test(entry.getName()))
+            .collect(Collectors.toList());
+        entries.forEach(entry -> validateZipEntrySize(entry, limits.getMaxEntrySize()));
+        AtomicLong archiveBytesRead = new AtomicLong();
+        AtomicBoolean isCancelled = new AtomicBoolean();
+        List<Future<Void>> tasks = entries.stream()
+            .map(entry -> executor.submit(() -> visitEntry(archiveReader, entry, limits, archiveBytesRead, visitor, isCancelled)))
+            .collect(Collectors.toList());
+        // All tasks are waited for, so that none of them is still reading the archive or visiting an entry when a failure is reported. They
+        // are not interrupted, since an interrupt during a read closes the channel of the archive reader for all of them.
+        ConcurrentUtil.waitForAll(tasks, isCancelled, Messages.ERROR_READING_ARCHIVE_ENTRIES);
+    }
+
+    private static Void visitEntry(ArchiveReader archiveReader, ArchiveEntry entry, ArchiveSizeLimits limits, AtomicLong archiveBytesRead,
+        ArchiveEntryVisitor visitor, AtomicBoolean isCancelled) throws IOException {
+        if (isCancelled.get()) {
+            return null;
+        }
+        try (InputStream entryStream = getLimitedInputStream(archiveReader, entry, limits, archiveBytesRead)) {
+            visitor.visit(entry, entryStream);
+        }
+        return null;
+    }
+
+    /**
+     * Visits the manifest, the deployment descriptor and the module entries listed in the manifest in a single pass over the archive. The
+     * manifest has to precede all other files in the archive, as is the case for archives built with the jar tool, since it is not known
+     * whether they are module entries before the manifest is read.
+     *
+     * @throws ContentException if a file other than the deployment descriptor precedes the manifest
+     */
+    public static void visitMtaEntries(InputStream archiveStream, long maxManifestSize, long maxEntrySize, ArchiveEntryVisitor visitor)
+        throws SLException {
+        visitMtaEntries(archiveStream, maxManifestSize, new ArchiveSizeLimits(maxEntrySize), visitor);
+    }
+
+    public static void visitMtaEntries(InputStream archiveStream, long maxManifestSize, ArchiveSizeLimits limits,
+        ArchiveEntryVisitor visitor) throws SLException {
+        CountingInputStream countingArchiveStream = new CountingInputStream(archiveStream);
+        AtomicLong archiveBytesRead = new AtomicLong();
+        try (ZipInputStream zis = new ZipInputStream(countingArchiveStream)) {
+            Set<String> manifestEntryNames = null;
+            for (ZipEntry e; (e = zis.getNextEntry()) != null;) {
+                if (manifestEntryNames == null && mustFollowManifest(e)) {
+                    throw new ContentException(Messages.ARCHIVE_ENTRY_PRECEDES_MANIFEST, e.getName());
+                }
+                if (e.getName()
+                    .equals(JarFile.MANIFEST_NAME)) {
+                    ArchiveSizeLimits manifestLimits = new ArchiveSizeLimits(maxManifestSize, limits.getMaxArchiveSize(),
+                        limits.getMaxCompressionRatio());
+                    byte[] manifestContent = IOUtils.toByteArray(getEntryStream(zis, countingArchiveStream, e, manifestLimits,
+                        archiveBytesRead));
+                    manifestEntryNames = readManifest(new ByteArrayInputStream(manifestContent)).getEntries()
+                        .keySet();
+                    visitor.visit(e, new ByteArrayInputStream(manifestContent));
+                } else if (e.getName()
+                    .equals(MTA_DEPLOYMENT_DESCRIPTOR_NAME) || isManifestEntry(manifestEntryNames, e.getName())) {
+                    visitEntry(zis, countingArchiveStream, e, limits, archiveBytesRead, visitor);
+                }
+            }
+            readRemainingContent(countingArchiveStream);
+        } catch (IOException e) {
+            throw new SLException(e, Messages.ERROR_READING_ARCHIVE_ENTRIES);
+        }
+    }
+
+    // The central directory is read as well, so that a digesting stream wrapping the archive stream covers the whole archive.
+    private static void readRemainingContent(InputStream archiveStream) throws IOException {
+        IOUtils.skip(archiveStream, Long.MAX_VALUE);
+    }
+
+    private static boolean mustFollowManifest(ZipEntry entry) {
+        String entryName = entry.getName();
+        return !entry.isDirectory() && !entryName.equals(JarFile.MANIFEST_NAME) && !entryName.equals(MTA_DEPLOYMENT_DESCRIPTOR_NAME);
+    }
+
+    private static boolean isManifestEntry(Set<String> manifestEntryNames, String entryName) {
+        if (manifestEntryNames == null) {
+            return false;
+        }
+        if (manifestEntryNames.contains(entryName)) {
+            return true;
+        }
+        for (int i = entryName.indexOf('/'); i >= 0 && i < entryName.length() - 1; i = entryName.indexOf('/', i + 1)) {
+            if (manifestEntryNames.contains(entryName.substring(0, i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void visitEntry(ZipInputStream zis, CountingInputStream countingArchiveStream, ZipEntry entry, ArchiveSizeLimits limits,
+        AtomicLong archiveBytesRead, ArchiveEntryVisitor visitor) throws IOException {
+        InputStream entryStream = getEntryStream(zis, countingArchiveStream, entry, limits, archiveBytesRead);
+        visitor.visit(entry, new CloseShieldInputStream(entryStream));
+    }
+
+    private static InputStream getEntryStream(ZipInputStream zis, CountingInputStream countingArchiveStream, ZipEntry entry,
+        ArchiveSizeLimits limits, AtomicLong archiveBytesRead) {
+        validateZipEntrySize(entry, limits.getMaxEntrySize());
+        long entryStart = countingArchiveStream.getByteCount();
+        return new ArchiveEntryInputStream(zis, entry.getName(), limits, () -> countingArchiveStream.getByteCount() - entryStart,
+            archiveBytesRead);
+    }
+
     private static void validateZipEntrySize(ZipEntry zipEntry, long maxEntrySize) {
         if (zipEntry.getSize() > maxEntrySize) {
             throw new ContentException(Messages.ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT, zipEntry.getSize(),
@@ -0,0 +1,88 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+
+/**
+ * The parsed metadata of an archive. Since the metadata may be shared between deployments, copies of the manifest, the deployment
+ * descriptor and the archive entries are returned to callers.
+ */
+public class ArchiveMetadata {
+
+    private static final int ESTIMATED_ENTRY_OVERHEAD = 128;
+    // Accounts for both the descriptor content and the model parsed from it.
+    private static final int ESTIMATED_DESCRIPTOR_BYTES_PER_CHARACTER = 8;
+
+    private final String digest;
+    private final byte[] manifestContent;
+    private final Manifest manifest;
+    private final String descriptorContent;
+    private final DeploymentDescriptor deploymentDescriptor;
+    private final Map<String, ArchiveEntry> entries;
+
+    public ArchiveMetadata(String digest, byte[] manifestContent, Manifest manifest, String descriptorContent,
+        DeploymentDescriptor deploymentDescriptor, Collection<ArchiveEntry> entries) {
+        this.digest = digest;
+        this.manifestContent = manifestContent;
+        this.manifest = manifest;
+        this.descriptorContent = descriptorContent;
+        this.deploymentDescriptor = deploymentDescriptor;
+        this.entries = Collections.unmodifiableMap(indexByName(entries));
+    }
+
+    private static Map<String, ArchiveEntry> indexByName(Collection<ArchiveEntry> entries) {
+        Map<String, ArchiveEntry> result = new LinkedHashMap<>();
+        for (ArchiveEntry entry : entries) {
+            result.put(entry.getName(), new ArchiveEntry(entry));
+        }
+        return result;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public Manifest getManifest() {
+        return new Manifest(manifest);
+    }
+
+    public DeploymentDescriptor getDeploymentDescriptor() {
+        return DeploymentDescriptor.copyOf(deploymentDescriptor);
+    }
+
+    public List<ArchiveEntry> getEntries() {
+        return entries.values()
+            .stream()
+            .map(ArchiveEntry::new)
+            .collect(Collectors.toList());
+    }
+
+    public ArchiveEntry getEntry(String entryName) {
+        ArchiveEntry entry = entries.get(entryName);
+        return entry == null ? null : new ArchiveEntry(entry);
+    }
+
+    byte[] getManifestContent() {
+        return manifestContent;
+    }
+
+    String getDescriptorContent() {
+        return descriptorContent;
+    }
+
+    long getEstimatedSize() {
+        long size = manifestContent.length + (long) ESTIMATED_DESCRIPTOR_BYTES_PER_CHARACTER * descriptorContent.length();
+        for (String entryName : entries.keySet()) {
+            size += 2L * entryName.length() + ESTIMATED_ENTRY_OVERHEAD;
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,343 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+
+import com.sap.cloud.lm.sl.common.SLException;
+import com.sap.cloud.lm.sl.common.util.DigestHelper;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+
+/**
+ * Caches the parsed metadata of archives by the digest of their content, so that retried and parallel deployments of the same archive do
+ * not extract and parse it again. The least recently used metadata is evicted once the configured count or estimated size is exceeded. If
+ * a spill directory is configured, evicted metadata is written there and is later restored without extracting the archive again. The
+ * spill directory has its own count and size limits, beyond which the least recently spilled metadata is deleted from it.
+ */
+public class ArchiveMetadataCache {
+
+    private static final String MANIFEST_FILE_NAME = "MANIFEST.MF";
+    private static final String DESCRIPTOR_FILE_NAME = "mtad.yaml";
+    private static final String ENTRIES_FILE_NAME = "entries";
+    private static final Pattern DIGEST_PATTERN = Pattern.compile("[0-9A-Fa-f]+");
+
+    private final String digestAlgorithm;
+    private final int maxCount;
+    private final long maxSize;
+    private final Path spillDirectory;
+    private final int maxSpillCount;
+    private final long maxSpillSize;
+    private final DescriptorParserFacade descriptorParserFacade = new DescriptorParserFacade();
+    private final Map<String, ArchiveMetadata> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<String, FutureTask<ArchiveMetadata>> loadingTasks = new ConcurrentHashMap<>();
+    private final Map<String, Long> spilledMetadataSizes = new LinkedHashMap<>();
+    private long size;
+    private long spillSize;
+
+    public ArchiveMetadataCache(String digestAlgorithm, int maxCount, long maxSize) {
+        this(digestAlgorithm, maxCount, maxSize, null);
+    }
+
+    public ArchiveMetadataCache(String digestAlgorithm, int maxCount, long maxSize, Path spillDirectory) {
+        this(digestAlgorithm, maxCount, maxSize, spillDirectory, maxCount, maxSize);
+    }
+
+    public ArchiveMetadataCache(String digestAlgorithm, int maxCount, long maxSize, Path spillDirectory, int maxSpillCount,
+        long maxSpillSize) {
+        this.digestAlgorithm = digestAlgorithm;
+        this.maxCount = maxCount;
+        this.maxSize = maxSize;
+        this.spillDirectory = spillDirectory;
+        this.maxSpillCount = maxSpillCount;
+        this.maxSpillSize = maxSpillSize;
+        if (spillDirectory != null) {
+            indexSpilledMetadata();
+        }
+    }
+
+    public ArchiveMetadata get(Path archive, long maxManifestSize, long maxMtaDescriptorSize) throws SLException {
+        return get(archive, computeDigest(archive), maxManifestSize, maxMtaDescriptorSize);
+    }
+
+    /**
+     * @param digest the digest of the archive, computed with the digest algorithm of the cache
+     */
+    public ArchiveMetadata get(Path archive, String digest, long maxManifestSize, long maxMtaDescriptorSize) throws SLException {
+        ArchiveMetadata metadata = getCached(digest);
+        if (metadata != null) {
+            return metadata;
+        }
+        FutureTask<ArchiveMetadata> loadingTask = new FutureTask<>(() -> load(archive, digest, maxManifestSize, maxMtaDescriptorSize));
+        FutureTask<ArchiveMetadata> existingLoadingTask = loadingTasks.putIfAbsent(digest, loadingTask);
+        if (existingLoadingTask != null) {
+            return waitFor(existingLoadingTask);
+        }
+        try {
+            loadingTask.run();
+            return waitFor(loadingTask);
+        } finally {
+            loadingTasks.remove(digest, loadingTask);
+        }
+    }
+
+    public synchronized void invalidate(String digest) {
+        ArchiveMetadata metadata = cache.remove(digest);
+        if (metadata != null) {
+            size -= metadata.getEstimatedSize();
+        }
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public int spilledCount() {
+        synchronized (spilledMetadataSizes) {
+            return spilledMetadataSizes.size();
+        }
+    }
+
+    private String computeDigest(Path archive) {
+        try {
+            return DigestHelper.computeFileChecksum(archive, digestAlgorithm);
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new SLException(e, Messages.ERROR_COMPUTING_ARCHIVE_DIGEST, archive);
+        }
+    }
+
+    private synchronized ArchiveMetadata getCached(String digest) {
+        return cache.get(digest);
+    }
+
+    private ArchiveMetadata waitFor(FutureTask<ArchiveMetadata> loadingTask) {
+        try {
+            return loadingTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new SLException(e, Messages.ERROR_LOADING_ARCHIVE_METADATA);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SLException) {
+                throw (SLException) e.getCause();
+            }
+            throw new SLException(e.getCause(), Messages.ERROR_LOADING_ARCHIVE_METADATA);
+        }
+    }
+
+    private ArchiveMetadata load(Path archive, String digest, long maxManifestSize, long maxMtaDescriptorSize) throws IOException {
+        ArchiveMetadata metadata = getCached(digest);
+        if (metadata != null) {
+            return metadata;
+        }
+        metadata = restore(digest);
+        if (metadata == null) {
+            metadata = extract(archive, digest, maxManifestSize, maxMtaDescriptorSize);
+        }
+        put(metadata);
+        return metadata;
+    }
+
+    private ArchiveMetadata extract(Path archive, String digest, long maxManifestSize, long maxMtaDescriptorSize) throws IOException {
+        try (ArchiveReader archiveReader = new ArchiveReader(archive)) {
+            byte[] manifestContent = ArchiveHandler.getFileContent(archiveReader, JarFile.MANIFEST_NAME, maxManifestSize);
+            String descriptorContent = ArchiveHandler.getDescriptor(archiveReader, maxMtaDescriptorSize);
+            return createMetadata(digest, manifestContent, descriptorContent, archiveReader.getEntries());
+        }
+    }
+
+    private ArchiveMetadata createMetadata(String digest, byte[] manifestContent, String descriptorContent,
+        Collection<ArchiveEntry> entries) throws IOException {
+        Manifest manifest = new Manifest(new ByteArrayInputStream(manifestContent));
+        DeploymentDescriptor deploymentDescriptor = descriptorParserFacade.parseDeploymentDescriptor(descriptorContent);
+        return new ArchiveMetadata(digest, manifestContent, manifest, descriptorContent, deploymentDescriptor, entries);
+    }
+
+    private void put(ArchiveMetadata metadata) {
+        List<ArchiveMetadata> evictedMetadata = new ArrayList<>();
+        synchronized (this) {
+            ArchiveMetadata previousMetadata = cache.put(metadata.getDigest(), metadata);
+            if (previousMetadata != null) {
+                size -= previousMetadata.getEstimatedSize();
+            }
+            size += metadata.getEstimatedSize();
+            Iterator<ArchiveMetadata> leastRecentlyUsed = cache.values()
+                .iterator();
+            while ((cache.size() > maxCount || size > maxSize) && leastRecentlyUsed.hasNext()) {
+                ArchiveMetadata eldest = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                size -= eldest.getEstimatedSize();
+                evictedMetadata.add(eldest);
+            }
+        }
+        evictedMetadata.forEach(this::spill);
+    }
+
+    private void spill(ArchiveMetadata metadata) {
+        if (!canSpill(metadata.getDigest())) {
+            return;
+        }
+        Path metadataDirectory = spillDirectory.resolve(metadata.getDigest());
+        if (Files.isDirectory(metadataDirectory)) {
+            return;
+        }
+        Path temporaryDirectory = spillDirectory.resolve(metadata.getDigest() + "." + Thread.currentThread()
+            .getId() + ".tmp");
+        try {
+            Files.createDirectories(temporaryDirectory);
+            Files.write(temporaryDirectory.resolve(MANIFEST_FILE_NAME), metadata.getManifestContent());
+            Files.write(temporaryDirectory.resolve(DESCRIPTOR_FILE_NAME), metadata.getDescriptorContent()
+                .getBytes(StandardCharsets.UTF_8));
+            writeEntries(temporaryDirectory.resolve(ENTRIES_FILE_NAME), metadata);
+            long metadataSize = FileUtils.sizeOfDirectory(temporaryDirectory.toFile());
+            Files.move(temporaryDirectory, metadataDirectory);
+            addSpilledMetadata(metadata.getDigest(), metadataSize);
+        } catch (IOException e) {
+            // The spill directory is only an optimization, so the metadata is simply extracted again if it could not be written there.
+            FileUtils.deleteQuietly(temporaryDirectory.toFile());
+        }
+    }
+
+    private void indexSpilledMetadata() {
+        List<Path> metadataDirectories;
+        try (Stream<Path> spilledFiles = Files.list(spillDirectory)) {
+            metadataDirectories = spilledFiles.filter(Files::isDirectory)
+                .sorted(Comparator.comparing(ArchiveMetadataCache::getLastModifiedTime))
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            return;
+        }
+        for (Path metadataDirectory : metadataDirectories) {
+            String digest = metadataDirectory.getFileName()
+                .toString();
+            if (canSpill(digest)) {
+                addSpilledMetadata(digest, FileUtils.sizeOfDirectory(metadataDirectory.toFile()));
+            } else {
+                // Leftovers of metadata, which could not be moved to its final location.
+                FileUtils.deleteQuietly(metadataDirectory.toFile());
+            }
+        }
+    }
+
+    private static long getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file)
+                .toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void addSpilledMetadata(String digest, long metadataSize) {
+        synchronized (spilledMetadataSizes) {
+            spilledMetadataSizes.put(digest, metadataSize);
+            spillSize += metadataSize;
+            Iterator<Map.Entry<String, Long>> leastRecentlySpilled = spilledMetadataSizes.entrySet()
+                .iterator();
+            while ((spilledMetadataSizes.size() > maxSpillCount || spillSize > maxSpillSize) && leastRecentlySpilled.hasNext()) {
+                Map.Entry<String, Long> eldest = leastRecentlySpilled.next();
+                leastRecentlySpilled.remove();
+                spillSize -= eldest.getValue();
+                FileUtils.deleteQuietly(spillDirectory.resolve(eldest.getKey())
+                    .toFile());
+            }
+        }
+    }
+
+    private void removeSpilledMetadata(String digest) {
+        synchronized (spilledMetadataSizes) {
+            Long metadataSize = spilledMetadataSizes.remove(digest);
+            if (metadataSize != null) {
+                spillSize -= metadataSize;
+            }
+            FileUtils.deleteQuietly(spillDirectory.resolve(digest)
+                .toFile());
+        }
+    }
+
+    private void writeEntries(Path entriesFile, ArchiveMetadata metadata) throws IOException {
+        List<ArchiveEntry> entries = metadata.getEntries();
+        try (DataOutputStream entriesStream = new DataOutputStream(Files.newOutputStream(entriesFile))) {
+            entriesStream.writeInt(entries.size());
+            for (ArchiveEntry entry : entries) {
+                byte[] name = entry.getName()
+                    .getBytes(StandardCharsets.UTF_8);
+                entriesStream.writeInt(name.length);
+                entriesStream.write(name);
+                entriesStream.writeLong(entry.getLocalHeaderOffset());
+                entriesStream.writeInt(entry.getMethod());
+                entriesStream.writeLong(entry.getCrc());
+                entriesStream.writeLong(entry.getCompressedSize());
+                entriesStream.writeLong(entry.getSize());
+            }
+        }
+    }
+
+    private boolean canSpill(String digest) {
+        return spillDirectory != null && DIGEST_PATTERN.matcher(digest)
+            .matches();
+    }
+
+    private ArchiveMetadata restore(String digest) {
+        if (!canSpill(digest)) {
+            return null;
+        }
+        Path metadataDirectory = spillDirectory.resolve(digest);
+        if (!Files.isDirectory(metadataDirectory)) {
+            return null;
+        }
+        // The restored metadata is cached in memory again and is spilled anew once it is evicted.
+        try {
+            byte[] manifestContent = Files.readAllBytes(metadataDirectory.resolve(MANIFEST_FILE_NAME));
+            String descriptorContent = new String(Files.readAllBytes(metadataDirectory.resolve(DESCRIPTOR_FILE_NAME)),
+                StandardCharsets.UTF_8);
+            return createMetadata(digest, manifestContent, descriptorContent, readEntries(metadataDirectory.resolve(ENTRIES_FILE_NAME)));
+        } catch (IOException e) {
+            return null;
+        } finally {
+            removeSpilledMetadata(digest);
+        }
+    }
+
+    private List<ArchiveEntry> readEntries(Path entriesFile) throws IOException {
+        try (DataInputStream entriesStream = new DataInputStream(Files.newInputStream(entriesFile))) {
+            int entriesCount = entriesStream.readInt();
+            List<ArchiveEntry> entries = new ArrayList<>(entriesCount);
+            for (int i = 0; i < entriesCount; i++) {
+                byte[] name = new byte[entriesStream.readInt()];
+                entriesStream.readFully(name);
+                ArchiveEntry entry = new ArchiveEntry(new String(name, StandardCharsets.UTF_8), entriesStream.readLong(),
+                    entriesStream.readInt());
+                entry.setCrc(entriesStream.readLong());
+                entry.setCompressedSize(entriesStream.readLong());
+                entry.setSize(entriesStream.readLong());
+                entries.add(entry);
+            }
+            return entries;
+        }
+    }
+
+}
@@ -0,0 +1,483 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.io.IOUtils;
+
+import com.sap.cloud.lm.sl.common.ContentException;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+
+/**
+ * Reads an archive by its central directory, so that any entry can be opened directly at its local header offset without scanning the
+ * entries before it. The reader is safe for concurrent use by multiple threads.
+ */
+public class ArchiveReader implements Closeable {
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_ARCHIVE_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final SeekableByteChannel channel;
+    private final long archiveSize;
+    private final Map<String, ArchiveEntry> entries;
+
+    public ArchiveReader(Path archive) throws IOException {
+        this(FileChannel.open(archive, StandardOpenOption.READ));
+    }
+
+    public ArchiveReader(SeekableByteChannel channel) throws IOException {
+        this.channel = channel;
+        try {
+            this.archiveSize = channel.size();
+            this.entries = Collections.unmodifiableMap(readCentralDirectory());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Collection<ArchiveEntry> getEntries() {
+        return entries.values();
+    }
+
+    public ArchiveEntry getEntry(String entryName) {
+        return entries.get(entryName);
+    }
+
+    public InputStream getInputStream(ArchiveEntry entry) throws IOException {
+        return getInputStream(entry, getCompressedInputStream(entry));
+    }
+
+    /**
+     * Returns the data of an entry as it is stored in the archive, so that the bytes read from it can be counted, before they are passed to
+     * {@link #getInputStream(ArchiveEntry, InputStream)}.
+     */
+    public InputStream getCompressedInputStream(ArchiveEntry entry) throws IOException {
+        return new EntryDataInputStream(getDataOffset(entry), entry.getCompressedSize());
+    }
+
+    /**
+     * The returned stream checks the size and the CRC-32 checksum of the content against the central directory, once all of it is read.
+     */
+    public InputStream getInputStream(ArchiveEntry entry, InputStream compressedStream) {
+        if (entry.getMethod() == ZipEntry.STORED) {
+            return new EntryCheckedInputStream(compressedStream, entry);
+        }
+        if (entry.getMethod() == ZipEntry.DEFLATED) {
+            return new EntryCheckedInputStream(new EntryInflaterInputStream(compressedStream), entry);
+        }
+        throw new ContentException(Messages.UNSUPPORTED_COMPRESSION_METHOD_FOR_ARCHIVE_ENTRY, entry.getMethod(), entry.getName());
+    }
+
+    public boolean isMappable(ArchiveEntry entry) {
+        return channel instanceof FileChannel && entry.getMethod() == ZipEntry.STORED && entry.getCompressedSize() <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Maps the content of a stored entry directly from the archive file, without copying it to the heap.
+     */
+    public MappedByteBuffer map(ArchiveEntry entry) throws IOException {
+        if (!isMappable(entry)) {
+            throw new ContentException(Messages.ARCHIVE_ENTRY_CANNOT_BE_MAPPED, entry.getName());
+        }
+        return ((FileChannel) channel).map(MapMode.READ_ONLY, getStoredDataOffset(entry), entry.getCompressedSize());
+    }
+
+    /**
+     * @return whether the content of the entry is transferred directly from the archive file, with exactly the size declared for it
+     */
+    public boolean isTransferable(ArchiveEntry entry) {
+        return channel instanceof FileChannel && entry.getMethod() == ZipEntry.STORED;
+    }
+
+    /**
+     * Writes the uncompressed content of an entry to the target channel. The content of stored entries in an archive file is transferred
+     * directly from the file, while the content of deflated entries is streamed through the inflater.
+     */
+    public long transferTo(ArchiveEntry entry, WritableByteChannel target) throws IOException {
+        if (!isTransferable(entry)) {
+            try (InputStream entryStream = getInputStream(entry)) {
+                return IOUtils.copyLarge(entryStream, Channels.newOutputStream(target));
+            }
+        }
+        long position = getStoredDataOffset(entry);
+        long remaining = entry.getCompressedSize();
+        while (remaining > 0) {
+            long transferred = ((FileChannel) channel).transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                throw new EOFException();
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+        return entry.getCompressedSize();
+    }
+
+    private long getStoredDataOffset(ArchiveEntry entry) throws IOException {
+        long dataOffset = getDataOffset(entry);
+        if (entry.getCompressedSize() != entry.getSize() || dataOffset + entry.getCompressedSize() > archiveSize) {
+            throw new ContentException(Messages.INVALID_LOCAL_HEADER_FOR_ARCHIVE_ENTRY, entry.getName());
+        }
+        return dataOffset;
+    }
+
+    private long getDataOffset(ArchiveEntry entry) throws IOException {
+        ByteBuffer header = read(entry.getLocalHeaderOffset(), LOCAL_FILE_HEADER_SIZE);
+        if (header.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw new ContentException(Messages.INVALID_LOCAL_HEADER_FOR_ARCHIVE_ENTRY, entry.getName());
+        }
+        int nameLength = getUnsignedShort(header, 26);
+        int extraFieldLength = getUnsignedShort(header, 28);
+        return entry.getLocalHeaderOffset() + LOCAL_FILE_HEADER_SIZE + nameLength + extraFieldLength;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private Map<String, ArchiveEntry> readCentralDirectory() throws IOException {
+        long endOfCentralDirectoryOffset = findEndOfCentralDirectory();
+        ByteBuffer endOfCentralDirectory = read(endOfCentralDirectoryOffset, END_OF_CENTRAL_DIRECTORY_SIZE);
+        long entriesCount = getUnsignedShort(endOfCentralDirectory, 10);
+        long centralDirectorySize = getUnsignedInt(endOfCentralDirectory, 12);
+        long centralDirectoryOffset = getUnsignedInt(endOfCentralDirectory, 16);
+
+        long zip64LocatorOffset = endOfCentralDirectoryOffset - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+        if (zip64LocatorOffset >= 0) {
+            ByteBuffer zip64Locator = read(zip64LocatorOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE);
+            if (zip64Locator.getInt(0) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+                long zip64EndOfCentralDirectoryOffset = zip64Locator.getLong(8);
+                if (zip64EndOfCentralDirectoryOffset < 0
+                    || zip64EndOfCentralDirectoryOffset + ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE > zip64LocatorOffset) {
+                    throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+                }
+                ByteBuffer zip64EndOfCentralDirectory = read(zip64EndOfCentralDirectoryOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE);
+                if (zip64EndOfCentralDirectory.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                    throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+                }
+                entriesCount = zip64EndOfCentralDirectory.getLong(32);
+                centralDirectorySize = zip64EndOfCentralDirectory.getLong(40);
+                centralDirectoryOffset = zip64EndOfCentralDirectory.getLong(48);
+            }
+        }
+        if (entriesCount < 0 || centralDirectorySize < 0 || centralDirectoryOffset < 0 || centralDirectorySize > Integer.MAX_VALUE
+            || centralDirectoryOffset + centralDirectorySize > archiveSize) {
+            throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+        }
+        return readEntries(read(centralDirectoryOffset, (int) centralDirectorySize), entriesCount);
+    }
+
+    private long findEndOfCentralDirectory() throws IOException {
+        int tailSize = (int) Math.min(archiveSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_ARCHIVE_COMMENT_SIZE);
+        long tailOffset = archiveSize - tailSize;
+        ByteBuffer tail = read(tailOffset, tailSize);
+        for (int position = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+                && position + END_OF_CENTRAL_DIRECTORY_SIZE + getUnsignedShort(tail, position + 20) == tailSize) {
+                return tailOffset + position;
+            }
+        }
+        throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+    }
+
+    private Map<String, ArchiveEntry> readEntries(ByteBuffer centralDirectory, long entriesCount) {
+        Map<String, ArchiveEntry> result = new LinkedHashMap<>();
+        int position = 0;
+        for (long i = 0; i < entriesCount; i++) {
+            if (position + CENTRAL_DIRECTORY_HEADER_SIZE > centralDirectory.limit()
+                || centralDirectory.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+            }
+            ArchiveEntry entry = readEntry(centralDirectory, position);
+            result.putIfAbsent(entry.getName(), entry);
+            position += CENTRAL_DIRECTORY_HEADER_SIZE + getUnsignedShort(centralDirectory, position + 28)
+                + getUnsignedShort(centralDirectory, position + 30) + getUnsignedShort(centralDirectory, position + 32);
+        }
+        return result;
+    }
+
+    private ArchiveEntry readEntry(ByteBuffer centralDirectory, int position) {
+        int method = getUnsignedShort(centralDirectory, position + 10);
+        long crc = getUnsignedInt(centralDirectory, position + 16);
+        long compressedSize = getUnsignedInt(centralDirectory, position + 20);
+        long size = getUnsignedInt(centralDirectory, position + 24);
+        int nameLength = getUnsignedShort(centralDirectory, position + 28);
+        int extraFieldLength = getUnsignedShort(centralDirectory, position + 30);
+        long localHeaderOffset = getUnsignedInt(centralDirectory, position + 42);
+        int namePosition = position + CENTRAL_DIRECTORY_HEADER_SIZE;
+        if (namePosition + nameLength + extraFieldLength > centralDirectory.limit()) {
+            throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+        }
+
+        int extraFieldPosition = namePosition + nameLength;
+        int extraFieldEnd = extraFieldPosition + extraFieldLength;
+        while (extraFieldPosition + 4 <= extraFieldEnd) {
+            int headerId = getUnsignedShort(centralDirectory, extraFieldPosition);
+            int dataSize = getUnsignedShort(centralDirectory, extraFieldPosition + 2);
+            int dataPosition = extraFieldPosition + 4;
+            int dataEnd = dataPosition + dataSize;
+            if (dataEnd > extraFieldEnd) {
+                throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+            }
+            if (headerId == ZIP64_EXTRA_FIELD_ID) {
+                if (size == ZIP64_MAGIC_VALUE) {
+                    size = getZip64Value(centralDirectory, dataPosition, dataEnd);
+                    dataPosition += 8;
+                }
+                if (compressedSize == ZIP64_MAGIC_VALUE) {
+                    compressedSize = getZip64Value(centralDirectory, dataPosition, dataEnd);
+                    dataPosition += 8;
+                }
+                if (localHeaderOffset == ZIP64_MAGIC_VALUE) {
+                    localHeaderOffset = getZip64Value(centralDirectory, dataPosition, dataEnd);
+                }
+                break;
+            }
+            extraFieldPosition = dataEnd;
+        }
+
+        byte[] name = new byte[nameLength];
+        ((ByteBuffer) centralDirectory.duplicate()
+            .position(namePosition)).get(name);
+        ArchiveEntry entry = new ArchiveEntry(new String(name, StandardCharsets.UTF_8), localHeaderOffset, method);
+        entry.setCrc(crc);
+        entry.setCompressedSize(compressedSize);
+        entry.setSize(size);
+        return entry;
+    }
+
+    /**
+     * Reads a value of the Zip64 extra field, which may be truncated in a malformed archive, so its end has to be checked before each read.
+     */
+    private static long getZip64Value(ByteBuffer centralDirectory, int position, int dataEnd) {
+        if (position + 8 > dataEnd) {
+            throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+        }
+        long value = centralDirectory.getLong(position);
+        if (value < 0) {
+            throw new ContentException(Messages.INVALID_ARCHIVE_CENTRAL_DIRECTORY);
+        }
+        return value;
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        readFully(buffer, position);
+        buffer.flip();
+        return buffer;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            position += read;
+        }
+    }
+
+    private int read(ByteBuffer buffer, long position) throws IOException {
+        if (channel instanceof FileChannel) {
+            return ((FileChannel) channel).read(buffer, position);
+        }
+        synchronized (channel) {
+            channel.position(position);
+            return channel.read(buffer);
+        }
+    }
+
+    private static int getUnsignedShort(ByteBuffer buffer, int position) {
+        return buffer.getShort(position) & 0xFFFF;
+    }
+
+    private static long getUnsignedInt(ByteBuffer buffer, int position) {
+        return buffer.getInt(position) & 0xFFFFFFFFL;
+    }
+
+    private class EntryDataInputStream extends InputStream {
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long position;
+        private long remaining;
+
+        EntryDataInputStream(long position, long length) {
+            this.position = position;
+            this.remaining = length;
+            buffer.limit(0);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            long skipped = Math.min(Math.max(count, 0), buffer.remaining() + remaining);
+            int skippedFromBuffer = (int) Math.min(skipped, buffer.remaining());
+            buffer.position(buffer.position() + skippedFromBuffer);
+            position += skipped - skippedFromBuffer;
+            remaining -= skipped - skippedFromBuffer;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, buffer.remaining() + remaining);
+        }
+
+        private boolean fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            if (remaining == 0) {
+                return false;
+            }
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            int read = ArchiveReader.this.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            buffer.flip();
+            position += read;
+            remaining -= read;
+            return true;
+        }
+
+    }
+
+    /**
+     * Fails at the end of the content of an entry, if it is corrupted or truncated, as {@link java.util.zip.ZipInputStream} does.
+     */
+    private static class EntryCheckedInputStream extends CheckedInputStream {
+
+        private final ArchiveEntry entry;
+        private long bytesRead;
+        private boolean isChecked;
+
+        EntryCheckedInputStream(InputStream entryStream, ArchiveEntry entry) {
+            super(entryStream, new CRC32());
+            this.entry = entry;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            afterRead(b == -1 ? -1 : 1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = super.read(bytes, offset, length);
+            afterRead(count);
+            return count;
+        }
+
+        private void afterRead(int count) {
+            if (count > 0) {
+                bytesRead += count;
+                return;
+            }
+            if (count == -1 && !isChecked) {
+                isChecked = true;
+                if (bytesRead != entry.getSize()) {
+                    throw new ContentException(Messages.INVALID_SIZE_OF_ARCHIVE_ENTRY, entry.getName(), bytesRead, entry.getSize());
+                }
+                if (getChecksum().getValue() != entry.getCrc()) {
+                    throw new ContentException(Messages.INVALID_CHECKSUM_OF_ARCHIVE_ENTRY, entry.getName());
+                }
+            }
+        }
+
+    }
+
+    private static class EntryInflaterInputStream extends InflaterInputStream {
+
+        private boolean suppliedDummyByte;
+
+        EntryInflaterInputStream(InputStream dataStream) {
+            super(dataStream, new Inflater(true), BUFFER_SIZE);
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                // The inflater may need one extra byte past the end of the deflated data when no zlib header is used.
+                if (suppliedDummyByte) {
+                    throw new EOFException();
+                }
+                buf[0] = 0;
+                len = 1;
+                suppliedDummyByte = true;
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+public class ArchiveSizeLimits {
+
+    private final long maxEntrySize;
+    private final long maxArchiveSize;
+    private final double maxCompressionRatio;
+
+    public ArchiveSizeLimits(long maxEntrySize) {
+        this(maxEntrySize, Long.MAX_VALUE, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * @param maxEntrySize the max number of bytes that can be extracted from a single entry
+     * @param maxArchiveSize the max number of bytes that can be extracted from all entries of an archive together
+     * @param maxCompressionRatio the max ratio between the extracted and the compressed size of an entry
+     */
+    public ArchiveSizeLimits(long maxEntrySize, long maxArchiveSize, double maxCompressionRatio) {
+        this.maxEntrySize = maxEntrySize;
+        this.maxArchiveSize = maxArchiveSize;
+        this.maxCompressionRatio = maxCompressionRatio;
+    }
+
+    public long getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public long getMaxArchiveSize() {
+        return maxArchiveSize;
+    }
+
+    public double getMaxCompressionRatio() {
+        return maxCompressionRatio;
+    }
+
+}
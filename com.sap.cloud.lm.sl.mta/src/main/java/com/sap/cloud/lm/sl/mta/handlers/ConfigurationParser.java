@@ -16,7 +16,7 @@ public class ConfigurationParser {
     protected final SchemaValidator platformValidator;
 
     public ConfigurationParser() {
-        this(new SchemaValidator(Schemas.PLATFORM));
+        this(new SchemaValidator(Schemas.COMPILED_PLATFORM));
     }
 
     protected ConfigurationParser(SchemaValidator platformsValidator) {
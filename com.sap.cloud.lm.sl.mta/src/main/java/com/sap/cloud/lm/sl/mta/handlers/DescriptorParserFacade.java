@@ -1,10 +1,26 @@
 package com.sap.cloud.lm.sl.mta.handlers;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Map;
 
+import org.apache.commons.io.IOUtils;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.reader.UnicodeReader;
+
 import com.sap.cloud.lm.sl.common.ContentException;
+import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.common.util.YamlUtil;
+import com.sap.cloud.lm.sl.common.util.yaml.YamlScalarConstructor;
 import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorParser;
 import com.sap.cloud.lm.sl.mta.message.Messages;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
@@ -16,13 +32,22 @@ public class DescriptorParserFacade {
     private static final String SCHEMA_VERSION_KEY = "_schema-version";
 
     public DeploymentDescriptor parseDeploymentDescriptor(InputStream yaml) {
-        Map<String, Object> descriptor = YamlUtil.convertYamlToMap(yaml);
-        return parseDeploymentDescriptor(descriptor);
+        byte[] content = readContent(yaml);
+        Version schemaVersion = detectSchemaVersion(new UnicodeReader(new ByteArrayInputStream(content)));
+        if (schemaVersion == null) {
+            Map<String, Object> descriptor = YamlUtil.convertYamlToMap(new ByteArrayInputStream(content));
+            return parseDeploymentDescriptor(descriptor);
+        }
+        return getDescriptorParser(schemaVersion).parseDeploymentDescriptorYaml(new ByteArrayInputStream(content));
     }
 
     public DeploymentDescriptor parseDeploymentDescriptor(String yaml) {
-        Map<String, Object> descriptor = YamlUtil.convertYamlToMap(yaml);
-        return parseDeploymentDescriptor(descriptor);
+        Version schemaVersion = detectSchemaVersion(new StringReader(yaml));
+        if (schemaVersion == null) {
+            Map<String, Object> descriptor = YamlUtil.convertYamlToMap(yaml);
+            return parseDeploymentDescriptor(descriptor);
+        }
+        return getDescriptorParser(schemaVersion).parseDeploymentDescriptorYaml(yaml);
     }
 
     private DeploymentDescriptor parseDeploymentDescriptor(Map<String, Object> descriptor) {
@@ -34,13 +59,22 @@ public class DescriptorParserFacade {
     }
 
     public ExtensionDescriptor parseExtensionDescriptor(InputStream yaml) {
-        Map<String, Object> descriptor = YamlUtil.convertYamlToMap(yaml);
-        return parseExtensionDescriptor(descriptor);
+        byte[] content = readContent(yaml);
+        Version schemaVersion = detectSchemaVersion(new UnicodeReader(new ByteArrayInputStream(content)));
+        if (schemaVersion == null) {
+            Map<String, Object> descriptor = YamlUtil.convertYamlToMap(new ByteArrayInputStream(content));
+            return parseExtensionDescriptor(descriptor);
+        }
+        return getDescriptorParser(schemaVersion).parseExtensionDescriptorYaml(new ByteArrayInputStream(content));
     }
 
     public ExtensionDescriptor parseExtensionDescriptor(String yaml) {
-        Map<String, Object> descriptor = YamlUtil.convertYamlToMap(yaml);
-        return parseExtensionDescriptor(descriptor);
+        Version schemaVersion = detectSchemaVersion(new StringReader(yaml));
+        if (schemaVersion == null) {
+            Map<String, Object> descriptor = YamlUtil.convertYamlToMap(yaml);
+            return parseExtensionDescriptor(descriptor);
+        }
+        return getDescriptorParser(schemaVersion).parseExtensionDescriptorYaml(yaml);
     }
 
     private ExtensionDescriptor parseExtensionDescriptor(Map<String, Object> descriptor) {
@@ -51,6 +85,77 @@ public class DescriptorParserFacade {
         return parser.parseExtensionDescriptor(descriptor);
     }
 
+    private byte[] readContent(InputStream yaml) {
+        try {
+            return IOUtils.toByteArray(yaml);
+        } catch (IOException e) {
+            throw new ParsingException(e, com.sap.cloud.lm.sl.common.message.Messages.ERROR_PARSING_YAML_STREAM, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads only the events of the top-level mapping of the descriptor until the schema version is found, so that descriptors with
+     * unsupported schema versions are rejected before they are parsed.
+     *
+     * @return the schema version, or null if it could not be detected without parsing the whole descriptor, in which case the descriptor
+     *         has to be parsed in order to report the correct error
+     */
+    private Version detectSchemaVersion(Reader yaml) {
+        try {
+            Parser parser = new ParserImpl(new StreamReader(yaml));
+            if (!skip(parser, Event.ID.StreamStart) || !skip(parser, Event.ID.DocumentStart) || !skip(parser, Event.ID.MappingStart)) {
+                return null;
+            }
+            while (parser.checkEvent(Event.ID.Scalar)) {
+                ScalarEvent key = (ScalarEvent) parser.getEvent();
+                if (Tag.MERGE.equals(YamlScalarConstructor.resolveTag(key))) {
+                    return null;
+                }
+                if (SCHEMA_VERSION_KEY.equals(YamlScalarConstructor.construct(key))) {
+                    return getSchemaVersion(parser);
+                }
+                skipValue(parser);
+            }
+            if (!skip(parser, Event.ID.MappingEnd) || !skip(parser, Event.ID.DocumentEnd) || !skip(parser, Event.ID.StreamEnd)) {
+                return null;
+            }
+        } catch (YAMLException e) {
+            return null;
+        }
+        throw new ContentException(Messages.MISSING_REQUIRED_KEY, SCHEMA_VERSION_KEY);
+    }
+
+    private boolean skip(Parser parser, Event.ID eventId) {
+        if (!parser.checkEvent(eventId)) {
+            return false;
+        }
+        parser.getEvent();
+        return true;
+    }
+
+    private void skipValue(Parser parser) {
+        int depth = 0;
+        do {
+            Event event = parser.getEvent();
+            if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart)) {
+                depth++;
+            } else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    private Version getSchemaVersion(Parser parser) {
+        if (!parser.checkEvent(Event.ID.Scalar)) {
+            return null;
+        }
+        Object schemaVersion = YamlScalarConstructor.construct((ScalarEvent) parser.getEvent());
+        if (schemaVersion == null) {
+            return null;
+        }
+        return Version.parseVersion(schemaVersion.toString());
+    }
+
     private DescriptorParser getDescriptorParser(Map<String, Object> descriptor) {
         Version schemaVersion = extractSchemaVersion(descriptor);
         return getDescriptorParser(schemaVersion);
@@ -0,0 +1,57 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The difference between two sets of digests, for example those of the modules of two versions of an archive.
+ */
+public class DigestDiff {
+
+    private final SortedSet<String> added = new TreeSet<>();
+    private final SortedSet<String> removed = new TreeSet<>();
+    private final SortedSet<String> changed = new TreeSet<>();
+    private final SortedSet<String> unchanged = new TreeSet<>();
+
+    DigestDiff(Map<String, String> previousDigests, Map<String, String> digests) {
+        for (Map.Entry<String, String> digest : digests.entrySet()) {
+            String previousDigest = previousDigests.get(digest.getKey());
+            if (previousDigest == null) {
+                added.add(digest.getKey());
+            } else if (previousDigest.equals(digest.getValue())) {
+                unchanged.add(digest.getKey());
+            } else {
+                changed.add(digest.getKey());
+            }
+        }
+        for (String name : previousDigests.keySet()) {
+            if (!digests.containsKey(name)) {
+                removed.add(name);
+            }
+        }
+    }
+
+    public Set<String> getAdded() {
+        return Collections.unmodifiableSet(added);
+    }
+
+    public Set<String> getRemoved() {
+        return Collections.unmodifiableSet(removed);
+    }
+
+    public Set<String> getChanged() {
+        return Collections.unmodifiableSet(changed);
+    }
+
+    public Set<String> getUnchanged() {
+        return Collections.unmodifiableSet(unchanged);
+    }
+
+    public boolean hasChanges() {
+        return !added.isEmpty() || !removed.isEmpty() || !changed.isEmpty();
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.model.Resource;
+
+/**
+ * An immutable index of the modules and resources of a deployment descriptor by their names, and of the modules by the names of the
+ * dependencies they provide. The index is out of date once the modules, the resources or the provided dependencies of a module are
+ * replaced through their setters, see {@link DeploymentDescriptor#getModificationCount()}.
+ */
+public final class DeploymentDescriptorIndex {
+
+    private final DeploymentDescriptor descriptor;
+    private final int modificationCount;
+    private final NamedElementIndex<Module> modules;
+    private final NamedElementIndex<Module> providers;
+    private final NamedElementIndex<Resource> resources;
+
+    public DeploymentDescriptorIndex(DeploymentDescriptor descriptor) {
+        this.descriptor = descriptor;
+        this.modificationCount = descriptor.getModificationCount();
+        this.modules = NamedElementIndex.byName(descriptor.getModules());
+        this.providers = NamedElementIndex.byChildNames(descriptor.getModules(), Module::getProvidedDependencies);
+        this.resources = NamedElementIndex.byName(descriptor.getResources());
+    }
+
+    public boolean isUpToDate(DeploymentDescriptor descriptor) {
+        return this.descriptor == descriptor && modificationCount == descriptor.getModificationCount();
+    }
+
+    public Module getModule(String moduleName) {
+        return modules.get(moduleName);
+    }
+
+    /**
+     * @return the first module that provides a dependency with the specified name
+     */
+    public Module getProvider(String providedDependencyName) {
+        return providers.get(providedDependencyName);
+    }
+
+    public Resource getResource(String resourceName) {
+        return resources.get(resourceName);
+    }
+
+}
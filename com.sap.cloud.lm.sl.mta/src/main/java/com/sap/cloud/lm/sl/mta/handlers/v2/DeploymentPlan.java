@@ -0,0 +1,33 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import java.util.List;
+
+import com.sap.cloud.lm.sl.mta.model.Module;
+
+/**
+ * The modules of a descriptor, grouped in waves, which have to be deployed one after another. The modules of the same wave do not depend
+ * on each other and can be deployed in parallel.
+ */
+public class DeploymentPlan {
+
+    private final List<List<Module>> waves;
+    private final int criticalPathLength;
+
+    public DeploymentPlan(List<List<Module>> waves, int criticalPathLength) {
+        this.waves = waves;
+        this.criticalPathLength = criticalPathLength;
+    }
+
+    public List<List<Module>> getWaves() {
+        return waves;
+    }
+
+    /**
+     * @return the number of modules in the longest chain of dependencies, which is the minimum number of waves, if there is no limit of
+     *         the modules that can be deployed in parallel
+     */
+    public int getCriticalPathLength() {
+        return criticalPathLength;
+    }
+
+}
@@ -21,23 +21,19 @@ import com.sap.cloud.lm.sl.mta.model.ResourceType;
 public class DescriptorHandler {
 
     public RequiredDependency findRequiredDependency(DeploymentDescriptor descriptor, String moduleName, String dependencyName) {
-        return descriptor.getModules()
-            .stream()
-            .filter(module -> module.getName()
-                .equals(moduleName))
-            .findFirst()
-            .map(module -> findRequiredDependency(module, dependencyName))
-            .orElse(null);
+        Module module = findModule(descriptor, moduleName);
+        if (module == null) {
+            return null;
+        }
+        return findRequiredDependency(module, dependencyName);
     }
 
     public ExtensionRequiredDependency findRequiredDependency(ExtensionDescriptor descriptor, String moduleName, String dependencyName) {
-        return descriptor.getModules()
-            .stream()
-            .filter(module -> module.getName()
-                .equals(moduleName))
-            .findFirst()
-            .map(module -> findRequiredDependency(module, dependencyName))
-            .orElse(null);
+        ExtensionModule module = findModule(descriptor, moduleName);
+        if (module == null) {
+            return null;
+        }
+        return findRequiredDependency(module, dependencyName);
     }
 
     public RequiredDependency findRequiredDependency(Module module, String dependencyName) {
@@ -60,7 +56,7 @@ public class DescriptorHandler {
 
     protected ModulesSorter getModuleSorter(DeploymentDescriptor descriptor, String parallelDeploymentProperty,
         String dependencyTypeProperty, String hardDependencyType) {
-        return new ModulesSorter(descriptor, this, dependencyTypeProperty, hardDependencyType);
+        return new ModulesSorter(descriptor, dependencyTypeProperty, hardDependencyType);
     }
 
     public ResourceType findResourceType(Platform platform, String resourceTypeName) {
@@ -171,4 +167,18 @@ public class DescriptorHandler {
         return moduleSorter.sort();
     }
 
+    public DeploymentPlan getDeploymentPlan(DeploymentDescriptor descriptor, String parallelDeploymentProperty,
+        String dependencyTypeProperty, String hardDependencyType) {
+        return getDeploymentPlan(descriptor, parallelDeploymentProperty, dependencyTypeProperty, hardDependencyType, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxParallelism the maximum number of modules in each wave of the plan
+     */
+    public DeploymentPlan getDeploymentPlan(DeploymentDescriptor descriptor, String parallelDeploymentProperty,
+        String dependencyTypeProperty, String hardDependencyType, int maxParallelism) {
+        ModulesSorter moduleSorter = getModuleSorter(descriptor, parallelDeploymentProperty, dependencyTypeProperty, hardDependencyType);
+        return moduleSorter.plan(maxParallelism);
+    }
+
 }
@@ -5,38 +5,42 @@ import java.io.InputStream;
 import java.util.Map;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
-import com.sap.cloud.lm.sl.common.util.YamlUtil;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
 import com.sap.cloud.lm.sl.mta.parsers.v2.DeploymentDescriptorParser;
 import com.sap.cloud.lm.sl.mta.parsers.v2.ExtensionDescriptorParser;
 import com.sap.cloud.lm.sl.mta.schema.SchemaValidator;
+import com.sap.cloud.lm.sl.mta.schema.ValidatingYamlParser;
 
 public class DescriptorParser {
 
     private final SchemaValidator mtadValidator;
     private final SchemaValidator mtaextValidator;
+    private final ValidatingYamlParser mtadParser;
+    private final ValidatingYamlParser mtaextParser;
 
     public DescriptorParser() {
-        this(new SchemaValidator(Schemas.MTAD), new SchemaValidator(Schemas.MTAEXT));
+        this(new SchemaValidator(Schemas.COMPILED_MTAD), new SchemaValidator(Schemas.COMPILED_MTAEXT));
     }
 
     protected DescriptorParser(SchemaValidator mtadValidator, SchemaValidator mtaextValidator) {
         this.mtadValidator = mtadValidator;
         this.mtaextValidator = mtaextValidator;
+        this.mtadParser = new ValidatingYamlParser(mtadValidator);
+        this.mtaextParser = new ValidatingYamlParser(mtaextValidator);
     }
 
     public ExtensionDescriptor parseExtensionDescriptorYaml(InputStream yaml) throws ParsingException {
         // TODO: Java 9 - Remove the second variable (https://blogs.oracle.com/darcy/more-concise-try-with-resources-statements-in-jdk-9).
         try (InputStream closableYaml = yaml) {
-            return parseExtensionDescriptor(YamlUtil.convertYamlToMap(closableYaml));
+            return getExtensionDescriptorParser(mtaextParser.parseMap(closableYaml)).parse();
         } catch (IOException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
 
     public ExtensionDescriptor parseExtensionDescriptorYaml(String yaml) throws ParsingException {
-        return parseExtensionDescriptor(YamlUtil.convertYamlToMap(yaml));
+        return getExtensionDescriptorParser(mtaextParser.parseMap(yaml)).parse();
     }
 
     public ExtensionDescriptor parseExtensionDescriptor(Map<String, Object> map) throws ParsingException {
@@ -51,14 +55,14 @@ public class DescriptorParser {
     public DeploymentDescriptor parseDeploymentDescriptorYaml(InputStream yaml) throws ParsingException {
         // TODO: Java 9 - Remove the second variable (https://blogs.oracle.com/darcy/more-concise-try-with-resources-statements-in-jdk-9).
         try (InputStream closableYaml = yaml) {
-            return parseDeploymentDescriptor(YamlUtil.convertYamlToMap(closableYaml));
+            return getDeploymentDescriptorParser(mtadParser.parseMap(closableYaml)).parse();
         } catch (IOException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
 
     public DeploymentDescriptor parseDeploymentDescriptorYaml(String yaml) throws ParsingException {
-        return parseDeploymentDescriptor(YamlUtil.convertYamlToMap(yaml));
+        return getDeploymentDescriptorParser(mtadParser.parseMap(yaml)).parse();
     }
 
     public DeploymentDescriptor parseDeploymentDescriptor(Map<String, Object> map) throws ParsingException {
@@ -7,6 +7,7 @@ import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Platform;
 import com.sap.cloud.lm.sl.mta.validators.DescriptorValidationRules;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 import com.sap.cloud.lm.sl.mta.validators.v2.DefaultDescriptorValidationRules;
 import com.sap.cloud.lm.sl.mta.validators.v2.DeploymentDescriptorValidator;
 import com.sap.cloud.lm.sl.mta.validators.v2.ExtensionDescriptorValidator;
@@ -24,38 +25,57 @@ public class DescriptorValidator {
         this.handler = handler;
     }
 
-    protected DeploymentDescriptorValidator getDeploymentDescriptorValidator(DeploymentDescriptor deploymentDescriptor,
-        Platform platform) {
-        return new DeploymentDescriptorValidator(deploymentDescriptor, platform, handler);
+    protected DeploymentDescriptorValidator getDeploymentDescriptorValidator(DeploymentDescriptor deploymentDescriptor, Platform platform,
+        ValidationErrors errors) {
+        return new DeploymentDescriptorValidator(deploymentDescriptor, platform, handler, errors);
     }
 
     protected ExtensionDescriptorValidator getExtensionDescriptorValidator(ExtensionDescriptor extensionDescriptor,
-        DeploymentDescriptor deploymentDescriptor) {
-        return new ExtensionDescriptorValidator(extensionDescriptor, deploymentDescriptor, handler);
+        DeploymentDescriptor deploymentDescriptor, ValidationErrors errors) {
+        return new ExtensionDescriptorValidator(extensionDescriptor, deploymentDescriptor, handler, errors);
     }
 
     protected MergedDescriptorValidator getMergedDescriptorValidator(DeploymentDescriptor mergedDescriptor,
-        DescriptorValidationRules validationRules) {
-        return new MergedDescriptorValidator(mergedDescriptor, validationRules, handler);
+        DescriptorValidationRules validationRules, ValidationErrors errors) {
+        return new MergedDescriptorValidator(mergedDescriptor, validationRules, handler, errors);
     }
 
-    protected DescriptorValidationRules getDefaultDescriptorValidationRules() {
-        return new DefaultDescriptorValidationRules();
+    protected DescriptorValidationRules getDefaultDescriptorValidationRules(ValidationErrors errors) {
+        return new DefaultDescriptorValidationRules(errors);
     }
 
     public void validateDeploymentDescriptor(DeploymentDescriptor deploymentDescriptor, Platform platform) throws ContentException {
-        getDeploymentDescriptorValidator(deploymentDescriptor, platform).validate();
+        getDeploymentDescriptorValidator(deploymentDescriptor, platform, null).validate();
+    }
+
+    /**
+     * Validates the whole deployment descriptor and adds all errors that are found to the specified collector, instead of failing on the
+     * first one.
+     */
+    public void validateDeploymentDescriptor(DeploymentDescriptor deploymentDescriptor, Platform platform, ValidationErrors errors) {
+        getDeploymentDescriptorValidator(deploymentDescriptor, platform, errors).validate();
     }
 
     public void validateExtensionDescriptors(List<ExtensionDescriptor> extensionDescriptors, DeploymentDescriptor deploymentDescriptor)
         throws ContentException {
         for (ExtensionDescriptor extensionDescriptor : extensionDescriptors) {
-            getExtensionDescriptorValidator(extensionDescriptor, deploymentDescriptor).validate();
+            getExtensionDescriptorValidator(extensionDescriptor, deploymentDescriptor, null).validate();
+        }
+    }
+
+    public void validateExtensionDescriptors(List<ExtensionDescriptor> extensionDescriptors, DeploymentDescriptor deploymentDescriptor,
+        ValidationErrors errors) {
+        for (ExtensionDescriptor extensionDescriptor : extensionDescriptors) {
+            getExtensionDescriptorValidator(extensionDescriptor, deploymentDescriptor, errors).validate();
         }
     }
 
     public void validateMergedDescriptor(DeploymentDescriptor mergedDescriptor) throws ContentException {
-        getMergedDescriptorValidator(mergedDescriptor, getDefaultDescriptorValidationRules()).validate();
+        getMergedDescriptorValidator(mergedDescriptor, getDefaultDescriptorValidationRules(null), null).validate();
+    }
+
+    public void validateMergedDescriptor(DeploymentDescriptor mergedDescriptor, ValidationErrors errors) {
+        getMergedDescriptorValidator(mergedDescriptor, getDefaultDescriptorValidationRules(errors), errors).validate();
     }
 
 }
@@ -0,0 +1,45 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
+import com.sap.cloud.lm.sl.mta.model.ExtensionModule;
+import com.sap.cloud.lm.sl.mta.model.ExtensionResource;
+
+/**
+ * An index of the modules and resources of an extension descriptor, built in the same way as a {@link DeploymentDescriptorIndex}.
+ */
+public final class ExtensionDescriptorIndex {
+
+    private final ExtensionDescriptor descriptor;
+    private final int modificationCount;
+    private final NamedElementIndex<ExtensionModule> modules;
+    private final NamedElementIndex<ExtensionModule> providers;
+    private final NamedElementIndex<ExtensionResource> resources;
+
+    public ExtensionDescriptorIndex(ExtensionDescriptor descriptor) {
+        this.descriptor = descriptor;
+        this.modificationCount = descriptor.getModificationCount();
+        this.modules = NamedElementIndex.byName(descriptor.getModules());
+        this.providers = NamedElementIndex.byChildNames(descriptor.getModules(), ExtensionModule::getProvidedDependencies);
+        this.resources = NamedElementIndex.byName(descriptor.getResources());
+    }
+
+    public boolean isUpToDate(ExtensionDescriptor descriptor) {
+        return this.descriptor == descriptor && modificationCount == descriptor.getModificationCount();
+    }
+
+    public ExtensionModule getModule(String moduleName) {
+        return modules.get(moduleName);
+    }
+
+    /**
+     * @return the first module that provides a dependency with the specified name
+     */
+    public ExtensionModule getProvider(String providedDependencyName) {
+        return providers.get(providedDependencyName);
+    }
+
+    public ExtensionResource getResource(String resourceName) {
+        return resources.get(resourceName);
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
+import com.sap.cloud.lm.sl.mta.model.ExtensionModule;
+import com.sap.cloud.lm.sl.mta.model.ExtensionProvidedDependency;
+import com.sap.cloud.lm.sl.mta.model.ExtensionResource;
+import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.model.ModuleType;
+import com.sap.cloud.lm.sl.mta.model.Platform;
+import com.sap.cloud.lm.sl.mta.model.ProvidedDependency;
+import com.sap.cloud.lm.sl.mta.model.Resource;
+import com.sap.cloud.lm.sl.mta.model.ResourceType;
+
+/**
+ * Finds the elements of descriptors and platforms through a {@link DeploymentDescriptorIndex}, {@link ExtensionDescriptorIndex} or
+ * {@link PlatformIndex}, instead of scanning all of their modules and resources. The handler keeps the index of the last descriptor and
+ * platform it was used with, and rebuilds it when their elements are replaced through their setters. Elements, which are renamed or
+ * added to and removed from the lists in place, are not noticed.
+ */
+public class IndexedDescriptorHandler extends DescriptorHandler {
+
+    private volatile DeploymentDescriptorIndex deploymentDescriptorIndex;
+    private volatile ExtensionDescriptorIndex extensionDescriptorIndex;
+    private volatile PlatformIndex platformIndex;
+
+    @Override
+    public ResourceType findResourceType(Platform platform, String resourceTypeName) {
+        return getIndex(platform)
+            .getResourceType(resourceTypeName);
+    }
+
+    @Override
+    public ModuleType findModuleType(Platform platform, String moduleTypeName) {
+        return getIndex(platform)
+            .getModuleType(moduleTypeName);
+    }
+
+    @Override
+    public Resource findResource(DeploymentDescriptor descriptor, String resourceName) {
+        return getIndex(descriptor)
+            .getResource(resourceName);
+    }
+
+    @Override
+    public ExtensionResource findResource(ExtensionDescriptor descriptor, String resourceName) {
+        return getIndex(descriptor)
+            .getResource(resourceName);
+    }
+
+    @Override
+    public ProvidedDependency findProvidedDependency(DeploymentDescriptor descriptor, String providedDependencyName) {
+        Module provider = getIndex(descriptor)
+            .getProvider(providedDependencyName);
+        if (provider == null) {
+            return null;
+        }
+        return findProvidedDependency(provider, providedDependencyName);
+    }
+
+    @Override
+    public ExtensionProvidedDependency findProvidedDependency(ExtensionDescriptor descriptor, String providedDependencyName) {
+        ExtensionModule provider = getIndex(descriptor)
+            .getProvider(providedDependencyName);
+        if (provider == null) {
+            return null;
+        }
+        return findProvidedDependency(provider, providedDependencyName);
+    }
+
+    @Override
+    public ExtensionModule findModule(ExtensionDescriptor descriptor, String moduleName) {
+        return getIndex(descriptor)
+            .getModule(moduleName);
+    }
+
+    @Override
+    public Module findModule(DeploymentDescriptor descriptor, String moduleName) {
+        return getIndex(descriptor)
+            .getModule(moduleName);
+    }
+
+    private DeploymentDescriptorIndex getIndex(DeploymentDescriptor descriptor) {
+        DeploymentDescriptorIndex index = deploymentDescriptorIndex;
+        if (index == null || !index.isUpToDate(descriptor)) {
+            index = new DeploymentDescriptorIndex(descriptor);
+            deploymentDescriptorIndex = index;
+        }
+        return index;
+    }
+
+    private ExtensionDescriptorIndex getIndex(ExtensionDescriptor descriptor) {
+        ExtensionDescriptorIndex index = extensionDescriptorIndex;
+        if (index == null || !index.isUpToDate(descriptor)) {
+            index = new ExtensionDescriptorIndex(descriptor);
+            extensionDescriptorIndex = index;
+        }
+        return index;
+    }
+
+    private PlatformIndex getIndex(Platform platform) {
+        PlatformIndex index = platformIndex;
+        if (index == null || !index.isUpToDate(platform)) {
+            index = new PlatformIndex(platform);
+            platformIndex = index;
+        }
+        return index;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.sap.cloud.lm.sl.mta.handlers.v2;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -8,6 +9,10 @@ import java.util.Set;
 import com.sap.cloud.lm.sl.mta.message.Messages;
 import com.sap.cloud.lm.sl.mta.model.Module;
 
+/**
+ * @deprecated this comparator is not a total order, the modules are sorted by their {@link ModuleDependencyGraph} instead
+ */
+@Deprecated
 public class ModuleComparator implements Comparator<Entry<Module, Set<String>>> {
 
     private final String dependencyTypeProperty;
@@ -31,7 +36,7 @@ public class ModuleComparator implements Comparator<Entry<Module, Set<String>>>
         if (circularDependencyExists(module1.getName(), module1Dependencies, module2.getName(), module2Dependencies)) {
             if (hardDependencyType.equals(dependencyTypeModule1) && hardDependencyType.equals(dependencyTypeModule2)) {
                 throw new IllegalStateException(
-                    MessageFormat.format(Messages.MULTIPLE_HARD_MODULES_DETECTED, module1.getName(), module2.getName()));
+                    MessageFormat.format(Messages.MULTIPLE_HARD_MODULES_DETECTED, Arrays.asList(module1.getName(), module2.getName())));
             }
             if (hardDependencyType.equals(dependencyTypeModule1)) {
                 return -1;
@@ -0,0 +1,372 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.ListUtils;
+
+import com.sap.cloud.lm.sl.mta.message.Messages;
+import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.model.ProvidedDependency;
+import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
+
+/**
+ * The deployment dependencies between the modules of a descriptor, built once from an index of the modules by the names of the
+ * dependencies they provide. The strongly connected components of the graph, which are the modules that depend on each other, are found
+ * with Tarjan's algorithm and are then sorted topologically, so that all modules are sorted and all cycles are found in linear time.
+ * Modules, which do not depend on each other, are kept in the order in which they are declared.
+ */
+public class ModuleDependencyGraph {
+
+    private final List<Module> modules;
+    private final int[][] dependencies;
+
+    private ModuleDependencyGraph(List<Module> modules, int[][] dependencies) {
+        this.modules = modules;
+        this.dependencies = dependencies;
+    }
+
+    public static ModuleDependencyGraph ofRequiredDependencies(List<Module> modules) {
+        Map<String, Integer> modulesByProvidedDependency = new HashMap<>();
+        for (int i = 0; i < modules.size(); i++) {
+            for (ProvidedDependency providedDependency : modules.get(i)
+                .getProvidedDependencies()) {
+                modulesByProvidedDependency.putIfAbsent(providedDependency.getName(), i);
+            }
+        }
+        return of(modules, modulesByProvidedDependency, module -> module.getRequiredDependencies()
+            .stream()
+            .map(RequiredDependency::getName)
+            .collect(Collectors.toList()));
+    }
+
+    public static ModuleDependencyGraph ofDeployedAfter(List<Module> modules) {
+        Map<String, Integer> modulesByName = new HashMap<>();
+        for (int i = 0; i < modules.size(); i++) {
+            modulesByName.putIfAbsent(modules.get(i)
+                .getName(), i);
+        }
+        return of(modules, modulesByName, module -> ListUtils.emptyIfNull(module.getDeployedAfter()));
+    }
+
+    private static ModuleDependencyGraph of(List<Module> modules, Map<String, Integer> modulesByDependencyName,
+        Function<Module, List<String>> dependencyNamesGetter) {
+        int[][] dependencies = new int[modules.size()][];
+        for (int i = 0; i < modules.size(); i++) {
+            Set<Integer> moduleDependencies = new LinkedHashSet<>();
+            for (String dependencyName : dependencyNamesGetter.apply(modules.get(i))) {
+                Integer dependency = modulesByDependencyName.get(dependencyName);
+                // A module, which requires something from itself, does not depend on any other module because of that.
+                if (dependency != null && dependency != i) {
+                    moduleDependencies.add(dependency);
+                }
+            }
+            dependencies[i] = toArray(moduleDependencies);
+        }
+        return new ModuleDependencyGraph(modules, dependencies);
+    }
+
+    private static int[] toArray(Set<Integer> indexes) {
+        return indexes.stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    /**
+     * @return the groups of modules, which depend on each other, in the order of their first declared modules
+     */
+    public List<List<Module>> getCycles() {
+        return getComponents().stream()
+            .filter(component -> component.length > 1)
+            .sorted(Comparator.comparingInt(component -> component[0]))
+            .map(this::getModules)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Sorts the modules, so that each module comes after the modules it depends on. Of the modules, which are ready to be deployed, the
+     * first declared one comes first. A cycle is broken by its first declared module, which has a hard dependency type. That module comes
+     * first and the rest of the cycle is sorted without it. A cycle without such a module is sorted in the order of declaration.
+     */
+    public List<Module> sort(Predicate<Module> hasHardDependencyType) {
+        List<int[]> components = getComponents();
+        int[] componentIndexes = new int[modules.size()];
+        for (int i = 0; i < components.size(); i++) {
+            for (int module : components.get(i)) {
+                componentIndexes[module] = i;
+            }
+        }
+        int[] remainingDependencies = new int[components.size()];
+        List<List<Integer>> dependents = new ArrayList<>(modules.size());
+        for (int module = 0; module < modules.size(); module++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int module = 0; module < modules.size(); module++) {
+            for (int dependency : dependencies[module]) {
+                if (componentIndexes[module] != componentIndexes[dependency]) {
+                    remainingDependencies[componentIndexes[module]]++;
+                    dependents.get(dependency)
+                        .add(module);
+                }
+            }
+        }
+        PriorityQueue<Integer> readyComponents = new PriorityQueue<>(Comparator.comparingInt(component -> components.get(component)[0]));
+        for (int i = 0; i < components.size(); i++) {
+            if (remainingDependencies[i] == 0) {
+                readyComponents.add(i);
+            }
+        }
+        List<Module> sortedModules = new ArrayList<>(modules.size());
+        while (!readyComponents.isEmpty()) {
+            int[] component = components.get(readyComponents.poll());
+            addComponent(component, hasHardDependencyType, sortedModules);
+            for (int module : component) {
+                for (int dependent : dependents.get(module)) {
+                    if (--remainingDependencies[componentIndexes[dependent]] == 0) {
+                        readyComponents.add(componentIndexes[dependent]);
+                    }
+                }
+            }
+        }
+        return sortedModules;
+    }
+
+    /**
+     * Groups the sorted modules in waves. Each module is placed in the first wave after the waves of the modules it depends on, which
+     * has less than the maximum number of modules. Dependencies on modules, which come later in the sorted modules, are the ones that
+     * break cycles and are ignored, just like when the modules are deployed in the sorted order.
+     */
+    public DeploymentPlan plan(Predicate<Module> hasHardDependencyType, int maxParallelism) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException(MessageFormat.format(Messages.INVALID_MAX_PARALLELISM, maxParallelism));
+        }
+        Map<Module, Integer> moduleIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < modules.size(); i++) {
+            moduleIndexes.put(modules.get(i), i);
+        }
+        List<Module> sortedModules = sort(hasHardDependencyType);
+        int[] positions = new int[modules.size()];
+        for (int i = 0; i < sortedModules.size(); i++) {
+            positions[moduleIndexes.get(sortedModules.get(i))] = i;
+        }
+        int[] waveIndexes = new int[modules.size()];
+        int[] pathLengths = new int[modules.size()];
+        int criticalPathLength = 0;
+        List<List<Module>> waves = new ArrayList<>();
+        for (Module sortedModule : sortedModules) {
+            int module = moduleIndexes.get(sortedModule);
+            int waveIndex = 0;
+            int pathLength = 1;
+            for (int dependency : dependencies[module]) {
+                if (positions[dependency] < positions[module]) {
+                    waveIndex = Math.max(waveIndex, waveIndexes[dependency] + 1);
+                    pathLength = Math.max(pathLength, pathLengths[dependency] + 1);
+                }
+            }
+            while (waveIndex < waves.size() && waves.get(waveIndex)
+                .size() >= maxParallelism) {
+                waveIndex++;
+            }
+            if (waveIndex == waves.size()) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(waveIndex)
+                .add(sortedModule);
+            waveIndexes[module] = waveIndex;
+            pathLengths[module] = pathLength;
+            criticalPathLength = Math.max(criticalPathLength, pathLength);
+        }
+        return new DeploymentPlan(waves, criticalPathLength);
+    }
+
+    /**
+     * @return the names of the modules, which each module depends on directly or transitively, in the order in which they are found by a
+     *         depth-first search, by the names of the modules. The components of the graph are visited after the components they depend
+     *         on, so the transitive dependencies of each module are collected once and are then reused by the modules, which depend on
+     *         it. Only the modules, which depend on each other, are searched more than once.
+     */
+    public Map<String, Set<String>> getTransitiveDependencies() {
+        List<int[]> components = getComponents();
+        int[] componentIndexes = new int[modules.size()];
+        for (int i = 0; i < components.size(); i++) {
+            for (int module : components.get(i)) {
+                componentIndexes[module] = i;
+            }
+        }
+        List<Set<String>> transitiveDependencies = new ArrayList<>(Collections.nCopies(modules.size(), null));
+        for (int[] component : components) {
+            for (int module : component) {
+                transitiveDependencies.set(module, collectTransitiveDependencies(module, componentIndexes, transitiveDependencies));
+            }
+        }
+        Map<String, Set<String>> transitiveDependenciesByModule = new LinkedHashMap<>();
+        for (int module = 0; module < modules.size(); module++) {
+            transitiveDependenciesByModule.putIfAbsent(modules.get(module)
+                .getName(), Collections.unmodifiableSet(transitiveDependencies.get(module)));
+        }
+        return transitiveDependenciesByModule;
+    }
+
+    // The search keeps its path in an explicit stack, since a component may contain too many modules for a recursive one.
+    private Set<String> collectTransitiveDependencies(int root, int[] componentIndexes, List<Set<String>> transitiveDependencies) {
+        Set<String> moduleDependencies = new LinkedHashSet<>();
+        Set<Integer> visitedModules = new HashSet<>(Collections.singleton(root));
+        Deque<int[]> path = new ArrayDeque<>();
+        path.push(new int[] { root, 0 });
+        while (!path.isEmpty()) {
+            int[] step = path.peek();
+            int module = step[0];
+            if (step[1] == dependencies[module].length) {
+                path.pop();
+                continue;
+            }
+            int dependency = dependencies[module][step[1]++];
+            moduleDependencies.add(modules.get(dependency)
+                .getName());
+            if (componentIndexes[dependency] != componentIndexes[module]) {
+                moduleDependencies.addAll(transitiveDependencies.get(dependency));
+            } else if (visitedModules.add(dependency)) {
+                path.push(new int[] { dependency, 0 });
+            }
+        }
+        return moduleDependencies;
+    }
+
+    private void addComponent(int[] component, Predicate<Module> hasHardDependencyType, List<Module> sortedModules) {
+        int hardModule = Arrays.stream(component)
+            .filter(module -> component.length > 1 && hasHardDependencyType.test(modules.get(module)))
+            .findFirst()
+            .orElse(-1);
+        if (hardModule == -1) {
+            for (int module : component) {
+                sortedModules.add(modules.get(module));
+            }
+            return;
+        }
+        sortedModules.add(modules.get(hardModule));
+        sortedModules.addAll(getSubgraph(component, hardModule).sort(hasHardDependencyType));
+    }
+
+    private ModuleDependencyGraph getSubgraph(int[] component, int excludedModule) {
+        Map<Integer, Integer> subgraphIndexes = new HashMap<>();
+        List<Module> subgraphModules = new ArrayList<>(component.length - 1);
+        for (int module : component) {
+            if (module != excludedModule) {
+                subgraphIndexes.put(module, subgraphModules.size());
+                subgraphModules.add(modules.get(module));
+            }
+        }
+        int[][] subgraphDependencies = new int[subgraphModules.size()][];
+        for (Map.Entry<Integer, Integer> module : subgraphIndexes.entrySet()) {
+            subgraphDependencies[module.getValue()] = Arrays.stream(dependencies[module.getKey()])
+                .filter(subgraphIndexes::containsKey)
+                .map(subgraphIndexes::get)
+                .toArray();
+        }
+        return new ModuleDependencyGraph(subgraphModules, subgraphDependencies);
+    }
+
+    private List<Module> getModules(int[] component) {
+        return Arrays.stream(component)
+            .mapToObj(modules::get)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the strongly connected components of the graph, each sorted in the order of declaration of its modules
+     */
+    private List<int[]> getComponents() {
+        return new ComponentsFinder().find();
+    }
+
+    /**
+     * Tarjan's algorithm with an explicit stack of the modules being visited instead of recursion, so that long chains of dependencies
+     * cannot overflow the stack of the thread.
+     */
+    private class ComponentsFinder {
+
+        private final int[] indexes = new int[modules.size()];
+        private final int[] lowLinks = new int[modules.size()];
+        private final int[] nextDependencies = new int[modules.size()];
+        private final boolean[] onStack = new boolean[modules.size()];
+        private final Deque<Integer> stack = new ArrayDeque<>();
+        private final Deque<Integer> visitedModules = new ArrayDeque<>();
+        private final List<int[]> components = new ArrayList<>();
+        private int nextIndex = 1;
+
+        private List<int[]> find() {
+            for (int module = 0; module < modules.size(); module++) {
+                if (indexes[module] == 0) {
+                    visit(module);
+                }
+            }
+            return components;
+        }
+
+        private void visit(int root) {
+            startVisit(root);
+            while (!visitedModules.isEmpty()) {
+                int module = visitedModules.peek();
+                if (nextDependencies[module] < dependencies[module].length) {
+                    int dependency = dependencies[module][nextDependencies[module]++];
+                    if (indexes[dependency] == 0) {
+                        startVisit(dependency);
+                    } else if (onStack[dependency]) {
+                        lowLinks[module] = Math.min(lowLinks[module], indexes[dependency]);
+                    }
+                    continue;
+                }
+                visitedModules.pop();
+                if (lowLinks[module] == indexes[module]) {
+                    addComponent(module);
+                }
+                if (!visitedModules.isEmpty()) {
+                    int dependent = visitedModules.peek();
+                    lowLinks[dependent] = Math.min(lowLinks[dependent], lowLinks[module]);
+                }
+            }
+        }
+
+        private void startVisit(int module) {
+            indexes[module] = nextIndex;
+            lowLinks[module] = nextIndex;
+            nextIndex++;
+            stack.push(module);
+            onStack[module] = true;
+            visitedModules.push(module);
+        }
+
+        private void addComponent(int root) {
+            List<Integer> component = new ArrayList<>();
+            int module;
+            do {
+                module = stack.pop();
+                onStack[module] = false;
+                component.add(module);
+            } while (module != root);
+            components.add(component.stream()
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray());
+        }
+
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.sap.cloud.lm.sl.mta.handlers.v2;
 
+import java.text.MessageFormat;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -9,47 +10,111 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.sap.cloud.lm.sl.mta.builders.v2.ModuleDependenciesCollector;
+import com.sap.cloud.lm.sl.mta.message.Messages;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
 
 public class ModulesSorter implements com.sap.cloud.lm.sl.mta.handlers.ModulesSorter {
 
     protected DeploymentDescriptor descriptor;
+    /**
+     * @deprecated the handler is not used to sort the modules
+     */
+    @Deprecated
     protected DescriptorHandler handler;
     protected String dependencyTypeProperty;
     protected String hardDependencyType;
 
-    public ModulesSorter(DeploymentDescriptor descriptor, DescriptorHandler handler, String dependencyTypeProperty,
-        String hardDependencyType) {
+    public ModulesSorter(DeploymentDescriptor descriptor, String dependencyTypeProperty, String hardDependencyType) {
         this.descriptor = descriptor;
-        this.handler = handler;
         this.dependencyTypeProperty = dependencyTypeProperty;
         this.hardDependencyType = hardDependencyType;
     }
 
+    /**
+     * @deprecated the handler is not used to sort the modules, use {@link #ModulesSorter(DeploymentDescriptor, String, String)} instead
+     */
+    @Deprecated
+    public ModulesSorter(DeploymentDescriptor descriptor, DescriptorHandler handler, String dependencyTypeProperty,
+        String hardDependencyType) {
+        this(descriptor, dependencyTypeProperty, hardDependencyType);
+        this.handler = handler;
+    }
+
     public List<Module> sort() {
-        return getModulesAndDeploymentDependencies()
-            .entrySet()
-            .stream()
-            .sorted(getModuleComparator(dependencyTypeProperty, hardDependencyType))
-            .map(Entry::getKey)
+        return getDependencyGraph().sort(this::hasHardDependencyType);
+    }
+
+    public DeploymentPlan plan(int maxParallelism) {
+        return getDependencyGraph().plan(this::hasHardDependencyType, maxParallelism);
+    }
+
+    private ModuleDependencyGraph getDependencyGraph() {
+        ModuleDependencyGraph dependencyGraph = ModuleDependencyGraph.ofRequiredDependencies(descriptor.getModules());
+        validateHardCycles(dependencyGraph.getCycles());
+        return dependencyGraph;
+    }
+
+    private void validateHardCycles(List<List<Module>> cycles) {
+        List<List<String>> hardCycles = cycles.stream()
+            .map(cycle -> getNames(cycle.stream()
+                .filter(this::hasHardDependencyType)
+                .collect(Collectors.toList())))
+            .filter(hardModules -> hardModules.size() > 1)
             .collect(Collectors.toList());
+        if (!hardCycles.isEmpty()) {
+            throw new IllegalStateException(MessageFormat.format(Messages.MULTIPLE_HARD_MODULES_DETECTED, format(hardCycles)));
+        }
+    }
+
+    protected boolean hasHardDependencyType(Module module) {
+        return hardDependencyType.equals(module.getParameters()
+            .get(dependencyTypeProperty));
+    }
+
+    protected static List<String> getNames(List<Module> modules) {
+        return modules.stream()
+            .map(Module::getName)
+            .collect(Collectors.toList());
+    }
+
+    protected static String format(List<List<String>> cycles) {
+        return cycles.stream()
+            .map(List::toString)
+            .collect(Collectors.joining(", "));
     }
 
+    /**
+     * @deprecated the modules are sorted by their {@link ModuleDependencyGraph}, use {@link ModuleDependenciesCollector#collectAll()} to get
+     *             the dependencies of all modules
+     */
+    @Deprecated
     protected Map<Module, Set<String>> getModulesAndDeploymentDependencies() {
         return descriptor.getModules()
             .stream()
             .collect(LinkedHashMap::new, (map, module) -> map.put(module, getDependencies(module)), Map::putAll);
     }
 
+    /**
+     * @deprecated use {@link ModuleDependenciesCollector#collect(Module)} instead
+     */
+    @Deprecated
     protected Set<String> getDependencies(Module module) {
         return getDependenciesCollector().collect(module);
     }
 
+    /**
+     * @deprecated the modules are sorted by their {@link ModuleDependencyGraph}, which does not need a dependencies collector
+     */
+    @Deprecated
     protected ModuleDependenciesCollector getDependenciesCollector() {
-        return new ModuleDependenciesCollector(descriptor, handler);
+        return new ModuleDependenciesCollector(descriptor);
     }
 
+    /**
+     * @deprecated the modules are sorted by their {@link ModuleDependencyGraph}, since the comparator is not a total order
+     */
+    @Deprecated
     protected Comparator<Entry<Module, Set<String>>> getModuleComparator(String dependencyTypeProperty, String hardDependencyType) {
         return new ModuleComparator(dependencyTypeProperty, hardDependencyType);
     }
@@ -0,0 +1,45 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.sap.cloud.lm.sl.mta.model.NamedElement;
+
+/**
+ * Maps names to the first of a list of elements with that name. The index is not updated when the list or its elements are modified.
+ */
+final class NamedElementIndex<T> {
+
+    private final Map<String, T> elementsByName = new HashMap<>();
+
+    private NamedElementIndex() {
+    }
+
+    static <T extends NamedElement> NamedElementIndex<T> byName(List<T> elements) {
+        NamedElementIndex<T> index = new NamedElementIndex<>();
+        for (T element : elements) {
+            index.elementsByName.putIfAbsent(element.getName(), element);
+        }
+        return index;
+    }
+
+    /**
+     * Indexes the elements by the names of their children, for example modules by the names of the dependencies they provide.
+     */
+    static <T> NamedElementIndex<T> byChildNames(List<T> elements, Function<T, List<? extends NamedElement>> childrenGetter) {
+        NamedElementIndex<T> index = new NamedElementIndex<>();
+        for (T element : elements) {
+            for (NamedElement child : childrenGetter.apply(element)) {
+                index.elementsByName.putIfAbsent(child.getName(), element);
+            }
+        }
+        return index;
+    }
+
+    T get(String name) {
+        return elementsByName.get(name);
+    }
+
+}
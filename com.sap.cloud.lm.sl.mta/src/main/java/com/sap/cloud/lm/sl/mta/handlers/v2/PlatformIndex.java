@@ -0,0 +1,36 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import com.sap.cloud.lm.sl.mta.model.ModuleType;
+import com.sap.cloud.lm.sl.mta.model.Platform;
+import com.sap.cloud.lm.sl.mta.model.ResourceType;
+
+/**
+ * An index of the module and resource types of a platform, built in the same way as a {@link DeploymentDescriptorIndex}.
+ */
+public final class PlatformIndex {
+
+    private final Platform platform;
+    private final int modificationCount;
+    private final NamedElementIndex<ModuleType> moduleTypes;
+    private final NamedElementIndex<ResourceType> resourceTypes;
+
+    public PlatformIndex(Platform platform) {
+        this.platform = platform;
+        this.modificationCount = platform.getModificationCount();
+        this.moduleTypes = NamedElementIndex.byName(platform.getModuleTypes());
+        this.resourceTypes = NamedElementIndex.byName(platform.getResourceTypes());
+    }
+
+    public boolean isUpToDate(Platform platform) {
+        return this.platform == platform && modificationCount == platform.getModificationCount();
+    }
+
+    public ModuleType getModuleType(String moduleTypeName) {
+        return moduleTypes.get(moduleTypeName);
+    }
+
+    public ResourceType getResourceType(String resourceTypeName) {
+        return resourceTypes.get(resourceTypeName);
+    }
+
+}
@@ -2,6 +2,7 @@ package com.sap.cloud.lm.sl.mta.handlers.v2;
 
 import java.util.Map;
 
+import com.sap.cloud.lm.sl.mta.schema.CompiledSchema;
 import com.sap.cloud.lm.sl.mta.schema.Element;
 import com.sap.cloud.lm.sl.mta.schema.ListElement;
 import com.sap.cloud.lm.sl.mta.schema.MapElement;
@@ -12,21 +13,35 @@ public class Schemas {
     public static final String MTA_IDENTIFIER_PATTERN = "^[A-Za-z0-9_\\-\\.]+$";
     public static final int MTA_IDENTIFIER_MAX_LENGTH = 128;
 
+    // Provided dependencies and resources are both referenced as dependencies, so their names must be unique within the whole descriptor.
+    protected static final String DEPENDENCIES_SCOPE = "dependencies";
+    protected static final String EXT_PROVIDED_DEPENDENCIES_SCOPE = "provided-dependencies";
+
     public static final MapElement MTAD = new MapElement();
-    public static final MapElement MODULE = new MapElement();
-    public static final MapElement REQUIRED_DEPENDENCY = new MapElement();
-    public static final MapElement PROVIDED_DEPENDENCY = new MapElement();
-    public static final MapElement RESOURCE = new MapElement();
+    public static final MapElement MODULE = new ElementBuilder().objectName("MTA module")
+        .buildMap();
+    public static final MapElement REQUIRED_DEPENDENCY = new ElementBuilder().objectName("MTA required dependency")
+        .buildMap();
+    public static final MapElement PROVIDED_DEPENDENCY = new ElementBuilder().objectName("MTA provided dependency")
+        .buildMap();
+    public static final MapElement RESOURCE = new ElementBuilder().objectName("MTA resource")
+        .buildMap();
 
     public static final MapElement MTAEXT = new MapElement();
-    public static final MapElement EXT_MODULE = new MapElement();
-    public static final MapElement EXT_REQUIRED_DEPENDENCY = new MapElement();
-    public static final MapElement EXT_PROVIDED_DEPENDENCY = new MapElement();
-    public static final MapElement EXT_RESOURCE = new MapElement();
+    public static final MapElement EXT_MODULE = new ElementBuilder().objectName("MTA extension module")
+        .buildMap();
+    public static final MapElement EXT_REQUIRED_DEPENDENCY = new ElementBuilder().objectName("MTA extension required dependency")
+        .buildMap();
+    public static final MapElement EXT_PROVIDED_DEPENDENCY = new ElementBuilder().objectName("MTA extension provided dependency")
+        .buildMap();
+    public static final MapElement EXT_RESOURCE = new ElementBuilder().objectName("MTA extension resource")
+        .buildMap();
 
     public static final MapElement PLATFORM = new MapElement();
-    public static final MapElement MODULE_TYPE = new MapElement();
-    public static final MapElement RESOURCE_TYPE = new MapElement();
+    public static final MapElement MODULE_TYPE = new ElementBuilder().objectName("MTA module type")
+        .buildMap();
+    public static final MapElement RESOURCE_TYPE = new ElementBuilder().objectName("MTA resource type")
+        .buildMap();
 
     public static final Element OBJECT_REQUIRED = new ElementBuilder().type(Object.class)
         .required(true)
@@ -54,7 +69,8 @@ public class Schemas {
         MTAD.add("ID", NON_UNIQUE_MTA_IDENTIFIER);
         MTAD.add("version", STRING_REQUIRED);
         MTAD.add("modules", new ListElement(MODULE));
-        MTAD.add("resources", new ListElement(RESOURCE));
+        MTAD.add("resources", new ElementBuilder().uniqueScope(DEPENDENCIES_SCOPE)
+            .buildList(RESOURCE));
         MTAD.add("parameters", PROPERTIES);
 
         MODULE.add("name", UNIQUE_MTA_IDENTIFIER);
@@ -64,7 +80,9 @@ public class Schemas {
         MODULE.add("properties", PROPERTIES);
         MODULE.add("parameters", PROPERTIES);
         MODULE.add("requires", new ListElement(REQUIRED_DEPENDENCY));
-        MODULE.add("provides", new ListElement(PROVIDED_DEPENDENCY));
+        MODULE.add("provides", new ElementBuilder().uniqueScope(DEPENDENCIES_SCOPE)
+            .includesContainer(true)
+            .buildList(PROVIDED_DEPENDENCY));
 
         REQUIRED_DEPENDENCY.add("name", UNIQUE_MTA_IDENTIFIER);
         REQUIRED_DEPENDENCY.add("list", STRING);
@@ -94,7 +112,8 @@ public class Schemas {
         EXT_MODULE.add("properties", PROPERTIES);
         EXT_MODULE.add("parameters", PROPERTIES);
         EXT_MODULE.add("requires", new ListElement(EXT_REQUIRED_DEPENDENCY));
-        EXT_MODULE.add("provides", new ListElement(EXT_PROVIDED_DEPENDENCY));
+        EXT_MODULE.add("provides", new ElementBuilder().uniqueScope(EXT_PROVIDED_DEPENDENCIES_SCOPE)
+            .buildList(EXT_PROVIDED_DEPENDENCY));
 
         EXT_PROVIDED_DEPENDENCY.add("name", UNIQUE_MTA_IDENTIFIER);
         EXT_PROVIDED_DEPENDENCY.add("properties", PROPERTIES);
@@ -121,4 +140,9 @@ public class Schemas {
         RESOURCE_TYPE.add("parameters", PROPERTIES);
     }
 
+    // The schemas are compiled only after they are built by the static initializer above:
+    public static final CompiledSchema COMPILED_MTAD = CompiledSchema.compile(MTAD);
+    public static final CompiledSchema COMPILED_MTAEXT = CompiledSchema.compile(MTAEXT);
+    public static final CompiledSchema COMPILED_PLATFORM = CompiledSchema.compile(PLATFORM);
+
 }
@@ -17,13 +17,11 @@ public class DescriptorHandler extends com.sap.cloud.lm.sl.mta.handlers.v2.Descr
         if (moduleRequiredDependency != null) {
             return moduleRequiredDependency;
         }
-        return descriptor.getResources()
-            .stream()
-            .filter(resource -> resource.getName()
-                .equals(consumerName))
-            .findFirst()
-            .map(resource -> findRequiredDependency(resource, dependencyName))
-            .orElse(null);
+        Resource resource = findResource(descriptor, consumerName);
+        if (resource == null) {
+            return null;
+        }
+        return findRequiredDependency(resource, dependencyName);
     }
 
     @Override
@@ -32,13 +30,11 @@ public class DescriptorHandler extends com.sap.cloud.lm.sl.mta.handlers.v2.Descr
         if (moduleRequiredDependency != null) {
             return moduleRequiredDependency;
         }
-        return descriptor.getResources()
-            .stream()
-            .filter(resource -> resource.getName()
-                .equals(consumerName))
-            .findFirst()
-            .map(resource -> findRequiredDependency(resource, dependencyName))
-            .orElse(null);
+        ExtensionResource resource = findResource(descriptor, consumerName);
+        if (resource == null) {
+            return null;
+        }
+        return findRequiredDependency(resource, dependencyName);
     }
 
     public RequiredDependency findRequiredDependency(Resource resource, String dependencyName) {
@@ -71,7 +67,7 @@ public class DescriptorHandler extends com.sap.cloud.lm.sl.mta.handlers.v2.Descr
     @Override
     protected com.sap.cloud.lm.sl.mta.handlers.v2.ModulesSorter getModuleSorter(DeploymentDescriptor descriptor,
         String parallelDeploymentProperty, String dependencyTypeProperty, String hardDependencyType) {
-        return new com.sap.cloud.lm.sl.mta.handlers.v3.ModulesSorter(descriptor, this, dependencyTypeProperty, hardDependencyType,
+        return new com.sap.cloud.lm.sl.mta.handlers.v3.ModulesSorter(descriptor, dependencyTypeProperty, hardDependencyType,
             parallelDeploymentProperty);
     }
 
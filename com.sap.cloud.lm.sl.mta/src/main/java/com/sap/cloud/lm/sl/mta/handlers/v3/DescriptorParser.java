@@ -9,7 +9,7 @@ import com.sap.cloud.lm.sl.mta.schema.SchemaValidator;
 public class DescriptorParser extends com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorParser {
 
     public DescriptorParser() {
-        super(new SchemaValidator(Schemas.MTAD), new SchemaValidator(Schemas.MTAEXT));
+        super(new SchemaValidator(Schemas.COMPILED_MTAD), new SchemaValidator(Schemas.COMPILED_MTAEXT));
     }
 
     protected DescriptorParser(SchemaValidator mtadValidator, SchemaValidator mtaextValidator) {
@@ -5,6 +5,7 @@ import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Platform;
 import com.sap.cloud.lm.sl.mta.validators.DescriptorValidationRules;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 import com.sap.cloud.lm.sl.mta.validators.v3.DefaultDescriptorValidationRules;
 import com.sap.cloud.lm.sl.mta.validators.v3.DeploymentDescriptorValidator;
 import com.sap.cloud.lm.sl.mta.validators.v3.ExtensionDescriptorValidator;
@@ -20,19 +21,20 @@ public class DescriptorValidator extends com.sap.cloud.lm.sl.mta.handlers.v2.Des
     }
 
     @Override
-    protected DeploymentDescriptorValidator getDeploymentDescriptorValidator(DeploymentDescriptor deploymentDescriptor, Platform platform) {
-        return new DeploymentDescriptorValidator(deploymentDescriptor, platform, handler);
+    protected DeploymentDescriptorValidator getDeploymentDescriptorValidator(DeploymentDescriptor deploymentDescriptor, Platform platform,
+        ValidationErrors errors) {
+        return new DeploymentDescriptorValidator(deploymentDescriptor, platform, handler, errors);
     }
 
     @Override
     protected ExtensionDescriptorValidator getExtensionDescriptorValidator(ExtensionDescriptor extensionDescriptor,
-        DeploymentDescriptor deploymentDescriptor) {
-        return new ExtensionDescriptorValidator(extensionDescriptor, deploymentDescriptor, handler);
+        DeploymentDescriptor deploymentDescriptor, ValidationErrors errors) {
+        return new ExtensionDescriptorValidator(extensionDescriptor, deploymentDescriptor, handler, errors);
     }
 
     @Override
-    protected DescriptorValidationRules getDefaultDescriptorValidationRules() {
-        return new DefaultDescriptorValidationRules();
+    protected DescriptorValidationRules getDefaultDescriptorValidationRules(ValidationErrors errors) {
+        return new DefaultDescriptorValidationRules(errors);
     }
 
 }
@@ -0,0 +1,64 @@
+package com.sap.cloud.lm.sl.mta.handlers.v3;
+
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
+import com.sap.cloud.lm.sl.mta.model.ExtensionModule;
+import com.sap.cloud.lm.sl.mta.model.ExtensionProvidedDependency;
+import com.sap.cloud.lm.sl.mta.model.ExtensionResource;
+import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.model.ModuleType;
+import com.sap.cloud.lm.sl.mta.model.Platform;
+import com.sap.cloud.lm.sl.mta.model.ProvidedDependency;
+import com.sap.cloud.lm.sl.mta.model.Resource;
+import com.sap.cloud.lm.sl.mta.model.ResourceType;
+
+/**
+ * Delegates the lookups of modules, resources, provided dependencies and types to a
+ * {@link com.sap.cloud.lm.sl.mta.handlers.v2.IndexedDescriptorHandler}. All other lookups of this handler are based on them.
+ */
+public class IndexedDescriptorHandler extends DescriptorHandler {
+
+    private final com.sap.cloud.lm.sl.mta.handlers.v2.IndexedDescriptorHandler indexedHandler =
+        new com.sap.cloud.lm.sl.mta.handlers.v2.IndexedDescriptorHandler();
+
+    @Override
+    public ResourceType findResourceType(Platform platform, String resourceTypeName) {
+        return indexedHandler.findResourceType(platform, resourceTypeName);
+    }
+
+    @Override
+    public ModuleType findModuleType(Platform platform, String moduleTypeName) {
+        return indexedHandler.findModuleType(platform, moduleTypeName);
+    }
+
+    @Override
+    public Resource findResource(DeploymentDescriptor descriptor, String resourceName) {
+        return indexedHandler.findResource(descriptor, resourceName);
+    }
+
+    @Override
+    public ExtensionResource findResource(ExtensionDescriptor descriptor, String resourceName) {
+        return indexedHandler.findResource(descriptor, resourceName);
+    }
+
+    @Override
+    public ProvidedDependency findProvidedDependency(DeploymentDescriptor descriptor, String providedDependencyName) {
+        return indexedHandler.findProvidedDependency(descriptor, providedDependencyName);
+    }
+
+    @Override
+    public ExtensionProvidedDependency findProvidedDependency(ExtensionDescriptor descriptor, String providedDependencyName) {
+        return indexedHandler.findProvidedDependency(descriptor, providedDependencyName);
+    }
+
+    @Override
+    public ExtensionModule findModule(ExtensionDescriptor descriptor, String moduleName) {
+        return indexedHandler.findModule(descriptor, moduleName);
+    }
+
+    @Override
+    public Module findModule(DeploymentDescriptor descriptor, String moduleName) {
+        return indexedHandler.findModule(descriptor, moduleName);
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.sap.cloud.lm.sl.mta.handlers.v3;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
 import org.apache.commons.collections4.ListUtils;
 
+import com.sap.cloud.lm.sl.mta.handlers.v2.ModuleDependencyGraph;
 import com.sap.cloud.lm.sl.mta.message.Messages;
 import com.sap.cloud.lm.sl.mta.model.Module;
 
+/**
+ * @deprecated this comparator is not a total order, the modules are sorted by their {@link ModuleDependencyGraph} instead
+ */
+@Deprecated
 public class ModuleComparator implements Comparator<Module> {
 
     @Override
@@ -16,8 +22,8 @@ public class ModuleComparator implements Comparator<Module> {
         List<String> module1DeployedAfter = ListUtils.emptyIfNull(module1.getDeployedAfter());
         List<String> module2DeployedAfter = ListUtils.emptyIfNull(module2.getDeployedAfter());
         if (circularDependencyExists(module1.getName(), module2.getName(), module1DeployedAfter, module2DeployedAfter)) {
-            throw new IllegalStateException(
-                MessageFormat.format(Messages.CIRCULAR_DEPLOYMENT_DEPENDENCIES_DETECTED, module1.getName(), module2.getName()));
+            throw new IllegalStateException(MessageFormat.format(Messages.CIRCULAR_DEPLOYMENT_DEPENDENCIES_DETECTED,
+                Arrays.asList(module1.getName(), module2.getName())));
         }
         if (module1DeployedAfter.contains(module2.getName())) {
             return +1;
@@ -1,10 +1,15 @@
 package com.sap.cloud.lm.sl.mta.handlers.v3;
 
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
-import com.sap.cloud.lm.sl.mta.builders.v2.ModuleDependenciesCollector;
+import com.sap.cloud.lm.sl.mta.builders.v3.ModuleDependenciesCollector;
+import com.sap.cloud.lm.sl.mta.handlers.v2.DeploymentPlan;
+import com.sap.cloud.lm.sl.mta.handlers.v2.ModuleDependencyGraph;
+import com.sap.cloud.lm.sl.mta.message.Messages;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
 
@@ -12,20 +17,39 @@ public class ModulesSorter extends com.sap.cloud.lm.sl.mta.handlers.v2.ModulesSo
 
     String parallelDeploymentsProperty;
 
+    public ModulesSorter(DeploymentDescriptor descriptor, String dependencyTypeProperty, String hardDependencyType,
+        String parallelDeploymentsProperty) {
+        super(descriptor, dependencyTypeProperty, hardDependencyType);
+        this.parallelDeploymentsProperty = parallelDeploymentsProperty;
+    }
+
+    /**
+     * @deprecated the handler is not used to sort the modules, use {@link #ModulesSorter(DeploymentDescriptor, String, String, String)}
+     *             instead
+     */
+    @Deprecated
     public ModulesSorter(DeploymentDescriptor descriptor, DescriptorHandler handler, String dependencyTypeProperty,
         String hardDependencyType, String parallelDeploymentsProperty) {
-        super(descriptor, handler, dependencyTypeProperty, hardDependencyType);
-        this.parallelDeploymentsProperty = parallelDeploymentsProperty;
+        this(descriptor, dependencyTypeProperty, hardDependencyType, parallelDeploymentsProperty);
+        this.handler = handler;
     }
 
     @Override
     public List<Module> sort() {
         if (hasDeployedAfter(descriptor)) {
-            return sortUsingDeployedAfter();
+            return getDeployedAfterGraph().sort(module -> false);
         }
         return super.sort();
     }
 
+    @Override
+    public DeploymentPlan plan(int maxParallelism) {
+        if (hasDeployedAfter(descriptor)) {
+            return getDeployedAfterGraph().plan(module -> false, maxParallelism);
+        }
+        return super.plan(maxParallelism);
+    }
+
     private boolean hasDeployedAfter(DeploymentDescriptor descriptorV3) {
         return isParallelDeploymentsEnabled(descriptorV3) || hasDeployedAfterAttribute(descriptorV3);
     }
@@ -45,31 +69,51 @@ public class ModulesSorter extends com.sap.cloud.lm.sl.mta.handlers.v2.ModulesSo
         return module.getDeployedAfter() != null;
     }
 
-    @Override
-    protected ModuleDependenciesCollector getDependenciesCollector() {
-        return new ModuleDependenciesCollector(descriptor, handler);
+    private ModuleDependencyGraph getDeployedAfterGraph() {
+        ModuleDependencyGraph dependencyGraph = ModuleDependencyGraph.ofDeployedAfter(descriptor.getModules());
+        validateCycles(dependencyGraph.getCycles());
+        ModuleDependenciesCollector dependenciesCollector = getDependenciesCollectorSupportingDeployedAfter();
+        descriptor.getModules()
+            .forEach(dependenciesCollector::collect);
+        return dependencyGraph;
     }
 
-    private List<Module> sortUsingDeployedAfter() {
-        List<Module> modules = new ArrayList<>(getModules());
-        modules.sort(getModuleComparator());
-        return modules;
+    private void validateCycles(List<List<Module>> cycles) {
+        if (!cycles.isEmpty()) {
+            List<List<String>> cycleNames = cycles.stream()
+                .map(ModulesSorter::getNames)
+                .collect(Collectors.toList());
+            throw new IllegalStateException(MessageFormat.format(Messages.CIRCULAR_DEPLOYMENT_DEPENDENCIES_DETECTED, format(cycleNames)));
+        }
     }
 
+    private ModuleDependenciesCollector getDependenciesCollectorSupportingDeployedAfter() {
+        return new ModuleDependenciesCollector(descriptor);
+    }
+
+    /**
+     * @deprecated the modules are sorted by their {@link ModuleDependencyGraph}, use {@link ModuleDependenciesCollector#collectAll()} to get
+     *             the dependencies of all modules
+     */
+    @Deprecated
     protected List<Module> getModules() {
         List<Module> modules = new ArrayList<>(descriptor.getModules());
         modules.forEach(this::collectDependencies);
         return modules;
     }
 
+    /**
+     * @deprecated use {@link ModuleDependenciesCollector#collect(Module)} instead
+     */
+    @Deprecated
     protected void collectDependencies(Module module) {
         getDependenciesCollectorSupportingDeployedAfter().collect(module);
     }
 
-    private ModuleDependenciesCollector getDependenciesCollectorSupportingDeployedAfter() {
-        return new com.sap.cloud.lm.sl.mta.builders.v3.ModuleDependenciesCollector(descriptor);
-    }
-
+    /**
+     * @deprecated the modules are sorted by their {@link ModuleDependencyGraph}, since the comparator is not a total order
+     */
+    @Deprecated
     protected Comparator<Module> getModuleComparator() {
         return new ModuleComparator();
     }
@@ -1,27 +1,41 @@
 package com.sap.cloud.lm.sl.mta.handlers.v3;
 
+import com.sap.cloud.lm.sl.mta.schema.CompiledSchema;
+import com.sap.cloud.lm.sl.mta.schema.Element.ElementBuilder;
 import com.sap.cloud.lm.sl.mta.schema.ListElement;
 import com.sap.cloud.lm.sl.mta.schema.MapElement;
 
 public class Schemas extends com.sap.cloud.lm.sl.mta.handlers.v2.Schemas {
 
     public static final MapElement MTAD = new MapElement();
-    public static final MapElement MODULE = new MapElement();
-    public static final MapElement REQUIRED_DEPENDENCY = new MapElement();
-    public static final MapElement RESOURCE_REQUIRED_DEPENDENCY = new MapElement();
-    public static final MapElement PROVIDED_DEPENDENCY = new MapElement();
-    public static final MapElement RESOURCE = new MapElement();
-    public static final MapElement HOOK = new MapElement();
+    public static final MapElement MODULE = new ElementBuilder().objectName("MTA module")
+        .buildMap();
+    public static final MapElement REQUIRED_DEPENDENCY = new ElementBuilder().objectName("MTA required dependency")
+        .buildMap();
+    public static final MapElement RESOURCE_REQUIRED_DEPENDENCY = new ElementBuilder().objectName("MTA required dependency")
+        .buildMap();
+    public static final MapElement PROVIDED_DEPENDENCY = new ElementBuilder().objectName("MTA provided dependency")
+        .buildMap();
+    public static final MapElement RESOURCE = new ElementBuilder().objectName("MTA resource")
+        .buildMap();
+    public static final MapElement HOOK = new ElementBuilder().objectName("MTA hook")
+        .buildMap();
 
-    public static final MapElement EXT_RESOURCE = new MapElement();
-    public static final MapElement EXT_HOOK = new MapElement();
+    public static final MapElement MTAEXT = new MapElement();
+    public static final MapElement EXT_MODULE = new ElementBuilder().objectName("MTA extension module")
+        .buildMap();
+    public static final MapElement EXT_RESOURCE = new ElementBuilder().objectName("MTA extension resource")
+        .buildMap();
+    public static final MapElement EXT_HOOK = new ElementBuilder().objectName("MTA extension hook")
+        .buildMap();
 
     static {
         MTAD.add("_schema-version", OBJECT_REQUIRED);
         MTAD.add("ID", NON_UNIQUE_MTA_IDENTIFIER);
         MTAD.add("version", STRING_REQUIRED);
         MTAD.add("modules", new ListElement(MODULE));
-        MTAD.add("resources", new ListElement(RESOURCE));
+        MTAD.add("resources", new ElementBuilder().uniqueScope(DEPENDENCIES_SCOPE)
+            .buildList(RESOURCE));
         MTAD.add("parameters", PROPERTIES);
         MTAD.add("parameters-metadata", PROPERTIES);
 
@@ -34,11 +48,14 @@ public class Schemas extends com.sap.cloud.lm.sl.mta.handlers.v2.Schemas {
         MODULE.add("parameters", PROPERTIES);
         MODULE.add("parameters-metadata", PROPERTIES);
         MODULE.add("requires", new ListElement(REQUIRED_DEPENDENCY));
-        MODULE.add("provides", new ListElement(PROVIDED_DEPENDENCY));
+        MODULE.add("provides", new ElementBuilder().uniqueScope(DEPENDENCIES_SCOPE)
+            .includesContainer(true)
+            .buildList(PROVIDED_DEPENDENCY));
         MODULE.add("deployed-after", new ListElement(STRING));
         MODULE.add("hooks", new ListElement(HOOK));
 
-        HOOK.add("name", UNIQUE_MTA_IDENTIFIER);
+        // Hook names have never been required to be unique within a module.
+        HOOK.add("name", NON_UNIQUE_MTA_IDENTIFIER);
         HOOK.add("type", STRING_REQUIRED);
         HOOK.add("phases", new ListElement(STRING_REQUIRED));
         HOOK.add("parameters", PROPERTIES);
@@ -76,6 +93,21 @@ public class Schemas extends com.sap.cloud.lm.sl.mta.handlers.v2.Schemas {
         RESOURCE.add("parameters-metadata", PROPERTIES);
         RESOURCE.add("requires", new ListElement(RESOURCE_REQUIRED_DEPENDENCY));
 
+        MTAEXT.add("_schema-version", OBJECT_REQUIRED);
+        MTAEXT.add("ID", NON_UNIQUE_MTA_IDENTIFIER);
+        MTAEXT.add("extends", STRING_REQUIRED);
+        MTAEXT.add("modules", new ListElement(EXT_MODULE));
+        MTAEXT.add("resources", new ListElement(EXT_RESOURCE));
+        MTAEXT.add("parameters", PROPERTIES);
+
+        EXT_MODULE.add("name", UNIQUE_MTA_IDENTIFIER);
+        EXT_MODULE.add("properties", PROPERTIES);
+        EXT_MODULE.add("parameters", PROPERTIES);
+        EXT_MODULE.add("requires", new ListElement(EXT_REQUIRED_DEPENDENCY));
+        EXT_MODULE.add("provides", new ElementBuilder().uniqueScope(EXT_PROVIDED_DEPENDENCIES_SCOPE)
+            .buildList(EXT_PROVIDED_DEPENDENCY));
+        EXT_MODULE.add("hooks", new ListElement(EXT_HOOK));
+
         EXT_RESOURCE.add("name", UNIQUE_MTA_IDENTIFIER);
         EXT_RESOURCE.add("active", BOOLEAN);
         EXT_RESOURCE.add("properties", PROPERTIES);
@@ -84,7 +116,11 @@ public class Schemas extends com.sap.cloud.lm.sl.mta.handlers.v2.Schemas {
 
         EXT_HOOK.add("name", UNIQUE_MTA_IDENTIFIER);
         EXT_HOOK.add("parameters", PROPERTIES);
-        EXT_HOOK.add("requires", new ListElement(REQUIRED_DEPENDENCY));
+        EXT_HOOK.add("requires", new ListElement(EXT_REQUIRED_DEPENDENCY));
     }
 
+    // The schemas are compiled only after they are built by the static initializer above:
+    public static final CompiledSchema COMPILED_MTAD = CompiledSchema.compile(MTAD);
+    public static final CompiledSchema COMPILED_MTAEXT = CompiledSchema.compile(MTAEXT);
+
 }
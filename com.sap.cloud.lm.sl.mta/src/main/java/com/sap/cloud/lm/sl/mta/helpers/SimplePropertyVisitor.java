@@ -1,7 +1,16 @@
 package com.sap.cloud.lm.sl.mta.helpers;
 
+import java.util.function.Supplier;
+
 public interface SimplePropertyVisitor {
 
     Object visit(String key, String value);
 
+    /**
+     * Visitors, which need the key only for some of the values, should override this method, so that it is built only for them.
+     */
+    default Object visit(Supplier<String> key, String value) {
+        return visit(key.get(), value);
+    }
+
 }
@@ -4,57 +4,119 @@ import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.getPrefixedName;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.function.Supplier;
 
+/**
+ * Visits the strings in an object, which consists of maps and collections. A map or a collection is copied only if the visitor changes a
+ * value in it, otherwise the original instance is returned. Copied maps keep the iteration order of the original ones. The key of a
+ * string is built only if the visitor asks for it. The key of the visited string is tracked during the traversal, so an instance should
+ * be used by a single thread at a time.
+ */
 public class VisitableObject {
 
     private final Object object;
+    private final List<Object> path = new ArrayList<>();
+    private final Supplier<String> currentKey = this::getCurrentKey;
+    private String rootKey;
 
     public VisitableObject(Object object) {
         this.object = object;
     }
 
     public Object accept(String key, SimplePropertyVisitor visitor) {
-        return accept(key, this.object, visitor);
+        this.rootKey = key;
+        this.path.clear();
+        return accept(this.object, visitor);
     }
 
     public Object accept(SimplePropertyVisitor visitor) {
-        return accept("", this.object, visitor);
+        return accept("", visitor);
+    }
+
+    /**
+     * @return a copy of the object, in which all maps and collections are copied, so that it does not share them with the original
+     */
+    public Object copy() {
+        return copy(this.object);
     }
 
     @SuppressWarnings("unchecked")
-    private Object accept(String key, Object value, SimplePropertyVisitor visitor) {
+    private Object accept(Object value, SimplePropertyVisitor visitor) {
         if (value instanceof Collection) {
-            return acceptInternal(key, (Collection<?>) value, visitor);
+            return acceptInternal((Collection<?>) value, visitor);
         } else if (value instanceof Map) {
-            return acceptInternal(key, (Map<String, ?>) value, visitor);
+            return acceptInternal((Map<String, ?>) value, visitor);
         } else if (value instanceof String) {
-            return acceptInternal(key, (String) (value), visitor);
+            return acceptInternal((String) (value), visitor);
         }
         return value;
     }
 
-    private Object acceptInternal(String key, Map<String, ?> value, SimplePropertyVisitor visitor) {
-        Map<String, Object> result = new TreeMap<>();
+    private Object acceptInternal(Map<String, ?> value, SimplePropertyVisitor visitor) {
+        Map<String, Object> result = null;
         for (Map.Entry<String, ?> entry : value.entrySet()) {
-            result.put(entry.getKey(), accept(getPrefixedName(key, entry.getKey()), entry.getValue(), visitor));
+            path.add(entry.getKey());
+            Object visitedValue = accept(entry.getValue(), visitor);
+            path.remove(path.size() - 1);
+            if (result == null && visitedValue != entry.getValue()) {
+                result = new LinkedHashMap<>(value);
+            }
+            if (result != null) {
+                result.put(entry.getKey(), visitedValue);
+            }
         }
-        return result;
+        return result == null ? value : result;
     }
 
-    private Object acceptInternal(String key, Collection<?> value, SimplePropertyVisitor visitor) {
-        List<Object> result = new ArrayList<>();
+    private Object acceptInternal(Collection<?> value, SimplePropertyVisitor visitor) {
+        List<Object> result = null;
         int i = 0;
         for (Object element : value) {
-            result.add(accept(getPrefixedName(key, Integer.toString(i++)), element, visitor));
+            path.add(i);
+            Object visitedElement = accept(element, visitor);
+            path.remove(path.size() - 1);
+            if (result == null && visitedElement != element) {
+                result = new ArrayList<>(value);
+            }
+            if (result != null) {
+                result.set(i, visitedElement);
+            }
+            i++;
+        }
+        return result == null ? value : result;
+    }
+
+    private Object acceptInternal(String value, SimplePropertyVisitor visitor) {
+        return visitor.visit(currentKey, value);
+    }
+
+    private String getCurrentKey() {
+        String key = rootKey;
+        for (Object segment : path) {
+            key = getPrefixedName(key, segment.toString());
         }
-        return result;
+        return key;
     }
 
-    private Object acceptInternal(String key, String value, SimplePropertyVisitor visitor) {
-        return visitor.visit(key, value);
+    @SuppressWarnings("unchecked")
+    private static Object copy(Object value) {
+        if (value instanceof Collection) {
+            List<Object> result = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                result.add(copy(element));
+            }
+            return result;
+        } else if (value instanceof Map) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (Map.Entry<String, ?> entry : ((Map<String, ?>) value).entrySet()) {
+                result.put(entry.getKey(), copy(entry.getValue()));
+            }
+            return result;
+        }
+        return value;
     }
 
-}
\ No newline at end of file
+}
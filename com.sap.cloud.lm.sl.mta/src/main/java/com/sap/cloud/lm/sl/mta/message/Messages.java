@@ -4,6 +4,9 @@ public class Messages {
 
     // Exception messages:
     public static final String ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT = "The size \"{0}\" of mta file \"{1}\" exceeds the configured max size limit \"{2}\"";
+    public static final String ERROR_SIZE_OF_ENTRY_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT = "The size of mta file \"{0}\" exceeds the configured max size limit \"{1}\"";
+    public static final String ERROR_SIZE_OF_ARCHIVE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT = "The size of the extracted mta archive content exceeds the configured max size limit \"{0}\"";
+    public static final String ERROR_COMPRESSION_RATIO_OF_FILE_EXCEEDS_CONFIGURED_LIMIT = "The compression ratio of mta file \"{0}\" exceeds the configured limit \"{1}\"";
     public static final String ERROR_RETRIEVING_MTA_MODULE_CONTENT = "Error retrieving content of MTA module \"{0}\"";
     public static final String ERROR_RETRIEVING_MTA_ARCHIVE_MANIFEST = "Error retrieving MTA archive manifest";
     public static final String REQUIRED_ELEMENT_IS_MISSING = "Required element \"{0}\" for object \"{1}\" is missing";
@@ -21,9 +24,24 @@ public class Messages {
     public static final String UNKNOWN_PROVIDED_DEPENDENCY_IN_MTAEXT = "Unknown provided dependency \"{0}\" for module \"{1}\" in extension descriptor \"{2}\"";
     public static final String UNKNOWN_RESOURCE_IN_MTAEXT = "Unknown resource \"{0}\" in extension descriptor \"{1}\"";
     public static final String UNABLE_TO_RESOLVE = "Unable to resolve \"{0}\"";
-    public static final String DETECTED_CIRCULAR_REFERENCE = "Circular reference detected in \"{0}\"";
+    public static final String DETECTED_CIRCULAR_REFERENCE = "Circular reference detected in \"{0}\": {1}";
+    public static final String MULTIPLE_REFERENCES_CANNOT_BE_RESOLVED = "{0} references cannot be resolved: {1}";
+    public static final String ERROR_RESOLVING_DESCRIPTOR = "Error while resolving the descriptor";
     public static final String CANNOT_FIND_ARCHIVE_ENTRY = "Cannot find archive entry \"{0}\"";
+    public static final String ARCHIVE_ENTRY_PRECEDES_MANIFEST = "Archive entry \"{0}\" precedes the manifest, which has to be the first file in the archive";
     public static final String ERROR_RETRIEVING_ARCHIVE_ENTRY = "Error while retrieving archive entry \"{0}\"";
+    public static final String ERROR_READING_ARCHIVE_ENTRIES = "Error while reading archive entries";
+    public static final String ERROR_COMPUTING_ARCHIVE_DIGEST = "Error while computing the digest of archive \"{0}\"";
+    public static final String ERROR_COMPUTING_ARCHIVE_DIGESTS = "Error while computing the digests of archive entries";
+    public static final String CANNOT_COMPARE_DIGESTS_COMPUTED_WITH_DIFFERENT_ALGORITHMS = "Cannot compare digests computed with different algorithms \"{0}\" and \"{1}\"";
+    public static final String ERROR_LOADING_ARCHIVE_METADATA = "Error while loading archive metadata";
+    public static final String INVALID_ARCHIVE_CENTRAL_DIRECTORY = "Invalid archive, the central directory is missing or corrupted";
+    public static final String INVALID_LOCAL_HEADER_FOR_ARCHIVE_ENTRY = "Invalid local header for archive entry \"{0}\"";
+    public static final String INVALID_SIZE_OF_ARCHIVE_ENTRY = "Invalid archive entry \"{0}\", its size \"{1}\" does not match the size \"{2}\" declared in the central directory";
+    public static final String INVALID_CHECKSUM_OF_ARCHIVE_ENTRY = "Invalid archive entry \"{0}\", its CRC-32 checksum does not match the one declared in the central directory";
+    public static final String UNSUPPORTED_COMPRESSION_METHOD_FOR_ARCHIVE_ENTRY = "Unsupported compression method \"{0}\" for archive entry \"{1}\"";
+    public static final String ARCHIVE_ENTRY_TOO_LARGE_FOR_BUFFER = "Archive entry \"{0}\" with size \"{1}\" is too large to be read into a buffer";
+    public static final String ARCHIVE_ENTRY_CANNOT_BE_MAPPED = "Archive entry \"{0}\" cannot be mapped, because it is compressed or is not read from a file";
     public static final String NULL_VALUE_FOR_KEY = "Null value for key \"{0}\"";
     public static final String MISSING_REQUIRED_KEY = "Missing required key \"{0}\"";
     public static final String ERROR_EMPTY_DEPLOYMENT_DESCRIPTOR = "Empty deployment descriptor";
@@ -39,8 +57,9 @@ public class Messages {
     public static final String CANNOT_MODIFY_ELEMENT = "Cannot modify {0} \"{1}\" in extension descriptor \"{2}\"";
     public static final String UNSUPPORTED_VERSION = "Version \"{0}\" is not supported";
     public static final String COULD_NOT_FIND_REQUIRED_PROPERTY = "Could not find required property \"{0}\"";
-    public static final String MULTIPLE_HARD_MODULES_DETECTED = "Modules, \"{0}\" and \"{1}\", have hard circular dependencies";
-    public static final String CIRCULAR_DEPLOYMENT_DEPENDENCIES_DETECTED = "Modules, \"{0}\" and \"{1}\", both depend on each others for deployment";
+    public static final String MULTIPLE_HARD_MODULES_DETECTED = "Modules have hard circular dependencies: {0}";
+    public static final String CIRCULAR_DEPLOYMENT_DEPENDENCIES_DETECTED = "Modules depend on each other for deployment: {0}";
+    public static final String INVALID_MAX_PARALLELISM = "Invalid maximum parallelism {0}, it must be at least 1";
     public static final String ILLEGAL_REFERENCES_DETECTED = "Module \"{0}\" does not contain a required dependency for \"{1}\", but contains references to its properties";
     public static final String COULD_NOT_FIND_ELEMENT_IN_SCHEMA = "Could not find element \"{0}\" in schema for {1}";
     public static final String MANDATORY_ELEMENT_HAS_NO_VALUE = "The {0} \"{1}\" is not optional and has no value.";
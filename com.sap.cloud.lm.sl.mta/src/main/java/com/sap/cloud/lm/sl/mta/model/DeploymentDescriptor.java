@@ -32,6 +32,7 @@ public class DeploymentDescriptor extends VersionedEntity implements Descriptor,
     @YamlElement(DeploymentDescriptorParser.PARAMETERS_METADATA)
     @YamlAdapter(MetadataConverter.class)
     private Metadata parametersMetadata = Metadata.DEFAULT_METADATA;
+    private transient volatile int modificationCount;
 
     // Required by Jackson.
     protected DeploymentDescriptor() {
@@ -55,7 +56,7 @@ public class DeploymentDescriptor extends VersionedEntity implements Descriptor,
         copy.schemaVersion = original.schemaVersion;
         copy.id = original.id;
         copy.version = original.version;
-        copy.modules = copyModules(original.modules);
+        copy.setModules(copyModules(original.modules));
         copy.resources = copyResources(original.resources);
         copy.parameters = new TreeMap<>(original.parameters);
         copy.parametersMetadata = original.parametersMetadata;
@@ -103,6 +104,18 @@ public class DeploymentDescriptor extends VersionedEntity implements Descriptor,
         return parametersMetadata;
     }
 
+    /**
+     * @return how many times the modules, the resources or the provided dependencies of a module were replaced through their setters, so
+     *         that the indexes built for the descriptor can tell whether they are out of date
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    void incrementModificationCount() {
+        modificationCount++;
+    }
+
     public DeploymentDescriptor setSchemaVersion(String schemaVersion) {
         this.schemaVersion = ObjectUtils.defaultIfNull(schemaVersion, this.schemaVersion);
         return this;
@@ -120,11 +133,14 @@ public class DeploymentDescriptor extends VersionedEntity implements Descriptor,
 
     public DeploymentDescriptor setModules(List<Module> modules) {
         this.modules = ObjectUtils.defaultIfNull(modules, this.modules);
+        this.modules.forEach(module -> module.setOwner(this));
+        incrementModificationCount();
         return this;
     }
 
     public DeploymentDescriptor setResources(List<Resource> resources) {
         this.resources = ObjectUtils.defaultIfNull(resources, this.resources);
+        incrementModificationCount();
         return this;
     }
 
@@ -25,6 +25,7 @@ public class ExtensionDescriptor extends VersionedEntity implements Descriptor,
     private List<ExtensionResource> resources = Collections.emptyList();
     @YamlElement(ExtensionDescriptorParser.PARAMETERS)
     private Map<String, Object> parameters = Collections.emptyMap();
+    private transient volatile int modificationCount;
 
     // Required by Jackson.
     protected ExtensionDescriptor() {
@@ -67,6 +68,18 @@ public class ExtensionDescriptor extends VersionedEntity implements Descriptor,
         return parameters;
     }
 
+    /**
+     * @return how many times the modules, the resources or the provided dependencies of a module were replaced through their setters, so
+     *         that the indexes built for the descriptor can tell whether they are out of date
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    void incrementModificationCount() {
+        modificationCount++;
+    }
+
     public ExtensionDescriptor setSchemaVersion(String schemaVersion) {
         this.schemaVersion = ObjectUtils.defaultIfNull(schemaVersion, this.schemaVersion);
         return this;
@@ -84,11 +97,14 @@ public class ExtensionDescriptor extends VersionedEntity implements Descriptor,
 
     public ExtensionDescriptor setModules(List<ExtensionModule> modules) {
         this.modules = ObjectUtils.defaultIfNull(modules, this.modules);
+        this.modules.forEach(module -> module.setOwner(this));
+        incrementModificationCount();
         return this;
     }
 
     public ExtensionDescriptor setResources(List<ExtensionResource> resources) {
         this.resources = ObjectUtils.defaultIfNull(resources, this.resources);
+        incrementModificationCount();
         return this;
     }
 
@@ -24,6 +24,8 @@ public class ExtensionModule extends VersionedEntity implements VisitableElement
     private List<ExtensionProvidedDependency> providedDependencies = Collections.emptyList();
     @YamlElement(ModuleParser.HOOKS)
     private List<ExtensionHook> hooks = Collections.emptyList();
+    // The descriptor, whose indexes are invalidated when the provided dependencies are replaced.
+    private transient ExtensionDescriptor owner;
 
     // Required by Jackson.
     protected ExtensionModule() {
@@ -88,6 +90,9 @@ public class ExtensionModule extends VersionedEntity implements VisitableElement
 
     public ExtensionModule setProvidedDependencies(List<ExtensionProvidedDependency> providedDependencies) {
         this.providedDependencies = ObjectUtils.defaultIfNull(providedDependencies, this.providedDependencies);
+        if (owner != null) {
+            owner.incrementModificationCount();
+        }
         return this;
     }
 
@@ -96,6 +101,10 @@ public class ExtensionModule extends VersionedEntity implements VisitableElement
         return this;
     }
 
+    void setOwner(ExtensionDescriptor owner) {
+        this.owner = owner;
+    }
+
     @Override
     public void accept(ElementContext context, Visitor visitor) {
         visitor.visit(context, this);
@@ -43,6 +43,8 @@ public class Module extends VersionedEntity
     private List<String> deployedAfter;
     @YamlElement(ModuleParser.HOOKS)
     private List<Hook> hooks = Collections.emptyList();
+    // The descriptor, whose indexes are invalidated when the provided dependencies are replaced.
+    private transient DeploymentDescriptor owner;
 
     // Required by Jackson.
     protected Module() {
@@ -192,6 +194,9 @@ public class Module extends VersionedEntity
 
     public Module setProvidedDependencies(List<ProvidedDependency> providedDependencies) {
         this.providedDependencies = ObjectUtils.defaultIfNull(providedDependencies, this.providedDependencies);
+        if (owner != null) {
+            owner.incrementModificationCount();
+        }
         return this;
     }
 
@@ -221,6 +226,10 @@ public class Module extends VersionedEntity
         return this;
     }
 
+    void setOwner(DeploymentDescriptor owner) {
+        this.owner = owner;
+    }
+
     @Override
     public void accept(ElementContext context, Visitor visitor) {
         visitor.visit(context, this);
@@ -12,6 +12,7 @@ public class Platform implements VisitableElement, NamedElement, ParametersConta
     private List<ModuleType> moduleTypes = Collections.emptyList();
     private List<ResourceType> resourceTypes = Collections.emptyList();
     private Map<String, Object> parameters = Collections.emptyMap();
+    private transient volatile int modificationCount;
 
     @Override
     public String getName() {
@@ -30,6 +31,14 @@ public class Platform implements VisitableElement, NamedElement, ParametersConta
         return parameters;
     }
 
+    /**
+     * @return how many times the module types or the resource types were replaced through their setters, so that the indexes built for the
+     *         platform can tell whether they are out of date
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     public Platform setName(String name) {
         this.name = ObjectUtils.defaultIfNull(name, this.name);
         return this;
@@ -37,11 +46,13 @@ public class Platform implements VisitableElement, NamedElement, ParametersConta
 
     public Platform setModuleTypes(List<ModuleType> moduleTypes) {
         this.moduleTypes = ObjectUtils.defaultIfNull(moduleTypes, this.moduleTypes);
+        modificationCount++;
         return this;
     }
 
     public Platform setResourceTypes(List<ResourceType> resourceTypes) {
         this.resourceTypes = ObjectUtils.defaultIfNull(resourceTypes, this.resourceTypes);
+        modificationCount++;
         return this;
     }
 
@@ -2,10 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v2.Schemas.PLATFORM;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.ModuleType;
@@ -22,9 +20,6 @@ public class PlatformParser extends ModelParser<Platform> {
     public static final String RESOURCE_TYPES = "resource-types";
     public static final String PARAMETERS = "parameters";
 
-    protected final Set<String> usedModuleTypeNames = new HashSet<>();
-    protected final Set<String> usedResourceTypeNames = new HashSet<>();
-
     public PlatformParser(Map<String, Object> source) {
         this(PLATFORM, source);
     }
@@ -49,8 +44,7 @@ public class PlatformParser extends ModelParser<Platform> {
         return getListElement(MODULE_TYPES, new ListParser<ModuleType>() {
             @Override
             protected ModuleType parseItem(Map<String, Object> map) {
-                return getModuleTypeParser(map).setUsedValues(usedModuleTypeNames)
-                    .parse();
+                return getModuleTypeParser(map).parse();
             }
         });
     }
@@ -63,8 +57,7 @@ public class PlatformParser extends ModelParser<Platform> {
         return getListElement(RESOURCE_TYPES, new ListParser<ResourceType>() {
             @Override
             protected ResourceType parseItem(Map<String, Object> map) {
-                return getResourceTypeParser(map).setUsedValues(usedResourceTypeNames)
-                    .parse();
+                return getResourceTypeParser(map).parse();
             }
         });
     }
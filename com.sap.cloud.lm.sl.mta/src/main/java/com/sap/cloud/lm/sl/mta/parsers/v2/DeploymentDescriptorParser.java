@@ -2,10 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v2;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v2.Schemas.MTAD;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
@@ -26,9 +24,6 @@ public class DeploymentDescriptorParser extends ModelParser<DeploymentDescriptor
     public static final String PARAMETERS = "parameters";
     public static final String SCHEMA_VERSION = "_schema-version";
 
-    protected final Set<String> usedModuleNames = new HashSet<>();
-    protected final Set<String> usedDependencyNames = new HashSet<>();
-
     public DeploymentDescriptorParser(Map<String, Object> source) {
         this(MTAD, source);
     }
@@ -67,9 +62,7 @@ public class DeploymentDescriptorParser extends ModelParser<DeploymentDescriptor
         return getListElement(MODULES, new ListParser<Module>() {
             @Override
             protected Module parseItem(Map<String, Object> map) {
-                return getModuleParser(map).setUsedProvidedDependencyNames(usedDependencyNames)
-                    .setUsedValues(usedModuleNames)
-                    .parse();
+                return getModuleParser(map).parse();
             }
         });
     }
@@ -82,8 +75,7 @@ public class DeploymentDescriptorParser extends ModelParser<DeploymentDescriptor
         return getListElement(RESOURCES, new ListParser<Resource>() {
             @Override
             protected Resource parseItem(Map<String, Object> map) {
-                return getResourceParser(map).setUsedValues(usedDependencyNames)
-                    .parse();
+                return getResourceParser(map).parse();
             }
         });
     }
@@ -2,10 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v2;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v2.Schemas.MTAEXT;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
@@ -26,10 +24,6 @@ public class ExtensionDescriptorParser extends ModelParser<ExtensionDescriptor>
     public static final String PROPERTIES = "properties";
     public static final String PARAMETERS = "parameters";
 
-    protected final Set<String> usedModuleNames = new HashSet<>();
-    protected final Set<String> usedProvidedDependencyNames = new HashSet<>();
-    protected final Set<String> usedResourceNames = new HashSet<>();
-
     public ExtensionDescriptorParser(Map<String, Object> source) {
         this(MTAEXT, source);
     }
@@ -68,9 +62,7 @@ public class ExtensionDescriptorParser extends ModelParser<ExtensionDescriptor>
         return getListElement(MODULES, new ListParser<ExtensionModule>() {
             @Override
             protected ExtensionModule parseItem(Map<String, Object> map) {
-                return getModuleParser(map).setUsedProvidedDependencyNames(usedProvidedDependencyNames)
-                    .setUsedValues(usedModuleNames)
-                    .parse();
+                return getModuleParser(map).parse();
             }
         });
     }
@@ -83,8 +75,7 @@ public class ExtensionDescriptorParser extends ModelParser<ExtensionDescriptor>
         return getListElement(RESOURCES, new ListParser<ExtensionResource>() {
             @Override
             protected ExtensionResource parseItem(Map<String, Object> map) {
-                return getResourceParser(map).setUsedValues(usedResourceNames)
-                    .parse();
+                return getResourceParser(map).parse();
             }
         });
     }
@@ -2,11 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v2;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v2.Schemas.EXT_MODULE;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.ExtensionModule;
@@ -26,9 +23,6 @@ public class ExtensionModuleParser extends ModelParser<ExtensionModule> {
     public static final String PROVIDES = "provides";
     public static final String REQUIRES = "requires";
 
-    protected Set<String> usedProvidedDependencyNames = Collections.emptySet();
-    protected Set<String> usedRequiredDependencyNames = new HashSet<>();
-
     public ExtensionModuleParser(Map<String, Object> source) {
         this(EXT_MODULE, source);
     }
@@ -66,23 +60,16 @@ public class ExtensionModuleParser extends ModelParser<ExtensionModule> {
         return getListElement(REQUIRES, new ListParser<ExtensionRequiredDependency>() {
             @Override
             protected ExtensionRequiredDependency parseItem(Map<String, Object> map) {
-                return getRequiredDependencyParser(map).setUsedValues(usedRequiredDependencyNames)
-                    .parse();
+                return getRequiredDependencyParser(map).parse();
             }
         });
     }
 
-    public ExtensionModuleParser setUsedProvidedDependencyNames(Set<String> usedProvidedDependencyNames) {
-        this.usedProvidedDependencyNames = usedProvidedDependencyNames;
-        return this;
-    }
-
     protected List<ExtensionProvidedDependency> getExtensionProvidedDependencies() {
         return getListElement(PROVIDES, new ListParser<ExtensionProvidedDependency>() {
             @Override
             protected ExtensionProvidedDependency parseItem(Map<String, Object> map) {
-                return getProvidedDependencyParser(map).setUsedValues(usedProvidedDependencyNames)
-                    .parse();
+                return getProvidedDependencyParser(map).parse();
             }
         });
     }
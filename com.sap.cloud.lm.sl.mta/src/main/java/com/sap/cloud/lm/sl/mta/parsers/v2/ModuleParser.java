@@ -2,11 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v2;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v2.Schemas.MODULE;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
@@ -31,9 +28,6 @@ public class ModuleParser extends ModelParser<Module> {
     public static final String REQUIRES = "requires";
     public static final String PROVIDES = "provides";
 
-    protected Set<String> usedProvidedDependencyNames = Collections.emptySet();
-    protected final Set<String> usedRequiredDependencyNames = new HashSet<>();
-
     public ModuleParser(Map<String, Object> source) {
         this(MODULE, source);
     }
@@ -42,11 +36,6 @@ public class ModuleParser extends ModelParser<Module> {
         super(PROCESSED_OBJECT_NAME, schema, source);
     }
 
-    public ModuleParser setUsedProvidedDependencyNames(Set<String> usedProvidedDependencyNames) {
-        this.usedProvidedDependencyNames = usedProvidedDependencyNames;
-        return this;
-    }
-
     @Override
     public Module parse() throws ParsingException {
         return createEntity().setName(getDescription())
@@ -91,8 +80,7 @@ public class ModuleParser extends ModelParser<Module> {
         List<ProvidedDependency> providedDependencies = getListElement(PROVIDES, new ListParser<ProvidedDependency>() {
             @Override
             protected ProvidedDependency parseItem(Map<String, Object> map) {
-                return getProvidedDependencyParser(map).setUsedValues(usedProvidedDependencyNames)
-                    .parse();
+                return getProvidedDependencyParser(map).parse();
             }
         });
         return getAllProvidedDependencies(providedDependencies);
@@ -121,16 +109,14 @@ public class ModuleParser extends ModelParser<Module> {
     protected ProvidedDependency getCurrentModuleAsProvidedDependency() {
         Map<String, Object> currentModule = new TreeMap<>();
         currentModule.put(NAME, getName());
-        return getProvidedDependencyParser(currentModule).setUsedValues(usedProvidedDependencyNames)
-            .parse();
+        return getProvidedDependencyParser(currentModule).parse();
     }
 
     protected List<RequiredDependency> getRequiredDependencies() {
         return getListElement(REQUIRES, new ListParser<RequiredDependency>() {
             @Override
             protected RequiredDependency parseItem(Map<String, Object> map) {
-                return getRequiredDependencyParser(map).setUsedValues(usedRequiredDependencyNames)
-                    .parse();
+                return getRequiredDependencyParser(map).parse();
             }
         });
     }
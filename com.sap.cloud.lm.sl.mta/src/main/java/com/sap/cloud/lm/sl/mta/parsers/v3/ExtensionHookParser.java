@@ -2,10 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v3;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v3.Schemas.EXT_HOOK;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.ExtensionHook;
@@ -22,8 +20,6 @@ public class ExtensionHookParser extends ModelParser<ExtensionHook> {
     public static final String PARAMETERS = "parameters";
     public static final String REQUIRES = "requires";
 
-    protected final Set<String> usedRequiredDependencyNames = new HashSet<>();
-
     public ExtensionHookParser(Map<String, Object> source) {
         this(EXT_HOOK, source);
     }
@@ -44,8 +40,7 @@ public class ExtensionHookParser extends ModelParser<ExtensionHook> {
         return getListElement(REQUIRES, new ListParser<ExtensionRequiredDependency>() {
             @Override
             protected ExtensionRequiredDependency parseItem(Map<String, Object> map) {
-                return getRequiredDependencyParser(map).setUsedValues(usedRequiredDependencyNames)
-                    .parse();
+                return getRequiredDependencyParser(map).parse();
             }
         });
     }
@@ -1,6 +1,6 @@
 package com.sap.cloud.lm.sl.mta.parsers.v3;
 
-import static com.sap.cloud.lm.sl.mta.handlers.v2.Schemas.EXT_MODULE;
+import static com.sap.cloud.lm.sl.mta.handlers.v3.Schemas.EXT_MODULE;
 
 import java.util.List;
 import java.util.Map;
@@ -34,8 +34,7 @@ public class ExtensionModuleParser extends com.sap.cloud.lm.sl.mta.parsers.v2.Ex
         return getListElement(HOOKS, new ListParser<ExtensionHook>() {
             @Override
             protected ExtensionHook parseItem(Map<String, Object> map) {
-                return getHookParse(map).setUsedValues(usedRequiredDependencyNames)
-                    .parse();
+                return getHookParse(map).parse();
             }
         });
     }
@@ -2,10 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v3;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v3.Schemas.EXT_RESOURCE;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.ExtensionRequiredDependency;
@@ -18,7 +16,6 @@ public class ExtensionResourceParser extends com.sap.cloud.lm.sl.mta.parsers.v2.
 
     public static final String ACTIVE = "active";
     public static final String REQUIRES = "requires";
-    protected final Set<String> usedRequiredDependencyNames = new HashSet<>();
 
     public ExtensionResourceParser(Map<String, Object> source) {
         super(EXT_RESOURCE, source);
@@ -47,9 +44,7 @@ public class ExtensionResourceParser extends com.sap.cloud.lm.sl.mta.parsers.v2.
         return getListElement(REQUIRES, new ListParser<ExtensionRequiredDependency>() {
             @Override
             protected ExtensionRequiredDependency parseItem(Map<String, Object> map) {
-                ExtensionRequiredDependencyParser parser = getRequiredDependencyParser(map);
-                parser.setUsedValues(usedRequiredDependencyNames);
-                return parser.parse();
+                return getRequiredDependencyParser(map).parse();
             }
         });
     }
@@ -2,10 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v3;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v3.Schemas.HOOK;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.Hook;
@@ -24,8 +22,6 @@ public class HookParser extends ModelParser<Hook> {
     public static final String PARAMETERS = "parameters";
     public static final String REQUIRES = "requires";
 
-    protected final Set<String> usedRequiredDependencyNames = new HashSet<>();
-
     public HookParser(Map<String, Object> source) {
         this(HOOK, source);
     }
@@ -52,8 +48,7 @@ public class HookParser extends ModelParser<Hook> {
         return getListElement(REQUIRES, new ListParser<RequiredDependency>() {
             @Override
             protected RequiredDependency parseItem(Map<String, Object> map) {
-                return getRequiredDependencyParser(map).setUsedValues(usedRequiredDependencyNames)
-                    .parse();
+                return getRequiredDependencyParser(map).parse();
             }
         });
     }
@@ -2,10 +2,8 @@ package com.sap.cloud.lm.sl.mta.parsers.v3;
 
 import static com.sap.cloud.lm.sl.mta.handlers.v3.Schemas.RESOURCE;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
 import com.sap.cloud.lm.sl.mta.model.Metadata;
@@ -22,8 +20,6 @@ public class ResourceParser extends com.sap.cloud.lm.sl.mta.parsers.v2.ResourceP
     public static final String REQUIRES = "requires";
     public static final String OPTIONAL = "optional";
 
-    protected final Set<String> usedRequiredDependencyNames = new HashSet<>();
-
     public ResourceParser(Map<String, Object> source) {
         super(RESOURCE, source);
     }
@@ -62,9 +58,7 @@ public class ResourceParser extends com.sap.cloud.lm.sl.mta.parsers.v2.ResourceP
         return getListElement(REQUIRES, new ListParser<RequiredDependency>() {
             @Override
             protected RequiredDependency parseItem(Map<String, Object> map) {
-                RequiredDependencyParser parser = getRequiredDependencyParser(map);
-                parser.setUsedValues(usedRequiredDependencyNames);
-                return parser.parse();
+                return getRequiredDependencyParser(map).parse();
             }
         });
     }
@@ -0,0 +1,40 @@
+package com.sap.cloud.lm.sl.mta.resolvers;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.sap.cloud.lm.sl.common.SLException;
+import com.sap.cloud.lm.sl.common.util.ConcurrentUtil;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+
+public final class ConcurrentResolver {
+
+    private ConcurrentResolver() {
+    }
+
+    /**
+     * Resolves each element in a separate task of the given executor, or one after another, if there is no executor. The resolved elements
+     * are returned in the order of the original ones, regardless of the order in which the tasks finish. The caller waits for the tasks, so
+     * it should not be running in a bounded executor, which is also used for them.
+     */
+    public static <T, R> List<R> resolveAll(List<T> elements, Function<T, R> resolver, ExecutorService executor) throws SLException {
+        if (executor == null) {
+            return elements.stream()
+                .map(resolver)
+                .collect(Collectors.toList());
+        }
+        AtomicBoolean isCancelled = new AtomicBoolean();
+        List<Future<R>> tasks = elements.stream()
+            .map(element -> executor.submit(() -> isCancelled.get() ? null : resolver.apply(element)))
+            .collect(Collectors.toList());
+        // All tasks are waited for, so that none of them is still modifying an element of the descriptor when a failure is reported. They
+        // are not interrupted, since the resolvers do not check for interrupts and an element could be left half resolved.
+        return ConcurrentUtil.waitForAll(tasks, isCancelled, Messages.ERROR_RESOLVING_DESCRIPTOR);
+    }
+
+
+}
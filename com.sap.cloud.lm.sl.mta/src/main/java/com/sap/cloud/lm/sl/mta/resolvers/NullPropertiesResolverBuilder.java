@@ -6,7 +6,7 @@ public class NullPropertiesResolverBuilder extends ResolverBuilder {
 
     @Override
     public PropertiesResolver build(Map<String, Object> properties, ProvidedValuesResolver valuesResolver,
-        ReferencePattern patternToMatch, String prefix, Boolean isStrict) {
+        ReferencePattern patternToMatch, String prefix, Boolean isStrict, ResolutionCache resolutionCache) {
         return new NullPropertiesResolver(properties);
     }
 
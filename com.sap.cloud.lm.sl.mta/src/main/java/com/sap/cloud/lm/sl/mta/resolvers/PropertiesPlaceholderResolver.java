@@ -7,14 +7,20 @@ import java.util.Map;
 public class PropertiesPlaceholderResolver {
 
     protected final ResolverBuilder propertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public PropertiesPlaceholderResolver(ResolverBuilder propertiesResolverBuilder) {
+        this(propertiesResolverBuilder, new ResolutionCache());
+    }
+
+    public PropertiesPlaceholderResolver(ResolverBuilder propertiesResolverBuilder, ResolutionCache resolutionCache) {
         this.propertiesResolverBuilder = propertiesResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     public Map<String, Object> resolve(Map<String, Object> properties, final Map<String, Object> replacementValues, String prefix) {
         ProvidedValuesResolver valuesResolver = irrelevant -> replacementValues;
-        return propertiesResolverBuilder.build(properties, valuesResolver, PLACEHOLDER, prefix, true)
+        return propertiesResolverBuilder.build(properties, valuesResolver, PLACEHOLDER, prefix, true, resolutionCache)
             .resolve();
     }
 
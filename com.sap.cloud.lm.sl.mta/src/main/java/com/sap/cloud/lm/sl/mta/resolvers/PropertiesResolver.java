@@ -4,9 +4,12 @@ import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.getPrefixedName;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,11 +24,14 @@ import com.sap.cloud.lm.sl.mta.message.Messages;
 
 public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<String, Object>> {
 
+    private static final Pattern REFERENCE_PARTS_PATTERN = Pattern.compile("([^/]+)/?");
+
     private Map<String, Object> properties;
     private String prefix;
     private ProvidedValuesResolver valuesResolver;
     private ReferencePattern referencePattern;
     private boolean isStrict;
+    private ResolutionCache resolutionCache;
     private ResolutionContext resolutionContext;
 
     public PropertiesResolver() {
@@ -39,11 +45,17 @@ public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<S
 
     public PropertiesResolver(Map<String, Object> properties, ProvidedValuesResolver valuesResolver, ReferencePattern referencePattern,
         String prefix, boolean isStrict) {
+        this(properties, valuesResolver, referencePattern, prefix, isStrict, new ResolutionCache());
+    }
+
+    public PropertiesResolver(Map<String, Object> properties, ProvidedValuesResolver valuesResolver, ReferencePattern referencePattern,
+        String prefix, boolean isStrict, ResolutionCache resolutionCache) {
         this.properties = properties;
         this.prefix = prefix;
         this.referencePattern = referencePattern;
         this.isStrict = isStrict;
         this.valuesResolver = valuesResolver;
+        this.resolutionCache = resolutionCache;
     }
 
     @SuppressWarnings("unchecked")
@@ -62,35 +74,69 @@ public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<S
 
     @Override
     public Object visit(String key, String value) {
-        if (resolutionContext != null) {
-            resolutionContext.addToReferencedKeys(key);
+        return visit(() -> key, value);
+    }
+
+    @Override
+    public Object visit(Supplier<String> key, String value) {
+        if (resolutionContext != null || !resolutionCache.collectsFailures()) {
+            return resolveReferences(key, value);
+        }
+        try {
+            return resolveReferences(key, value);
+        } catch (ContentException e) {
+            resolutionCache.addFailure(e);
+            return value;
         }
-        return resolveReferences(key, value);
     }
 
-    private Object resolveReferences(String key, String value) {
+    private Object resolveReferences(Supplier<String> key, String value) {
         List<Reference> references = detectReferences(value);
+        if (references.isEmpty()) {
+            return value;
+        }
         if (isSimpleReference(value, references)) {
             return resolveReferenceInContext(key, references.get(0));
         }
-        StringBuilder result = new StringBuilder(value);
-        for (Reference reference : references) {
-            result = resolveReferenceInPlace(key, result, reference);
-            if (result == null) {
+        String[] resolvedReferences = new String[references.size()];
+        int resultLength = value.length();
+        for (int i = 0; i < resolvedReferences.length; i++) {
+            Reference reference = references.get(i);
+            Object resolvedReference = resolveReferenceInContext(key, reference);
+            if (resolvedReference == null) {
                 return null;
             }
+            resolvedReferences[i] = resolvedReference.toString();
+            resultLength += resolvedReferences[i].length() - reference.getMatchedPattern()
+                .length();
+        }
+        return substituteReferences(value, references, resolvedReferences, resultLength);
+    }
+
+    /**
+     * Builds the result in a single pass from left to right, so that each reference is replaced exactly where it was matched, even if
+     * the value of a previous reference contains the same pattern.
+     */
+    private String substituteReferences(String value, List<Reference> references, String[] resolvedReferences, int resultLength) {
+        StringBuilder result = new StringBuilder(resultLength);
+        int copiedUntil = 0;
+        for (int i = 0; i < resolvedReferences.length; i++) {
+            String matchedPattern = references.get(i)
+                .getMatchedPattern();
+            int patternStartIndex = getStartIndex(value, references.get(i), copiedUntil);
+            result.append(value, copiedUntil, patternStartIndex)
+                .append(resolvedReferences[i]);
+            copiedUntil = patternStartIndex + matchedPattern.length();
         }
-        return result.toString();
+        return result.append(value, copiedUntil, value.length())
+            .toString();
     }
 
-    private StringBuilder resolveReferenceInPlace(String key, StringBuilder value, Reference reference) {
-        String matchedPattern = reference.getMatchedPattern();
-        int patternStartIndex = value.indexOf(matchedPattern);
-        Object resolvedReference = resolveReferenceInContext(key, reference);
-        if (resolvedReference != null) {
-            return value.replace(patternStartIndex, patternStartIndex + matchedPattern.length(), resolvedReference.toString());
+    private int getStartIndex(String value, Reference reference, int fromIndex) {
+        if (reference.getStartIndex() != -1) {
+            return reference.getStartIndex();
         }
-        return null;
+        return value.indexOf(reference.getMatchedPattern(), fromIndex);
     }
 
     private boolean isSimpleReference(String value, List<Reference> references) {
@@ -99,22 +145,21 @@ public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<S
             .length();
     }
 
-    protected Object resolveReferenceInContext(String key, Reference reference) {
-        boolean resolutionContextWasCreated = false;
-        if (resolutionContext == null) {
-            resolutionContext = new ResolutionContext(getPrefixedName(prefix, key));
-            resolutionContextWasCreated = true;
+    protected Object resolveReferenceInContext(Supplier<String> key, Reference reference) {
+        if (resolutionContext != null) {
+            return resolveReference(reference);
         }
-        Object resolvedValue = resolveReference(reference);
-        if (resolutionContextWasCreated) {
+        resolutionContext = new ResolutionContext(getPrefixedName(prefix, key.get()));
+        try {
+            return resolveReference(reference);
+        } finally {
             resolutionContext = null;
         }
-        return resolvedValue;
     }
 
     private Object resolveReference(Reference reference) {
         String referenceKey = reference.getKey();
-        Map<String, Object> replacementValues = valuesResolver.resolveProvidedValues(reference.getDependencyName());
+        Map<String, Object> replacementValues = resolveProvidedValues(reference.getDependencyName());
 
         boolean canResolveInDepth = referencePattern.hasDepthOfReference() && referenceKey.contains("/");
         if (!referenceResolutionIsPossible(referenceKey, replacementValues, canResolveInDepth)) {
@@ -123,6 +168,14 @@ public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<S
             }
             return null;
         }
+        ResolutionCache.Key cacheKey = new ResolutionCache.Key(replacementValues, referenceKey, referencePattern, isStrict);
+        ResolutionCache.Entry cacheEntry = resolutionCache.get(cacheKey);
+        if (cacheEntry != null) {
+            cacheEntry.getDependencyNames()
+                .forEach(this::resolveProvidedValues);
+            return copy(cacheEntry.getResolvedValue());
+        }
+        resolutionContext.startResolution(cacheKey, reference.getMatchedPattern());
         // always try to resolve as a flat reference first
         Object referencedProperty = replacementValues.get(referenceKey);
 
@@ -131,7 +184,27 @@ public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<S
         }
 
         String referencedPropertyKeyWithSuffix = getReferencedPropertyKeyWithSuffix(reference);
-        return resolve(referencedPropertyKeyWithSuffix, referencedProperty);
+        Object resolvedProperty = resolve(referencedPropertyKeyWithSuffix, referencedProperty);
+        resolutionCache.put(cacheKey, new ResolutionCache.Entry(resolvedProperty, resolutionContext.finishResolution(cacheKey)));
+        // The resolved value may contain the maps and lists of the referenced value, which were not changed during the resolution.
+        return copy(resolvedProperty);
+    }
+
+    /**
+     * Resolves the values of the dependency, which also checks whether it can be referenced, and remembers its name for all references that
+     * are being resolved at the moment.
+     */
+    private Map<String, Object> resolveProvidedValues(String dependencyName) {
+        Map<String, Object> providedValues = valuesResolver.resolveProvidedValues(dependencyName);
+        resolutionContext.addToDependencyNames(dependencyName);
+        return providedValues;
+    }
+
+    /**
+     * The maps and lists in a resolved value are copied, so that its consumers do not share them with each other or with its provider.
+     */
+    private static Object copy(Object resolvedValue) {
+        return new VisitableObject(resolvedValue).copy();
     }
 
     private boolean referenceResolutionIsPossible(String referenceKey, Map<String, Object> referencedProperties,
@@ -143,8 +216,7 @@ public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<S
     }
 
     protected Object resolveReferenceInDepth(String deepReferenceKey, Map<String, Object> referencedProperties) {
-        Matcher referencePartsMatcher = Pattern.compile("([^/]+)/?")
-            .matcher(deepReferenceKey);
+        Matcher referencePartsMatcher = REFERENCE_PARTS_PATTERN.matcher(deepReferenceKey);
 
         if (!referencePartsMatcher.find()) {
             if (isStrict) {
@@ -210,22 +282,62 @@ public class PropertiesResolver implements SimplePropertyVisitor, Resolver<Map<S
         return referencePattern.match(line);
     }
 
+    /**
+     * Tracks the references, which are being resolved at the moment. A reference is circular only if it is reached again before its
+     * resolution is finished, so the same value may be referenced any number of times.
+     */
     private static class ResolutionContext {
 
         private String rootKey;
-        private Set<String> referencedKeys = new HashSet<>();
+        private Map<ResolutionCache.Key, ReferenceInResolution> referencesInResolution = new LinkedHashMap<>();
 
         public ResolutionContext(String rootKey) {
             this.rootKey = rootKey;
         }
 
-        public void addToReferencedKeys(String key) {
-            if (referencedKeys.contains(key)) {
-                throw new ContentException(Messages.DETECTED_CIRCULAR_REFERENCE, rootKey);
+        public void startResolution(ResolutionCache.Key reference, String matchedPattern) {
+            if (referencesInResolution.containsKey(reference)) {
+                throw new ContentException(Messages.DETECTED_CIRCULAR_REFERENCE, rootKey, getCycle(reference, matchedPattern));
             }
-            referencedKeys.add(key);
+            referencesInResolution.put(reference, new ReferenceInResolution(matchedPattern));
+        }
+
+        private String getCycle(ResolutionCache.Key reference, String matchedPattern) {
+            StringJoiner cycle = new StringJoiner(" -> ");
+            boolean isInCycle = false;
+            for (Map.Entry<ResolutionCache.Key, ReferenceInResolution> entry : referencesInResolution.entrySet()) {
+                isInCycle = isInCycle || entry.getKey()
+                    .equals(reference);
+                if (isInCycle) {
+                    ReferenceInResolution referenceInResolution = entry.getValue();
+                    cycle.add(referenceInResolution.matchedPattern);
+                }
+            }
+            return cycle.add(matchedPattern)
+                .toString();
+        }
+
+        public Set<String> finishResolution(ResolutionCache.Key reference) {
+            return referencesInResolution.remove(reference).dependencyNames;
+        }
+
+        public void addToDependencyNames(String dependencyName) {
+            for (ReferenceInResolution referenceInResolution : referencesInResolution.values()) {
+                referenceInResolution.dependencyNames.add(dependencyName);
+            }
+        }
+
+    }
+
+    private static class ReferenceInResolution {
+
+        private final String matchedPattern;
+        private final Set<String> dependencyNames = new HashSet<>();
+
+        public ReferenceInResolution(String matchedPattern) {
+            this.matchedPattern = matchedPattern;
         }
 
     }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
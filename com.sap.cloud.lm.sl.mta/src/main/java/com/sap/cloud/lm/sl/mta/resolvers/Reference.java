@@ -5,15 +5,24 @@ public class Reference {
     private final String key;
     private final String matchedPattern;
     private final String dependencyName;
+    private final int startIndex;
 
     public Reference(String matchedPattern, String key) {
         this(matchedPattern, key, null);
     }
 
     public Reference(String matchedPattern, String key, String dependencyName) {
+        this(matchedPattern, key, dependencyName, -1);
+    }
+
+    /**
+     * @param startIndex the index of the matched pattern in the value, in which it was found, or -1 if it is not known
+     */
+    public Reference(String matchedPattern, String key, String dependencyName, int startIndex) {
         this.matchedPattern = matchedPattern;
         this.key = key;
         this.dependencyName = dependencyName;
+        this.startIndex = startIndex;
     }
 
     public String getKey() {
@@ -28,4 +37,8 @@ public class Reference {
         return dependencyName;
     }
 
+    public int getStartIndex() {
+        return startIndex;
+    }
+
 }
@@ -1,49 +1,112 @@
 package com.sap.cloud.lm.sl.mta.resolvers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * References are found by a scanner, which returns the same references as the regular expressions {@code (?<!\\)\$\{(.+?)\}},
+ * {@code (?<!\\)~\{(.+?)\}} and {@code (?<!\\)~\{(.+?)/(.+?)\}}, but does not compile a pattern or create a matcher for each value. Values
+ * without the character, which starts a reference, are not scanned at all.
+ */
 public enum ReferencePattern implements ValueMatcher {
 
-    PLACEHOLDER("(?<!\\\\)\\$\\{(.+?)\\}", "${%s}"), SHORT("(?<!\\\\)~\\{(.+?)\\}", "~{%s}"), FULLY_QUALIFIED("(?<!\\\\)~\\{(.+?)/(.+?)\\}", "~{%s/%s}");
+    PLACEHOLDER('$', "${%s}"), SHORT('~', "~{%s}"), FULLY_QUALIFIED('~', "~{%s/%s}");
 
-    private String pattern;
+    private static final char ESCAPE_CHARACTER = '\\';
+    private static final char OPENING_BRACE = '{';
+    private static final char CLOSING_BRACE = '}';
+    private static final char DEPENDENCY_NAME_SEPARATOR = '/';
+
+    private char prefix;
     private String patternFormat;
 
-    ReferencePattern(String pattern, String patternFormat) {
-        this.pattern = pattern;
+    ReferencePattern(char prefix, String patternFormat) {
+        this.prefix = prefix;
         this.patternFormat = patternFormat;
     }
 
     protected boolean hasPropertySetSegment() {
         return FULLY_QUALIFIED.equals(this);
     }
-    
+
     protected boolean hasDepthOfReference() {
         return PLACEHOLDER.equals(this);
     }
 
     @Override
     public List<Reference> match(String line) {
-        Matcher matcher = Pattern.compile(this.pattern)
-            .matcher(line);
+        int start = line.indexOf(prefix);
+        if (start == -1) {
+            return Collections.emptyList();
+        }
         List<Reference> references = new ArrayList<>();
-        while (matcher.find()) {
-            String matchedValue = matcher.group(0);
-            if (this.hasPropertySetSegment()) {
-                String providesName = matcher.group(1);
-                String keyName = matcher.group(2);
-                references.add(new Reference(matchedValue, keyName, providesName));
-            } else {
-                String keyName = matcher.group(1);
-                references.add(new Reference(matchedValue, keyName));
-            }
+        while (start != -1) {
+            int end = isEscaped(line, start) ? -1 : matchReference(line, start, references);
+            start = line.indexOf(prefix, end == -1 ? start + 1 : end);
         }
         return references;
     }
 
+    private static boolean isEscaped(String line, int start) {
+        return start > 0 && line.charAt(start - 1) == ESCAPE_CHARACTER;
+    }
+
+    /**
+     * @return the end of the reference, which starts at the specified index, or -1 if there is no such reference
+     */
+    private int matchReference(String line, int start, List<Reference> references) {
+        int nameStart = start + 2;
+        if (nameStart >= line.length() || line.charAt(start + 1) != OPENING_BRACE) {
+            return -1;
+        }
+        if (!hasPropertySetSegment()) {
+            int nameEnd = findEndOfSegment(line, nameStart, CLOSING_BRACE);
+            if (nameEnd == -1) {
+                return -1;
+            }
+            references.add(new Reference(line.substring(start, nameEnd + 1), line.substring(nameStart, nameEnd), null, start));
+            return nameEnd + 1;
+        }
+        int dependencyNameEnd = findEndOfSegment(line, nameStart, DEPENDENCY_NAME_SEPARATOR);
+        if (dependencyNameEnd == -1) {
+            return -1;
+        }
+        // If the key does not end at the first separator, it cannot end at a later one either, since the key cannot contain the line
+        // terminator, which ended it.
+        int keyEnd = findEndOfSegment(line, dependencyNameEnd + 1, CLOSING_BRACE);
+        if (keyEnd == -1) {
+            return -1;
+        }
+        references.add(new Reference(line.substring(start, keyEnd + 1), line.substring(dependencyNameEnd + 1, keyEnd),
+            line.substring(nameStart, dependencyNameEnd), start));
+        return keyEnd + 1;
+    }
+
+    /**
+     * Finds the end of a segment of at least one character, which may not contain line terminators, just like {@code .+?} in a regular
+     * expression.
+     *
+     * @return the index of the first occurrence of the delimiter after the first character of the segment, or -1 if there is no such
+     *         occurrence before the next line terminator
+     */
+    private static int findEndOfSegment(String line, int segmentStart, char delimiter) {
+        for (int i = segmentStart; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (i > segmentStart && character == delimiter) {
+                return i;
+            }
+            if (isLineTerminator(character)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isLineTerminator(char character) {
+        return character == '\n' || character == '\r' || character == '\u0085' || character == '\u2028' || character == '\u2029';
+    }
+
     public String toString(Reference reference) {
         if (this.hasPropertySetSegment()) {
             return String.format(this.patternFormat, reference.getDependencyName(), reference.getKey());
@@ -1,9 +1,10 @@
 package com.sap.cloud.lm.sl.mta.resolvers;
 
 import java.util.Arrays;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import com.sap.cloud.lm.sl.mta.helpers.SimplePropertyVisitor;
 import com.sap.cloud.lm.sl.mta.helpers.VisitableObject;
@@ -20,7 +21,9 @@ import com.sap.cloud.lm.sl.mta.model.Visitor;
 
 public class ReferencesUnescaper extends Visitor implements SimplePropertyVisitor {
 
-    private static final List<String> REFERENCE_PATTERNS = Arrays.asList("\\\\(\\$\\{.+?\\})", "\\\\(\\~\\{.+?\\})");
+    private static final char ESCAPE_CHARACTER = '\\';
+    private static final List<Pattern> REFERENCE_PATTERNS = Arrays.asList(Pattern.compile("\\\\(\\$\\{.+?\\})"),
+        Pattern.compile("\\\\(\\~\\{.+?\\})"));
     private static final String ESCAPED_STRING_REPLACEMENT = "$1";
 
     public void unescapeReferences(DeploymentDescriptor descriptor) {
@@ -73,20 +76,32 @@ public class ReferencesUnescaper extends Visitor implements SimplePropertyVisito
 
     @SuppressWarnings("unchecked")
     private Map<String, Object> unescapeReferencesInMap(Map<String, Object> map) {
-        Map<String, Object> modifiableMap = new LinkedHashMap<>(map);
-        return (Map<String, Object>) new VisitableObject(modifiableMap).accept(this);
+        return (Map<String, Object>) new VisitableObject(map).accept(this);
     }
 
     @Override
     public Object visit(String key, String value) {
-        for (String referencePattern : REFERENCE_PATTERNS) {
+        return unescapeReferences(value);
+    }
+
+    @Override
+    public Object visit(Supplier<String> key, String value) {
+        return unescapeReferences(value);
+    }
+
+    private static String unescapeReferences(String value) {
+        if (value.indexOf(ESCAPE_CHARACTER) == -1) {
+            return value;
+        }
+        for (Pattern referencePattern : REFERENCE_PATTERNS) {
             value = unescape(value, referencePattern);
         }
         return value;
     }
 
-    private static String unescape(String value, String escapedStringRegex) {
-        return value.replaceAll(escapedStringRegex, ESCAPED_STRING_REPLACEMENT);
+    private static String unescape(String value, Pattern escapedStringPattern) {
+        return escapedStringPattern.matcher(value)
+            .replaceAll(ESCAPED_STRING_REPLACEMENT);
     }
 
 }
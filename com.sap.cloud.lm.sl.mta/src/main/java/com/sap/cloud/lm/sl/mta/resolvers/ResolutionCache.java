@@ -0,0 +1,146 @@
+package com.sap.cloud.lm.sl.mta.resolvers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sap.cloud.lm.sl.common.ContentException;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+
+/**
+ * Stores the values of the referenced properties, which were already resolved, so that each of them is resolved only once, regardless of
+ * how many times it is referenced. Only the resolved values are stored, and not the references between them, which are followed again
+ * whenever a value, which is not stored yet, is resolved. The values are therefore resolved in the order, in which the resolvers reach
+ * them, and not in the order of a reference graph extracted beforehand. A cache should be shared by all resolvers of one descriptor and
+ * should not outlive the resolution of that descriptor. It may be shared by resolvers running in different threads, as long as each of
+ * them is used by a single thread.
+ */
+public class ResolutionCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final boolean collectsFailures;
+    // The failures are sorted by message, so that they are reported in the same order, regardless of the order of resolution.
+    private final Map<String, ContentException> failures = new TreeMap<>();
+
+    public ResolutionCache() {
+        this(false);
+    }
+
+    /**
+     * @param collectsFailures whether the resolvers should continue with the next value, when a value cannot be resolved, so that all
+     *        values, which cannot be resolved, are reported at once by {@link #reportFailures()}
+     */
+    public ResolutionCache(boolean collectsFailures) {
+        this.collectsFailures = collectsFailures;
+    }
+
+    Entry get(Key key) {
+        return entries.get(key);
+    }
+
+    void put(Key key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    boolean collectsFailures() {
+        return collectsFailures;
+    }
+
+    /**
+     * Resolves an element, whose resolution may also fail outside of the values in it, for example when it requires a dependency, which
+     * does not exist. If failures are collected, such a failure is collected too and the element is returned as it is, so that the
+     * failures, which were already collected, are not discarded.
+     */
+    public <T> T resolve(Resolver<T> resolver, T element) throws ContentException {
+        if (!collectsFailures) {
+            return resolver.resolve();
+        }
+        try {
+            return resolver.resolve();
+        } catch (ContentException e) {
+            addFailure(e);
+            return element;
+        }
+    }
+
+    synchronized void addFailure(ContentException failure) {
+        failures.putIfAbsent(failure.getMessage(), failure);
+    }
+
+    public synchronized void reportFailures() throws ContentException {
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.size() == 1) {
+            throw failures.values()
+                .iterator()
+                .next();
+        }
+        throw new ContentException(Messages.MULTIPLE_REFERENCES_CANNOT_BE_RESOLVED, failures.size(), String.join("; ", failures.keySet()));
+    }
+
+    /**
+     * The values of a dependency are compared by identity, since the resolvers replace them, instead of modifying them, and comparing them
+     * by equality would be as expensive as resolving them.
+     */
+    static class Key {
+
+        private final Map<String, Object> providedValues;
+        private final String referenceKey;
+        private final ReferencePattern referencePattern;
+        private final boolean isStrict;
+
+        Key(Map<String, Object> providedValues, String referenceKey, ReferencePattern referencePattern, boolean isStrict) {
+            this.providedValues = providedValues;
+            this.referenceKey = referenceKey;
+            this.referencePattern = referencePattern;
+            this.isStrict = isStrict;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(providedValues), referenceKey, referencePattern, isStrict);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) object;
+            return providedValues == other.providedValues && referenceKey.equals(other.referenceKey)
+                && referencePattern == other.referencePattern && isStrict == other.isStrict;
+        }
+
+    }
+
+    static class Entry {
+
+        private final Object resolvedValue;
+        private final Set<String> dependencyNames;
+
+        /**
+         * @param dependencyNames the names of all dependencies, which were referenced while resolving the value, so that it can be
+         *        checked whether each consumer of the value is allowed to reference them
+         */
+        Entry(Object resolvedValue, Set<String> dependencyNames) {
+            this.resolvedValue = resolvedValue;
+            this.dependencyNames = dependencyNames;
+        }
+
+        Object getResolvedValue() {
+            return resolvedValue;
+        }
+
+        Set<String> getDependencyNames() {
+            return dependencyNames;
+        }
+
+    }
+
+}
@@ -6,7 +6,12 @@ public class ResolverBuilder {
 
     public PropertiesResolver build(Map<String, Object> properties, ProvidedValuesResolver valuesResolver, ReferencePattern patternToMatch,
         String prefix, Boolean isStrict) {
-        return new PropertiesResolver(properties, valuesResolver, patternToMatch, prefix, isStrict);
+        return build(properties, valuesResolver, patternToMatch, prefix, isStrict, new ResolutionCache());
+    }
+
+    public PropertiesResolver build(Map<String, Object> properties, ProvidedValuesResolver valuesResolver, ReferencePattern patternToMatch,
+        String prefix, Boolean isStrict, ResolutionCache resolutionCache) {
+        return new PropertiesResolver(properties, valuesResolver, patternToMatch, prefix, isStrict, resolutionCache);
     }
 
 }
@@ -3,7 +3,7 @@ package com.sap.cloud.lm.sl.mta.resolvers.v2;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
 
 import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.common.util.ListUtil;
@@ -11,8 +11,10 @@ import com.sap.cloud.lm.sl.mta.builders.v2.ParametersChainBuilder;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.model.Resource;
+import com.sap.cloud.lm.sl.mta.resolvers.ConcurrentResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.PlaceholderResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.PropertiesPlaceholderResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.util.PropertiesUtil;
 
@@ -24,14 +26,26 @@ public class DescriptorPlaceholderResolver extends PlaceholderResolver<Deploymen
     protected final ResolverBuilder parametersResolverBuilder;
 
     protected final ParametersChainBuilder parametersChainBuilder;
+    protected final ResolutionCache resolutionCache = new ResolutionCache(true);
+    protected final ExecutorService executor;
 
     public DescriptorPlaceholderResolver(DeploymentDescriptor descriptor, ResolverBuilder propertiesResolverBuilder,
         ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping) {
+        this(descriptor, propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping, null);
+    }
+
+    /**
+     * @param executor the executor, in which the modules and the resources are resolved concurrently, or null if they should be resolved
+     *        one after another
+     */
+    public DescriptorPlaceholderResolver(DeploymentDescriptor descriptor, ResolverBuilder propertiesResolverBuilder,
+        ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping, ExecutorService executor) {
         super("", "", singularToPluralMapping);
         this.deploymentDescriptor = descriptor;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
         this.parametersResolverBuilder = parametersResolverBuilder;
         this.parametersChainBuilder = new ParametersChainBuilder(descriptor, null);
+        this.executor = executor;
     }
 
     @Override
@@ -39,38 +53,37 @@ public class DescriptorPlaceholderResolver extends PlaceholderResolver<Deploymen
         deploymentDescriptor.setModules(ListUtil.upcastUnmodifiable(getResolvedModules()));
         deploymentDescriptor.setResources(getResolvedResources());
         deploymentDescriptor.setParameters(getResolvedProperties(deploymentDescriptor.getParameters()));
+        resolutionCache.reportFailures();
         return deploymentDescriptor;
     }
 
     protected Map<String, Object> getResolvedProperties(Map<String, Object> propertiesToResolve) {
         List<Map<String, Object>> parametersList = Arrays.asList(deploymentDescriptor.getParameters());
         addSingularParametersIfNecessary(parametersList);
-        return new PropertiesPlaceholderResolver(propertiesResolverBuilder).resolve(propertiesToResolve,
+        return new PropertiesPlaceholderResolver(propertiesResolverBuilder, resolutionCache).resolve(propertiesToResolve,
             PropertiesUtil.mergeProperties(parametersList), prefix);
     }
 
     protected ResourcePlaceholderResolver getResourceResolver(Resource resource) {
         return new ResourcePlaceholderResolver(resource, prefix, parametersChainBuilder, propertiesResolverBuilder,
-            parametersResolverBuilder, singularToPluralMapping);
+            parametersResolverBuilder, singularToPluralMapping, resolutionCache);
     }
 
     protected List<Resource> getResolvedResources() {
-        return deploymentDescriptor.getResources()
-            .stream()
-            .map(resource -> getResourceResolver(resource).resolve())
-            .collect(Collectors.toList());
+        return ConcurrentResolver.resolveAll(deploymentDescriptor.getResources(),
+            resource -> resolutionCache.resolve(getResourceResolver(resource), resource), executor);
     }
 
     protected ModulePlaceholderResolver getModuleResolver(Module module) {
         return new ModulePlaceholderResolver(module, prefix, parametersChainBuilder, propertiesResolverBuilder, parametersResolverBuilder,
-            singularToPluralMapping);
+            singularToPluralMapping, resolutionCache);
     }
 
     protected List<Module> getResolvedModules() {
-        return deploymentDescriptor.getModules()
-            .stream()
-            .map(module -> getModuleResolver(module).resolve())
-            .collect(Collectors.toList());
+        // Each module is resolved by its own resolvers and reads only its own properties and parameters and the parameters of the
+        // descriptor, which are resolved after all modules and resources.
+        return ConcurrentResolver.resolveAll(deploymentDescriptor.getModules(),
+            module -> resolutionCache.resolve(getModuleResolver(module), module), executor);
     }
 
 }
@@ -1,11 +1,13 @@
 package com.sap.cloud.lm.sl.mta.resolvers.v2;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
 
 import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.resolvers.ConcurrentResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.Resolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
@@ -14,30 +16,42 @@ public class DescriptorReferenceResolver implements Resolver<DeploymentDescripto
     protected final DeploymentDescriptor descriptor;
     protected final ResolverBuilder modulesPropertiesResolverBuilder;
     protected final ResolverBuilder requiredDepencenciesPropertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache = new ResolutionCache(true);
+    protected final ExecutorService executor;
 
     public DescriptorReferenceResolver(DeploymentDescriptor descriptor, ResolverBuilder modulesPropertiesResolverBuilder,
         ResolverBuilder requiredDepencenciesPropertiesResolverBuilder) {
+        this(descriptor, modulesPropertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder, null);
+    }
+
+    /**
+     * @param executor the executor, in which the modules are resolved concurrently, or null if they should be resolved one after another
+     */
+    public DescriptorReferenceResolver(DeploymentDescriptor descriptor, ResolverBuilder modulesPropertiesResolverBuilder,
+        ResolverBuilder requiredDepencenciesPropertiesResolverBuilder, ExecutorService executor) {
         this.descriptor = descriptor;
         this.modulesPropertiesResolverBuilder = modulesPropertiesResolverBuilder;
         this.requiredDepencenciesPropertiesResolverBuilder = requiredDepencenciesPropertiesResolverBuilder;
+        this.executor = executor;
     }
 
     @Override
     public DeploymentDescriptor resolve() throws ContentException {
         descriptor.setModules(getResolvedModules());
+        resolutionCache.reportFailures();
         return descriptor;
     }
 
     protected List<Module> getResolvedModules() {
-        return descriptor.getModules()
-            .stream()
-            .map(module -> createModuleResolver(module).resolve())
-            .collect(Collectors.toList());
+        // Each module is resolved by its own resolvers and only the module itself is modified. The provided dependencies of the other
+        // modules, which it references, are only read, while the modules of the descriptor are replaced after all of them are resolved.
+        return ConcurrentResolver.resolveAll(descriptor.getModules(),
+            module -> resolutionCache.resolve(createModuleResolver(module), module), executor);
     }
 
     protected ModuleReferenceResolver createModuleResolver(Module module) {
         return new ModuleReferenceResolver(descriptor, module, "", modulesPropertiesResolverBuilder,
-            requiredDepencenciesPropertiesResolverBuilder);
+            requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 
 }
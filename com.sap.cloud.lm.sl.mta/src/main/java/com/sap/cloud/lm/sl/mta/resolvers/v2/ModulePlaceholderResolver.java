@@ -11,6 +11,7 @@ import com.sap.cloud.lm.sl.mta.model.ProvidedDependency;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.resolvers.PlaceholderResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.PropertiesPlaceholderResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.util.PropertiesUtil;
 
@@ -20,14 +21,17 @@ public class ModulePlaceholderResolver extends PlaceholderResolver<Module> {
     protected final ParametersChainBuilder parametersChainBuilder;
     protected final ResolverBuilder propertiesResolverBuilder;
     protected final ResolverBuilder parametersResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public ModulePlaceholderResolver(Module module, String prefix, ParametersChainBuilder parametersChainBuilder,
-        ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping) {
+        ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping,
+        ResolutionCache resolutionCache) {
         super(module.getName(), prefix, singularToPluralMapping);
         this.module = module;
         this.parametersChainBuilder = parametersChainBuilder;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
         this.parametersResolverBuilder = parametersResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -48,35 +52,37 @@ public class ModulePlaceholderResolver extends PlaceholderResolver<Module> {
     }
 
     protected Map<String, Object> getResolvedProperties(Map<String, Object> mergedParameters) {
-        return new PropertiesPlaceholderResolver(propertiesResolverBuilder).resolve(module.getProperties(), mergedParameters, prefix);
+        return new PropertiesPlaceholderResolver(propertiesResolverBuilder, resolutionCache).resolve(module.getProperties(),
+            mergedParameters, prefix);
     }
 
     protected Map<String, Object> getResolvedParameters(Map<String, Object> mergedParameters) {
-        return new PropertiesPlaceholderResolver(parametersResolverBuilder).resolve(module.getParameters(), mergedParameters, prefix);
+        return new PropertiesPlaceholderResolver(parametersResolverBuilder, resolutionCache).resolve(module.getParameters(),
+            mergedParameters, prefix);
     }
 
     protected List<ProvidedDependency> getResolvedProvidedDependencies() {
         return module.getProvidedDependencies()
             .stream()
-            .map(providedDependency -> getProvidedDependencyResolver(providedDependency).resolve())
+            .map(providedDependency -> resolutionCache.resolve(getProvidedDependencyResolver(providedDependency), providedDependency))
             .collect(Collectors.toList());
     }
 
     protected ProvidedDependencyPlaceholderResolver getProvidedDependencyResolver(ProvidedDependency providedDependency) {
         return new ProvidedDependencyPlaceholderResolver(module, providedDependency, prefix, parametersChainBuilder,
-            propertiesResolverBuilder, singularToPluralMapping);
+            propertiesResolverBuilder, singularToPluralMapping, resolutionCache);
     }
 
     protected List<RequiredDependency> getResolvedRequiredDependencies() {
         return module.getRequiredDependencies()
             .stream()
-            .map(requiredDependency -> getRequiredDependencyResolver(requiredDependency).resolve())
+            .map(requiredDependency -> resolutionCache.resolve(getRequiredDependencyResolver(requiredDependency), requiredDependency))
             .collect(Collectors.toList());
     }
 
     protected RequiredDependencyPlaceholderResolver getRequiredDependencyResolver(RequiredDependency requiredDependency) {
         return new RequiredDependencyPlaceholderResolver(module, requiredDependency, prefix, parametersChainBuilder,
-            propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping);
+            propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping, resolutionCache);
     }
 
 }
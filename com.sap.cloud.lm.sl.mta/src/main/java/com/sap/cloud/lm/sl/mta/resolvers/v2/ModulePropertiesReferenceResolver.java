@@ -10,18 +10,26 @@ import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.resolvers.ProvidedValuesResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ReferenceResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
 public class ModulePropertiesReferenceResolver extends ReferenceResolver<Map<String, Object>> implements ProvidedValuesResolver {
 
     protected final Map<String, Object> properties;
     protected final ResolverBuilder propertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public ModulePropertiesReferenceResolver(DeploymentDescriptor descriptor, Module module, Map<String, Object> properties, String prefix,
         ResolverBuilder propertiesResolverBuilder) {
+        this(descriptor, module, properties, prefix, propertiesResolverBuilder, new ResolutionCache());
+    }
+
+    public ModulePropertiesReferenceResolver(DeploymentDescriptor descriptor, Module module, Map<String, Object> properties, String prefix,
+        ResolverBuilder propertiesResolverBuilder, ResolutionCache resolutionCache) {
         super("", prefix, new DescriptorHandler(), descriptor, module.getName(), FULLY_QUALIFIED);
         this.properties = properties;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -30,7 +38,7 @@ public class ModulePropertiesReferenceResolver extends ReferenceResolver<Map<Str
     }
 
     protected Map<String, Object> resolve(Map<String, Object> parameters) {
-        return propertiesResolverBuilder.build(parameters, this, patternToMatch, prefix, true)
+        return propertiesResolverBuilder.build(parameters, this, patternToMatch, prefix, true, resolutionCache)
             .resolve();
     }
 
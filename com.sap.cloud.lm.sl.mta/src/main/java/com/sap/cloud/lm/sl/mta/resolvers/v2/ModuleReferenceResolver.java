@@ -12,6 +12,7 @@ import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.Resolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
@@ -22,14 +23,21 @@ public class ModuleReferenceResolver implements Resolver<Module> {
     protected final String prefix;
     protected final ResolverBuilder propertiesResolverBuilder;
     protected final ResolverBuilder requiredDepencenciesPropertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public ModuleReferenceResolver(DeploymentDescriptor descriptor, Module module, String prefix, ResolverBuilder propertiesResolverBuilder,
         ResolverBuilder requiredDepencenciesPropertiesResolverBuilder) {
+        this(descriptor, module, prefix, propertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder, new ResolutionCache());
+    }
+
+    public ModuleReferenceResolver(DeploymentDescriptor descriptor, Module module, String prefix, ResolverBuilder propertiesResolverBuilder,
+        ResolverBuilder requiredDepencenciesPropertiesResolverBuilder, ResolutionCache resolutionCache) {
         this.descriptor = descriptor;
         this.module = module;
         this.requiredDepencenciesPropertiesResolverBuilder = requiredDepencenciesPropertiesResolverBuilder;
         this.prefix = getPrefixedName(prefix, module.getName());
         this.propertiesResolverBuilder = propertiesResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -49,7 +57,7 @@ public class ModuleReferenceResolver implements Resolver<Module> {
     }
 
     protected ModulePropertiesReferenceResolver createModulePropertiesReferenceResolver(Map<String, Object> properties) {
-        return new ModulePropertiesReferenceResolver(descriptor, module, properties, prefix, propertiesResolverBuilder);
+        return new ModulePropertiesReferenceResolver(descriptor, module, properties, prefix, propertiesResolverBuilder, resolutionCache);
     }
 
     protected List<RequiredDependency> getResolvedDependencies() {
@@ -60,12 +68,12 @@ public class ModuleReferenceResolver implements Resolver<Module> {
     }
 
     protected RequiredDependency resolveRequiredDependency(RequiredDependency dependency) {
-        return createRequiredDependencyResolver(dependency).resolve();
+        return resolutionCache.resolve(createRequiredDependencyResolver(dependency), dependency);
     }
 
     protected RequiredDependencyReferenceResolver createRequiredDependencyResolver(RequiredDependency requiredDependency) {
         return new RequiredDependencyReferenceResolver(descriptor, module, requiredDependency, prefix,
-            requiredDepencenciesPropertiesResolverBuilder);
+            requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 
 }
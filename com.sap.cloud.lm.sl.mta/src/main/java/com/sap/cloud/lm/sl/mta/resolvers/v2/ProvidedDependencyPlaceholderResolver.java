@@ -9,6 +9,7 @@ import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.model.ProvidedDependency;
 import com.sap.cloud.lm.sl.mta.resolvers.PlaceholderResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.PropertiesPlaceholderResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.util.PropertiesUtil;
 
@@ -18,15 +19,17 @@ public class ProvidedDependencyPlaceholderResolver extends PlaceholderResolver<P
     protected final Module module;
     protected final ProvidedDependency providedDependency;
     protected final ResolverBuilder propertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public ProvidedDependencyPlaceholderResolver(Module module, ProvidedDependency providedDependency, String prefix,
         ParametersChainBuilder parametersChainBuilder, ResolverBuilder propertiesResolverBuilder,
-        Map<String, String> singularToPluralMapping) {
+        Map<String, String> singularToPluralMapping, ResolutionCache resolutionCache) {
         super(providedDependency.getName(), prefix, singularToPluralMapping);
         this.parametersChainBuilder = parametersChainBuilder;
         this.module = module;
         this.providedDependency = providedDependency;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -56,7 +59,8 @@ public class ProvidedDependencyPlaceholderResolver extends PlaceholderResolver<P
 
     @Override
     protected Map<String, Object> resolve(Map<String, Object> properties, final Map<String, Object> propertyValues, Boolean isStrict) {
-        return new PropertiesPlaceholderResolver(this.propertiesResolverBuilder).resolve(properties, propertyValues, prefix);
+        return new PropertiesPlaceholderResolver(this.propertiesResolverBuilder, resolutionCache).resolve(properties, propertyValues,
+            prefix);
     }
 
 }
@@ -9,6 +9,7 @@ import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.resolvers.PlaceholderResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.PropertiesPlaceholderResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.util.PropertiesUtil;
 
@@ -19,16 +20,18 @@ public class RequiredDependencyPlaceholderResolver extends PlaceholderResolver<R
     protected final RequiredDependency requiredDependency;
     protected final ResolverBuilder propertiesResolverBuilder;
     protected final ResolverBuilder parametersResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public RequiredDependencyPlaceholderResolver(Module module, RequiredDependency requiredDependency, String prefix,
         ParametersChainBuilder parametersChainBuilder, ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder,
-        Map<String, String> singularToPluralMapping) {
+        Map<String, String> singularToPluralMapping, ResolutionCache resolutionCache) {
         super(requiredDependency.getName(), prefix, singularToPluralMapping);
         this.parametersChainBuilder = parametersChainBuilder;
         this.module = module;
         this.requiredDependency = requiredDependency;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
         this.parametersResolverBuilder = parametersResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -44,13 +47,13 @@ public class RequiredDependencyPlaceholderResolver extends PlaceholderResolver<R
     }
 
     protected Map<String, Object> getResolvedParameters(Map<String, Object> mergedParameters) {
-        return new PropertiesPlaceholderResolver(propertiesResolverBuilder).resolve(requiredDependency.getParameters(), mergedParameters,
-            prefix);
+        return new PropertiesPlaceholderResolver(propertiesResolverBuilder, resolutionCache).resolve(requiredDependency.getParameters(),
+            mergedParameters, prefix);
     }
 
     protected Map<String, Object> getResolvedProperties(Map<String, Object> mergedParameters) {
-        return new PropertiesPlaceholderResolver(parametersResolverBuilder).resolve(requiredDependency.getProperties(), mergedParameters,
-            prefix);
+        return new PropertiesPlaceholderResolver(parametersResolverBuilder, resolutionCache).resolve(requiredDependency.getProperties(),
+            mergedParameters, prefix);
     }
 
 }
@@ -11,23 +11,36 @@ import com.sap.cloud.lm.sl.mta.model.NamedElement;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.resolvers.ProvidedValuesResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ReferenceResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
 public class RequiredDependencyReferenceResolver extends ReferenceResolver<RequiredDependency> {
 
     protected final RequiredDependency dependency;
     protected final ResolverBuilder propertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public RequiredDependencyReferenceResolver(DeploymentDescriptor descriptor, NamedElement container, RequiredDependency dependency,
         String prefix, ResolverBuilder propertiesResolverBuilder) {
-        this(descriptor, container, dependency, prefix, new DescriptorHandler(), propertiesResolverBuilder);
+        this(descriptor, container, dependency, prefix, propertiesResolverBuilder, new ResolutionCache());
     }
 
     public RequiredDependencyReferenceResolver(DeploymentDescriptor descriptor, NamedElement container, RequiredDependency dependency,
         String prefix, DescriptorHandler handler, ResolverBuilder propertiesResolverBuilder) {
+        this(descriptor, container, dependency, prefix, handler, propertiesResolverBuilder, new ResolutionCache());
+    }
+
+    public RequiredDependencyReferenceResolver(DeploymentDescriptor descriptor, NamedElement container, RequiredDependency dependency,
+        String prefix, ResolverBuilder propertiesResolverBuilder, ResolutionCache resolutionCache) {
+        this(descriptor, container, dependency, prefix, new DescriptorHandler(), propertiesResolverBuilder, resolutionCache);
+    }
+
+    public RequiredDependencyReferenceResolver(DeploymentDescriptor descriptor, NamedElement container, RequiredDependency dependency,
+        String prefix, DescriptorHandler handler, ResolverBuilder propertiesResolverBuilder, ResolutionCache resolutionCache) {
         super(dependency.getName(), prefix, handler, descriptor, container.getName(), SHORT);
         this.dependency = dependency;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -48,7 +61,7 @@ public class RequiredDependencyReferenceResolver extends ReferenceResolver<Requi
     @Override
     protected Map<String, Object> resolve(Map<String, Object> properties, final Map<String, Object> propertyValues, Boolean isStrict) {
         ProvidedValuesResolver valuesResolver = irrelevant -> propertyValues;
-        return propertiesResolverBuilder.build(properties, valuesResolver, patternToMatch, prefix, isStrict)
+        return propertiesResolverBuilder.build(properties, valuesResolver, patternToMatch, prefix, isStrict, resolutionCache)
             .resolve();
     }
 
@@ -8,6 +8,7 @@ import com.sap.cloud.lm.sl.mta.builders.v2.ParametersChainBuilder;
 import com.sap.cloud.lm.sl.mta.model.Resource;
 import com.sap.cloud.lm.sl.mta.resolvers.PlaceholderResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.PropertiesPlaceholderResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.util.PropertiesUtil;
 
@@ -17,14 +18,17 @@ public class ResourcePlaceholderResolver extends PlaceholderResolver<Resource> {
     protected final ParametersChainBuilder parametersChainBuilder;
     protected final ResolverBuilder propertiesResolverBuilder;
     protected final ResolverBuilder parametersResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public ResourcePlaceholderResolver(Resource resource, String prefix, ParametersChainBuilder parametersChainBuilder,
-        ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping) {
+        ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping,
+        ResolutionCache resolutionCache) {
         super(resource.getName(), prefix, singularToPluralMapping);
         this.resource = resource;
         this.parametersChainBuilder = parametersChainBuilder;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
         this.parametersResolverBuilder = parametersResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -39,13 +43,13 @@ public class ResourcePlaceholderResolver extends PlaceholderResolver<Resource> {
     }
 
     protected Map<String, Object> getResolvedProperties(Map<String, Object> mergedParametersChain) {
-        return new PropertiesPlaceholderResolver(propertiesResolverBuilder).resolve(resource.getProperties(), mergedParametersChain,
-            prefix);
+        return new PropertiesPlaceholderResolver(propertiesResolverBuilder, resolutionCache).resolve(resource.getProperties(),
+            mergedParametersChain, prefix);
     }
 
     protected Map<String, Object> getResolvedParameters(Map<String, Object> mergedParametersChain) {
-        return new PropertiesPlaceholderResolver(parametersResolverBuilder).resolve(resource.getParameters(), mergedParametersChain,
-            prefix);
+        return new PropertiesPlaceholderResolver(parametersResolverBuilder, resolutionCache).resolve(resource.getParameters(),
+            mergedParametersChain, prefix);
     }
 
 }
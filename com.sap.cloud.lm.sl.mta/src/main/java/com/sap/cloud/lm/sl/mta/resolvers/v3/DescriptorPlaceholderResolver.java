@@ -1,6 +1,7 @@
 package com.sap.cloud.lm.sl.mta.resolvers.v3;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
@@ -10,13 +11,18 @@ public class DescriptorPlaceholderResolver extends com.sap.cloud.lm.sl.mta.resol
 
     public DescriptorPlaceholderResolver(DeploymentDescriptor descriptor, ResolverBuilder propertiesResolverBuilder,
         ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping) {
-        super(descriptor, propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping);
+        this(descriptor, propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping, null);
+    }
+
+    public DescriptorPlaceholderResolver(DeploymentDescriptor descriptor, ResolverBuilder propertiesResolverBuilder,
+        ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping, ExecutorService executor) {
+        super(descriptor, propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping, executor);
     }
 
     @Override
     protected ModulePlaceholderResolver getModuleResolver(Module module) {
         return new ModulePlaceholderResolver(module, prefix, parametersChainBuilder, propertiesResolverBuilder, parametersResolverBuilder,
-            singularToPluralMapping);
+            singularToPluralMapping, resolutionCache);
     }
 
 }
@@ -1,12 +1,18 @@
 package com.sap.cloud.lm.sl.mta.resolvers.v3;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.model.Resource;
+import com.sap.cloud.lm.sl.mta.resolvers.ConcurrentResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
 public class DescriptorReferenceResolver extends com.sap.cloud.lm.sl.mta.resolvers.v2.DescriptorReferenceResolver {
@@ -15,7 +21,14 @@ public class DescriptorReferenceResolver extends com.sap.cloud.lm.sl.mta.resolve
 
     public DescriptorReferenceResolver(DeploymentDescriptor descriptor, ResolverBuilder modulesPropertiesResolverBuilder,
         ResolverBuilder resourcePropertiesResolverBuilder, ResolverBuilder requiredDepencenciesPropertiesResolverBuilder) {
-        super(descriptor, modulesPropertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder);
+        this(descriptor, modulesPropertiesResolverBuilder, resourcePropertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder,
+            null);
+    }
+
+    public DescriptorReferenceResolver(DeploymentDescriptor descriptor, ResolverBuilder modulesPropertiesResolverBuilder,
+        ResolverBuilder resourcePropertiesResolverBuilder, ResolverBuilder requiredDepencenciesPropertiesResolverBuilder,
+        ExecutorService executor) {
+        super(descriptor, modulesPropertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder, executor);
         this.resourcePropertiesResolverBuilder = resourcePropertiesResolverBuilder;
     }
 
@@ -26,21 +39,79 @@ public class DescriptorReferenceResolver extends com.sap.cloud.lm.sl.mta.resolve
     }
 
     private List<Resource> getResolvedResources() {
-        return descriptor.getResources()
+        if (executor == null) {
+            return ConcurrentResolver.resolveAll(descriptor.getResources(), this::resolveResource, null);
+        }
+        // Resources reference the properties of other resources, so they are resolved as copies in waves, while the originals are only
+        // read. The resolved copies of a wave replace the originals in the descriptor only after the whole wave is resolved.
+        List<Resource> resources = new ArrayList<>(descriptor.getResources());
+        for (List<Integer> wave : getResolutionWaves(resources)) {
+            List<Resource> resolvedResources = ConcurrentResolver.resolveAll(wave,
+                index -> resolveResource(Resource.copyOf(resources.get(index))), executor);
+            for (int i = 0; i < wave.size(); i++) {
+                resources.set(wave.get(i), resolvedResources.get(i));
+            }
+            descriptor.setResources(new ArrayList<>(resources));
+        }
+        return resources;
+    }
+
+    /**
+     * Groups the indexes of the resources in waves, so that each resource reads the same values, as when the resources are resolved one
+     * after another. A required resource, which precedes the resource, is resolved in an earlier wave, and a required resource, which
+     * follows it, is not resolved in an earlier wave. Since both kinds of constraints point to a following resource, each resource is
+     * placed in the first wave, which satisfies its constraints to the preceding resources.
+     */
+    private List<List<Integer>> getResolutionWaves(List<Resource> resources) {
+        Map<String, Integer> indexesByName = new HashMap<>();
+        for (int i = 0; i < resources.size(); i++) {
+            indexesByName.putIfAbsent(resources.get(i)
+                .getName(), i);
+        }
+        int[] waveIndexes = new int[resources.size()];
+        List<List<Integer>> waves = new ArrayList<>();
+        for (int i = 0; i < resources.size(); i++) {
+            List<Integer> requiredResources = getRequiredResources(resources.get(i), indexesByName);
+            for (int requiredResource : requiredResources) {
+                if (requiredResource < i) {
+                    waveIndexes[i] = Math.max(waveIndexes[i], waveIndexes[requiredResource] + 1);
+                }
+            }
+            for (int requiredResource : requiredResources) {
+                if (requiredResource > i) {
+                    waveIndexes[requiredResource] = Math.max(waveIndexes[requiredResource], waveIndexes[i]);
+                }
+            }
+            if (waveIndexes[i] == waves.size()) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(waveIndexes[i])
+                .add(i);
+        }
+        return waves;
+    }
+
+    private List<Integer> getRequiredResources(Resource resource, Map<String, Integer> indexesByName) {
+        return resource.getRequiredDependencies()
             .stream()
-            .map(resource -> createResourceResolver(resource).resolve())
+            .map(dependency -> indexesByName.get(dependency.getName()))
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
 
+    private Resource resolveResource(Resource resource) {
+        return resolutionCache.resolve(createResourceResolver(resource), resource);
+    }
+
     protected ResourceReferenceResolver createResourceResolver(Resource resource) {
         return new ResourceReferenceResolver(descriptor, resource, "", resourcePropertiesResolverBuilder,
-            requiredDepencenciesPropertiesResolverBuilder);
+            requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 
     @Override
     protected ModuleReferenceResolver createModuleResolver(Module module) {
         return new ModuleReferenceResolver(descriptor, module, "", modulesPropertiesResolverBuilder,
-            requiredDepencenciesPropertiesResolverBuilder);
+            requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 
 }
@@ -11,6 +11,7 @@ import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.resolvers.PlaceholderResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.PropertiesPlaceholderResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.resolvers.v2.RequiredDependencyPlaceholderResolver;
 
@@ -22,10 +23,11 @@ public class HookPlaceholderResolver extends PlaceholderResolver<Hook> {
     protected final ResolverBuilder propertiesResolverBuilder;
     protected final ResolverBuilder parametersResolverBuilder;
     protected final Map<String, Object> mergedParameters;
+    protected final ResolutionCache resolutionCache;
 
     public HookPlaceholderResolver(Module module, Hook hook, String prefix, ParametersChainBuilder parametersChainBuilder,
         ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping,
-        Map<String, Object> mergedParameters) {
+        Map<String, Object> mergedParameters, ResolutionCache resolutionCache) {
         super(hook.getName(), prefix, singularToPluralMapping);
         this.module = module;
         this.hook = hook;
@@ -33,6 +35,7 @@ public class HookPlaceholderResolver extends PlaceholderResolver<Hook> {
         this.propertiesResolverBuilder = propertiesResolverBuilder;
         this.parametersResolverBuilder = parametersResolverBuilder;
         this.mergedParameters = mergedParameters;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -43,19 +46,20 @@ public class HookPlaceholderResolver extends PlaceholderResolver<Hook> {
     }
 
     private Map<String, Object> getResolvedHookParameters(Hook hook, Map<String, Object> mergedParameters) {
-        return new PropertiesPlaceholderResolver(parametersResolverBuilder).resolve(hook.getParameters(), mergedParameters, prefix);
+        return new PropertiesPlaceholderResolver(parametersResolverBuilder, resolutionCache).resolve(hook.getParameters(), mergedParameters,
+            prefix);
     }
 
     private List<RequiredDependency> getResolvedHookDependencies(Hook hook) {
         return hook.getRequiredDependencies()
             .stream()
-            .map(requiredDependency -> getRequiredDependencyResolver(requiredDependency).resolve())
+            .map(requiredDependency -> resolutionCache.resolve(getRequiredDependencyResolver(requiredDependency), requiredDependency))
             .collect(Collectors.toList());
     }
 
     protected RequiredDependencyPlaceholderResolver getRequiredDependencyResolver(RequiredDependency requiredDependency) {
         return new RequiredDependencyPlaceholderResolver(module, requiredDependency, prefix, parametersChainBuilder,
-            propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping);
+            propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping, resolutionCache);
     }
 
 }
@@ -8,6 +8,7 @@ import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Hook;
 import com.sap.cloud.lm.sl.mta.model.Module;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.Resolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.resolvers.v2.ModulePropertiesReferenceResolver;
@@ -21,15 +22,24 @@ public class HookReferenceResolver implements Resolver<Hook> {
     protected final String prefix;
     protected final ResolverBuilder propertiesResolverBuilder;
     protected final ResolverBuilder requiredDepencenciesPropertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public HookReferenceResolver(Hook hook, DeploymentDescriptor descriptor, Module module, String prefix,
         ResolverBuilder propertiesResolverBuilder, ResolverBuilder requiredDepencenciesPropertiesResolverBuilder) {
+        this(hook, descriptor, module, prefix, propertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder,
+            new ResolutionCache());
+    }
+
+    public HookReferenceResolver(Hook hook, DeploymentDescriptor descriptor, Module module, String prefix,
+        ResolverBuilder propertiesResolverBuilder, ResolverBuilder requiredDepencenciesPropertiesResolverBuilder,
+        ResolutionCache resolutionCache) {
         this.hook = hook;
         this.descriptor = descriptor;
         this.module = module;
         this.prefix = prefix;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
         this.requiredDepencenciesPropertiesResolverBuilder = requiredDepencenciesPropertiesResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -44,18 +54,18 @@ public class HookReferenceResolver implements Resolver<Hook> {
     }
 
     protected ModulePropertiesReferenceResolver createModulePropertiesReferenceResolver(Map<String, Object> properties) {
-        return new ModulePropertiesReferenceResolver(descriptor, module, properties, prefix, propertiesResolverBuilder);
+        return new ModulePropertiesReferenceResolver(descriptor, module, properties, prefix, propertiesResolverBuilder, resolutionCache);
     }
 
     private List<RequiredDependency> getResolvedHookDependencies(Hook hook) {
         return hook.getRequiredDependencies()
             .stream()
-            .map(requiredDependency -> getRequiredDependencyResolver(requiredDependency).resolve())
+            .map(requiredDependency -> resolutionCache.resolve(getRequiredDependencyResolver(requiredDependency), requiredDependency))
             .collect(Collectors.toList());
     }
 
     protected RequiredDependencyReferenceResolver getRequiredDependencyResolver(RequiredDependency requiredDependency) {
         return new RequiredDependencyReferenceResolver(descriptor, module, requiredDependency, prefix,
-            requiredDepencenciesPropertiesResolverBuilder);
+            requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 }
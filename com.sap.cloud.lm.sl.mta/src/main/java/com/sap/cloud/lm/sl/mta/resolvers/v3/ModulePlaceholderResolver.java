@@ -8,13 +8,16 @@ import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.mta.builders.v2.ParametersChainBuilder;
 import com.sap.cloud.lm.sl.mta.model.Hook;
 import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
 public class ModulePlaceholderResolver extends com.sap.cloud.lm.sl.mta.resolvers.v2.ModulePlaceholderResolver {
 
     public ModulePlaceholderResolver(Module module, String prefix, ParametersChainBuilder parametersChainBuilder,
-        ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping) {
-        super(module, prefix, parametersChainBuilder, propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping);
+        ResolverBuilder propertiesResolverBuilder, ResolverBuilder parametersResolverBuilder, Map<String, String> singularToPluralMapping,
+        ResolutionCache resolutionCache) {
+        super(module, prefix, parametersChainBuilder, propertiesResolverBuilder, parametersResolverBuilder, singularToPluralMapping,
+            resolutionCache);
     }
 
     @Override
@@ -27,13 +30,13 @@ public class ModulePlaceholderResolver extends com.sap.cloud.lm.sl.mta.resolvers
     private List<Hook> getResolvedHooks() {
         return module.getHooks()
             .stream()
-            .map(hook -> getHookPlaceholderResolver(hook).resolve())
+            .map(hook -> resolutionCache.resolve(getHookPlaceholderResolver(hook), hook))
             .collect(Collectors.toList());
     }
 
     private HookPlaceholderResolver getHookPlaceholderResolver(Hook hook) {
         return new HookPlaceholderResolver(module, hook, prefix, parametersChainBuilder, propertiesResolverBuilder,
-            parametersResolverBuilder, singularToPluralMapping, getMergedParameters());
+            parametersResolverBuilder, singularToPluralMapping, getMergedParameters(), resolutionCache);
     }
 
 }
@@ -7,13 +7,19 @@ import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Hook;
 import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
 public class ModuleReferenceResolver extends com.sap.cloud.lm.sl.mta.resolvers.v2.ModuleReferenceResolver {
 
     public ModuleReferenceResolver(DeploymentDescriptor descriptor, Module module, String prefix, ResolverBuilder propertiesResolverBuilder,
         ResolverBuilder requiredDepencenciesPropertiesResolverBuilder) {
-        super(descriptor, module, prefix, propertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder);
+        this(descriptor, module, prefix, propertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder, new ResolutionCache());
+    }
+
+    public ModuleReferenceResolver(DeploymentDescriptor descriptor, Module module, String prefix, ResolverBuilder propertiesResolverBuilder,
+        ResolverBuilder requiredDepencenciesPropertiesResolverBuilder, ResolutionCache resolutionCache) {
+        super(descriptor, module, prefix, propertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 
     @Override
@@ -32,7 +38,7 @@ public class ModuleReferenceResolver extends com.sap.cloud.lm.sl.mta.resolvers.v
 
     private HookReferenceResolver getHookReferenceResolver(Hook hook) {
         return new HookReferenceResolver(hook, descriptor, module, prefix, propertiesResolverBuilder,
-            requiredDepencenciesPropertiesResolverBuilder);
+            requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 
 }
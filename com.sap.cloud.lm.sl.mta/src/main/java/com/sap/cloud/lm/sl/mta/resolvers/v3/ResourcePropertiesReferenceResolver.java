@@ -9,23 +9,31 @@ import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.Resource;
 import com.sap.cloud.lm.sl.mta.resolvers.ProvidedValuesResolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ReferenceResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 
 public class ResourcePropertiesReferenceResolver extends ReferenceResolver<Map<String, Object>> implements ProvidedValuesResolver {
 
     protected Map<String, Object> properties;
     protected ResolverBuilder propertiesResolverBuilder;
+    protected ResolutionCache resolutionCache;
 
     public ResourcePropertiesReferenceResolver(DeploymentDescriptor descriptor, Resource resource, Map<String, Object> properties,
         String prefix, ResolverBuilder propertiesResolverBuilder) {
+        this(descriptor, resource, properties, prefix, propertiesResolverBuilder, new ResolutionCache());
+    }
+
+    public ResourcePropertiesReferenceResolver(DeploymentDescriptor descriptor, Resource resource, Map<String, Object> properties,
+        String prefix, ResolverBuilder propertiesResolverBuilder, ResolutionCache resolutionCache) {
         super("", prefix, new DescriptorHandler(), descriptor, resource.getName(), FULLY_QUALIFIED);
         this.properties = properties;
         this.propertiesResolverBuilder = propertiesResolverBuilder;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
     public Map<String, Object> resolve() {
-        return propertiesResolverBuilder.build(properties, this, patternToMatch, prefix, true)
+        return propertiesResolverBuilder.build(properties, this, patternToMatch, prefix, true, resolutionCache)
             .resolve();
     }
 }
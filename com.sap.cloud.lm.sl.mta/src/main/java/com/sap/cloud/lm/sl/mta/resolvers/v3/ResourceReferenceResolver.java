@@ -12,6 +12,7 @@ import com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorHandler;
 import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.model.Resource;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
 import com.sap.cloud.lm.sl.mta.resolvers.Resolver;
 import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
 import com.sap.cloud.lm.sl.mta.resolvers.v2.RequiredDependencyReferenceResolver;
@@ -23,14 +24,23 @@ public class ResourceReferenceResolver implements Resolver<Resource> {
     protected final String prefix;
     protected final ResolverBuilder resourcesPropertiesResolverBuilder;
     protected final ResolverBuilder requiredDepencenciesPropertiesResolverBuilder;
+    protected final ResolutionCache resolutionCache;
 
     public ResourceReferenceResolver(DeploymentDescriptor descriptor, Resource resource, String prefix,
         ResolverBuilder resourcesPropertiesResolverBuilder, ResolverBuilder requiredDepencenciesPropertiesResolverBuilder) {
+        this(descriptor, resource, prefix, resourcesPropertiesResolverBuilder, requiredDepencenciesPropertiesResolverBuilder,
+            new ResolutionCache());
+    }
+
+    public ResourceReferenceResolver(DeploymentDescriptor descriptor, Resource resource, String prefix,
+        ResolverBuilder resourcesPropertiesResolverBuilder, ResolverBuilder requiredDepencenciesPropertiesResolverBuilder,
+        ResolutionCache resolutionCache) {
         this.descriptor = descriptor;
         this.resource = resource;
         this.resourcesPropertiesResolverBuilder = resourcesPropertiesResolverBuilder;
         this.requiredDepencenciesPropertiesResolverBuilder = requiredDepencenciesPropertiesResolverBuilder;
         this.prefix = getPrefixedName(prefix, resource.getName());
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
@@ -49,13 +59,12 @@ public class ResourceReferenceResolver implements Resolver<Resource> {
     }
 
     protected RequiredDependency resolveRequiredDependency(RequiredDependency dependency) {
-        RequiredDependencyReferenceResolver resolver = createRequiredDependencyResolver(dependency);
-        return resolver.resolve();
+        return resolutionCache.resolve(createRequiredDependencyResolver(dependency), dependency);
     }
 
     protected RequiredDependencyReferenceResolver createRequiredDependencyResolver(RequiredDependency requiredDependency) {
         return new RequiredDependencyReferenceResolver(descriptor, resource, requiredDependency, prefix, new DescriptorHandler(),
-            requiredDepencenciesPropertiesResolverBuilder);
+            requiredDepencenciesPropertiesResolverBuilder, resolutionCache);
     }
 
     private Map<String, Object> getResolvedProperties() {
@@ -67,7 +76,8 @@ public class ResourceReferenceResolver implements Resolver<Resource> {
     }
 
     protected ResourcePropertiesReferenceResolver createResourcePropertiesReferenceResolver(Map<String, Object> properties) {
-        return new ResourcePropertiesReferenceResolver(descriptor, resource, properties, prefix, resourcesPropertiesResolverBuilder);
+        return new ResourcePropertiesReferenceResolver(descriptor, resource, properties, prefix, resourcesPropertiesResolverBuilder,
+            resolutionCache);
     }
 
 }
@@ -0,0 +1,29 @@
+package com.sap.cloud.lm.sl.mta.schema;
+
+/**
+ * A schema compiled into a graph of validators. A schema should be compiled only once it is fully built, since the elements added to it
+ * afterwards are not validated by the compiled schema.
+ */
+public final class CompiledSchema {
+
+    private final Element schema;
+    private final ElementValidator validator;
+
+    private CompiledSchema(Element schema) {
+        this.schema = schema;
+        this.validator = ElementValidator.compile(schema);
+    }
+
+    public static CompiledSchema compile(Element schema) {
+        return new CompiledSchema(schema);
+    }
+
+    public Element getSchema() {
+        return schema;
+    }
+
+    ElementValidator getValidator() {
+        return validator;
+    }
+
+}
@@ -9,6 +9,9 @@ public class Element {
     private final Class<?> type;
     private final String pattern;
     private final int maxLength;
+    private final String objectName;
+    private final String uniqueScope;
+    private final boolean includesContainer;
 
     public Element(ElementBuilder builder) {
         this.required = builder.required;
@@ -16,6 +19,9 @@ public class Element {
         this.type = builder.type;
         this.pattern = builder.pattern;
         this.maxLength = builder.maxLength;
+        this.objectName = builder.objectName;
+        this.uniqueScope = builder.uniqueScope;
+        this.includesContainer = builder.includesContainer;
     }
 
     public boolean isRequired() {
@@ -38,6 +44,28 @@ public class Element {
         return maxLength;
     }
 
+    /**
+     * @return the name of the object described by the element, which is used in the messages of errors about its values
+     */
+    public String getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * @return the name of the scope, in which the unique values of the elements of a list must be unique, or null if they must be unique
+     *         only within the list
+     */
+    public String getUniqueScope() {
+        return uniqueScope;
+    }
+
+    /**
+     * @return whether the unique value of the map, which contains a list, is implicitly one of the elements of the list
+     */
+    public boolean includesContainer() {
+        return includesContainer;
+    }
+
     public static class ElementBuilder {
 
         private boolean required = false;
@@ -45,6 +73,9 @@ public class Element {
         private Class<?> type = String.class;
         private String pattern = null;
         private int maxLength = 0;
+        private String objectName = null;
+        private String uniqueScope = null;
+        private boolean includesContainer = false;
 
         public ElementBuilder required(boolean required) {
             this.required = required;
@@ -71,6 +102,21 @@ public class Element {
             return this;
         }
 
+        public ElementBuilder objectName(String objectName) {
+            this.objectName = objectName;
+            return this;
+        }
+
+        public ElementBuilder uniqueScope(String uniqueScope) {
+            this.uniqueScope = uniqueScope;
+            return this;
+        }
+
+        public ElementBuilder includesContainer(boolean includesContainer) {
+            this.includesContainer = includesContainer;
+            return this;
+        }
+
         public Element buildSimple() {
             return new Element(this);
         }
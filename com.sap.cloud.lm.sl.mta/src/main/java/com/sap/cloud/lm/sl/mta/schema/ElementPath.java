@@ -0,0 +1,37 @@
+package com.sap.cloud.lm.sl.mta.schema;
+
+import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.getPrefixedName;
+
+/**
+ * The path of a validated element, kept as a link to the path of its parent. The prefixed name of the element is only built when an error
+ * has to be reported for it.
+ */
+final class ElementPath {
+
+    static final ElementPath ROOT = new ElementPath(null, null);
+
+    private final ElementPath parent;
+    private final Object key;
+
+    private ElementPath(ElementPath parent, Object key) {
+        this.parent = parent;
+        this.key = key;
+    }
+
+    ElementPath getChild(Object key) {
+        return new ElementPath(this, key);
+    }
+
+    boolean isRoot() {
+        return toString().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        if (parent == null) {
+            return "";
+        }
+        return getPrefixedName(parent.toString(), String.valueOf(key));
+    }
+
+}
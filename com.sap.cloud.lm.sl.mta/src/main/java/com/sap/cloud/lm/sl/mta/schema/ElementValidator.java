@@ -0,0 +1,352 @@
+package com.sap.cloud.lm.sl.mta.schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.sap.cloud.lm.sl.common.ParsingException;
+import com.sap.cloud.lm.sl.common.util.MiscUtil;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+import com.sap.cloud.lm.sl.mta.validators.ValidationError;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
+
+/**
+ * Validates objects against an {@link Element}, which has been compiled once into a graph of validators specialised for the kind of the
+ * element, with precompiled patterns and a lookup table for the keys of maps. Errors are thrown as soon as they are found, unless a
+ * {@link ValidationErrors} collector is passed.
+ * <p>
+ * The uniqueness of values is validated in a separate pass over the whole object, since values of different lists may have to be unique
+ * within the same scope. Each scope is indexed in a hash set, so the whole object is validated in linear time.
+ */
+abstract class ElementValidator {
+
+    private final Class<?> type;
+
+    private ElementValidator(Element element) {
+        this.type = element.getType();
+    }
+
+    static ElementValidator compile(Element schema) {
+        return compileElement(schema, new IdentityHashMap<>());
+    }
+
+    private static ElementValidator compileElement(Element element, Map<Element, ElementValidator> compiledElements) {
+        ElementValidator validator = compiledElements.get(element);
+        if (validator != null) {
+            return validator;
+        }
+        if (element instanceof MapElement) {
+            MapValidator mapValidator = new MapValidator(element);
+            // The validator is registered before its keys are compiled, so that elements that contain themselves are compiled only once.
+            compiledElements.put(element, mapValidator);
+            mapValidator.compileKeys((MapElement) element, compiledElements);
+            return mapValidator;
+        }
+        if (element instanceof ListElement) {
+            ListValidator listValidator = new ListValidator(element);
+            compiledElements.put(element, listValidator);
+            listValidator.compileElements((ListElement) element, compiledElements);
+            return listValidator;
+        }
+        if (element.getType() == String.class && element.getPattern() != null) {
+            validator = new StringValidator(element);
+        } else {
+            validator = new SimpleValidator(element);
+        }
+        compiledElements.put(element, validator);
+        return validator;
+    }
+
+    void validate(Object object, ElementPath path, ValidationErrors errors) {
+        if (validateType(object, path, errors)) {
+            validateContent(object, path, errors);
+        }
+    }
+
+    abstract void validateContent(Object object, ElementPath path, ValidationErrors errors);
+
+    /**
+     * @return whether the type of the object is valid, so that its content can be validated
+     */
+    boolean validateType(Object object, ElementPath path, ValidationErrors errors) {
+        if (object == null) {
+            if (!path.isRoot()) {
+                fail(errors, path, null, Messages.NULL_VALUE_FOR_KEY, path);
+            } else {
+                fail(errors, path, null, Messages.NULL_CONTENT);
+            }
+            return false;
+        }
+        if (!type.isInstance(object)) {
+            if (!path.isRoot()) {
+                fail(errors, path, object, Messages.INVALID_TYPE_FOR_KEY, path, type.getSimpleName(), object.getClass()
+                    .getSimpleName());
+            } else {
+                fail(errors, path, object, Messages.INVALID_CONTENT_TYPE, type.getSimpleName(), object.getClass()
+                    .getSimpleName());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static void fail(ValidationErrors errors, ElementPath path, Object value, String rule, Object... arguments) {
+        if (errors == null) {
+            throw new ParsingException(rule, arguments);
+        }
+        errors.add(new ValidationError(path.toString(), rule, value, arguments));
+    }
+
+    /**
+     * @return the validator of the value with the specified key or index, or null if that value is not described by the schema
+     */
+    ElementValidator getChild(Object key) {
+        return null;
+    }
+
+    void validateRequiredKeys(Map<?, ?> map, ElementPath path, ValidationErrors errors) {
+    }
+
+    void validateUniqueness(Object object, ValidationErrors errors) {
+        validateUniqueness(object, ElementPath.ROOT, new HashMap<>(), errors);
+    }
+
+    /**
+     * Validates the uniqueness of the values within the object. Values of the wrong type are skipped, since they are reported by
+     * {@link #validate(Object, ElementPath, ValidationErrors)}.
+     *
+     * @param usedValuesByScope the unique values that have already been found, by the name of their scope
+     */
+    void validateUniqueness(Object object, ElementPath path, Map<String, Set<Object>> usedValuesByScope, ValidationErrors errors) {
+    }
+
+    /**
+     * @return the value, which has to be unique among the objects of the same kind, or null if there is no such value
+     */
+    Object getUniqueValue(Object object) {
+        return null;
+    }
+
+    void validateUniqueValue(Object object, ElementPath path, Set<Object> usedValues, ValidationErrors errors) {
+    }
+
+    void addUniqueValue(Object value, ElementPath path, Set<Object> usedValues, ValidationErrors errors) {
+    }
+
+    /**
+     * Adds the unique value of the map, which contains the object, if it is implicitly one of the elements of the object.
+     */
+    void addContainerValue(Object object, Object containerValue, ElementPath containerPath, Map<String, Set<Object>> usedValuesByScope,
+        ValidationErrors errors) {
+    }
+
+    private static class MapValidator extends ElementValidator {
+
+        // The keys are kept in the order of the schema, in which the uniqueness of their values is validated.
+        private final Map<String, ElementValidator> keys = new LinkedHashMap<>();
+        private final List<String> requiredKeys = new ArrayList<>();
+        private final String objectName;
+        private String uniqueKey;
+
+        private MapValidator(Element element) {
+            super(element);
+            this.objectName = element.getObjectName();
+        }
+
+        private void compileKeys(MapElement element, Map<Element, ElementValidator> compiledElements) {
+            for (Map.Entry<String, Element> key : element.getMap()
+                .entrySet()) {
+                keys.put(key.getKey(), compileElement(key.getValue(), compiledElements));
+                if (key.getValue()
+                    .isRequired()) {
+                    requiredKeys.add(key.getKey());
+                }
+                if (key.getValue()
+                    .isUnique() && uniqueKey == null) {
+                    uniqueKey = key.getKey();
+                }
+            }
+        }
+
+        @Override
+        void validateContent(Object object, ElementPath path, ValidationErrors errors) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                ElementValidator validator = keys.get(entry.getKey());
+                if (validator != null) {
+                    validator.validate(entry.getValue(), path.getChild(entry.getKey()), errors);
+                }
+            }
+            validateRequiredKeys(map, path, errors);
+        }
+
+        @Override
+        ElementValidator getChild(Object key) {
+            return keys.get(key);
+        }
+
+        @Override
+        void validateRequiredKeys(Map<?, ?> map, ElementPath path, ValidationErrors errors) {
+            for (String key : requiredKeys) {
+                if (!map.containsKey(key)) {
+                    ElementPath keyPath = path.getChild(key);
+                    fail(errors, keyPath, null, Messages.MISSING_REQUIRED_KEY, keyPath);
+                }
+            }
+        }
+
+        @Override
+        void validateUniqueness(Object object, ElementPath path, Map<String, Set<Object>> usedValuesByScope, ValidationErrors errors) {
+            if (!(object instanceof Map)) {
+                return;
+            }
+            Map<?, ?> map = (Map<?, ?>) object;
+            Object uniqueValue = getUniqueValue(map);
+            for (Map.Entry<String, ElementValidator> key : keys.entrySet()) {
+                Object value = map.get(key.getKey());
+                key.getValue()
+                    .validateUniqueness(value, path.getChild(key.getKey()), usedValuesByScope, errors);
+                if (uniqueValue != null) {
+                    key.getValue()
+                        .addContainerValue(value, uniqueValue, path.getChild(uniqueKey), usedValuesByScope, errors);
+                }
+            }
+        }
+
+        @Override
+        Object getUniqueValue(Object object) {
+            if (uniqueKey == null || !(object instanceof Map)) {
+                return null;
+            }
+            return ((Map<?, ?>) object).get(uniqueKey);
+        }
+
+        @Override
+        void validateUniqueValue(Object object, ElementPath path, Set<Object> usedValues, ValidationErrors errors) {
+            if (uniqueKey != null) {
+                addUniqueValue(getUniqueValue(object), path.getChild(uniqueKey), usedValues, errors);
+            }
+        }
+
+        @Override
+        void addUniqueValue(Object value, ElementPath path, Set<Object> usedValues, ValidationErrors errors) {
+            if (value != null && !usedValues.add(value)) {
+                fail(errors, path, value, Messages.VALUE_NOT_UNIQUE, value, uniqueKey, objectName);
+            }
+        }
+
+    }
+
+    private static class ListValidator extends ElementValidator {
+
+        private final String uniqueScope;
+        private final boolean includesContainer;
+        private ElementValidator element;
+
+        private ListValidator(Element element) {
+            super(element);
+            this.uniqueScope = element.getUniqueScope();
+            this.includesContainer = element.includesContainer();
+        }
+
+        private void compileElements(ListElement listElement, Map<Element, ElementValidator> compiledElements) {
+            this.element = compileElement(listElement.getElement(), compiledElements);
+        }
+
+        @Override
+        void validateContent(Object object, ElementPath path, ValidationErrors errors) {
+            List<?> list = (List<?>) object;
+            for (int i = 0; i < list.size(); i++) {
+                element.validate(list.get(i), path.getChild(i), errors);
+            }
+        }
+
+        @Override
+        ElementValidator getChild(Object index) {
+            return element;
+        }
+
+        @Override
+        void validateUniqueness(Object object, ElementPath path, Map<String, Set<Object>> usedValuesByScope, ValidationErrors errors) {
+            if (!(object instanceof List)) {
+                return;
+            }
+            List<?> list = (List<?>) object;
+            Set<Object> usedValues = getUsedValues(usedValuesByScope);
+            for (int i = 0; i < list.size(); i++) {
+                ElementPath elementPath = path.getChild(i);
+                element.validateUniqueValue(list.get(i), elementPath, usedValues, errors);
+                element.validateUniqueness(list.get(i), elementPath, usedValuesByScope, errors);
+            }
+        }
+
+        @Override
+        void addContainerValue(Object object, Object containerValue, ElementPath containerPath, Map<String, Set<Object>> usedValuesByScope,
+            ValidationErrors errors) {
+            if (!includesContainer || containsUniqueValue(object, containerValue)) {
+                return;
+            }
+            element.addUniqueValue(containerValue, containerPath, getUsedValues(usedValuesByScope), errors);
+        }
+
+        private Set<Object> getUsedValues(Map<String, Set<Object>> usedValuesByScope) {
+            if (uniqueScope == null) {
+                return new HashSet<>();
+            }
+            return usedValuesByScope.computeIfAbsent(uniqueScope, scope -> new HashSet<>());
+        }
+
+        private boolean containsUniqueValue(Object object, Object uniqueValue) {
+            if (!(object instanceof List)) {
+                return false;
+            }
+            return ((List<?>) object).stream()
+                .anyMatch(item -> uniqueValue.equals(element.getUniqueValue(item)));
+        }
+
+    }
+
+    private static class StringValidator extends ElementValidator {
+
+        private final Pattern pattern;
+        private final int maxLength;
+
+        private StringValidator(Element element) {
+            super(element);
+            this.pattern = Pattern.compile(element.getPattern());
+            this.maxLength = element.getMaxLength();
+        }
+
+        @Override
+        void validateContent(Object object, ElementPath path, ValidationErrors errors) {
+            String value = String.valueOf(object);
+            if (value.length() > maxLength) {
+                fail(errors, path, object, Messages.VALUE_TOO_LONG, path, maxLength);
+            } else if (!pattern.matcher(value)
+                .matches()) {
+                fail(errors, path, object, Messages.INVALID_STRING_VALUE_FOR_KEY, path,
+                    MiscUtil.outlineProblematicCharacter(pattern.pattern(), value));
+            }
+        }
+
+    }
+
+    private static class SimpleValidator extends ElementValidator {
+
+        private SimpleValidator(Element element) {
+            super(element);
+        }
+
+        @Override
+        void validateContent(Object object, ElementPath path, ValidationErrors errors) {
+        }
+
+    }
+
+}
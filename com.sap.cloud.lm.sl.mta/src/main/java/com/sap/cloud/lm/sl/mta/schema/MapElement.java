@@ -1,6 +1,6 @@
 package com.sap.cloud.lm.sl.mta.schema;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class MapElement extends Element {
@@ -8,11 +8,11 @@ public class MapElement extends Element {
     private final Map<String, Element> map;
 
     public MapElement() {
-        this(new ElementBuilder(), new HashMap<String, Element>());
+        this(new ElementBuilder(), new LinkedHashMap<String, Element>());
     }
 
     public MapElement(ElementBuilder builder) {
-        this(builder, new HashMap<String, Element>());
+        this(builder, new LinkedHashMap<String, Element>());
     }
 
     public MapElement(ElementBuilder builder, Map<String, Element> map) {
@@ -0,0 +1,221 @@
+package com.sap.cloud.lm.sl.mta.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.reader.UnicodeReader;
+
+import com.sap.cloud.lm.sl.common.ParsingException;
+import com.sap.cloud.lm.sl.common.message.Messages;
+import com.sap.cloud.lm.sl.common.util.YamlUtil;
+import com.sap.cloud.lm.sl.common.util.yaml.YamlScalarConstructor;
+
+/**
+ * Parses YAML maps directly from the events of the YAML parser and validates each value against the schema as soon as it is parsed. This
+ * avoids the node graph built by {@link YamlUtil} and the second traversal of the parsed map by {@link SchemaValidator}, while reporting
+ * the same errors. Only the uniqueness of values is validated after the whole map is parsed. Documents that are invalid YAML or that use
+ * features uncommon for descriptors, like merge keys, complex keys and tagged collections, are parsed with {@link YamlUtil} and then
+ * validated with {@link SchemaValidator} instead.
+ */
+public class ValidatingYamlParser {
+
+    private final SchemaValidator schemaValidator;
+
+    public ValidatingYamlParser(Element schema) {
+        this(new SchemaValidator(schema));
+    }
+
+    public ValidatingYamlParser(SchemaValidator schemaValidator) {
+        this.schemaValidator = schemaValidator;
+    }
+
+    public Map<String, Object> parseMap(String yaml) throws ParsingException {
+        try {
+            return parseMap(new StringReader(yaml));
+        } catch (YAMLException | UnsupportedYamlException e) {
+            return validate(YamlUtil.convertYamlToMap(yaml));
+        }
+    }
+
+    public Map<String, Object> parseMap(InputStream yaml) throws ParsingException {
+        byte[] content = readContent(yaml);
+        try {
+            return parseMap(new UnicodeReader(new ByteArrayInputStream(content)));
+        } catch (YAMLException | UnsupportedYamlException e) {
+            return validate(YamlUtil.convertYamlToMap(new ByteArrayInputStream(content)));
+        }
+    }
+
+    private byte[] readContent(InputStream yaml) {
+        try {
+            return IOUtils.toByteArray(yaml);
+        } catch (IOException e) {
+            throw new ParsingException(e, Messages.ERROR_PARSING_YAML_STREAM, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> validate(Map<String, Object> map) {
+        schemaValidator.validate(map);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parseMap(Reader yaml) {
+        ElementValidator validator = schemaValidator.getValidator();
+        Parser parser = new ParserImpl(new StreamReader(yaml));
+        expect(parser, Event.ID.StreamStart);
+        expect(parser, Event.ID.DocumentStart);
+        if (!parser.checkEvent(Event.ID.MappingStart)) {
+            throw new UnsupportedYamlException();
+        }
+        Object map;
+        try {
+            map = parseNode(parser, validator, ElementPath.ROOT, new HashMap<>());
+        } catch (ParsingException e) {
+            skipDocument(parser);
+            throw e;
+        }
+        expect(parser, Event.ID.DocumentEnd);
+        expect(parser, Event.ID.StreamEnd);
+        validator.validateUniqueness(map, null);
+        return (Map<String, Object>) map;
+    }
+
+    // Errors in the YAML syntax take precedence over errors in the content, as they do when the document is parsed before it is validated.
+    private void skipDocument(Parser parser) {
+        Event event;
+        do {
+            event = parser.getEvent();
+        } while (event != null && !event.is(Event.ID.DocumentEnd));
+        expect(parser, Event.ID.StreamEnd);
+    }
+
+    private void expect(Parser parser, Event.ID eventId) {
+        if (!parser.checkEvent(eventId)) {
+            throw new UnsupportedYamlException();
+        }
+        parser.getEvent();
+    }
+
+    private Object parseNode(Parser parser, ElementValidator validator, ElementPath path, Map<String, Object> anchors) {
+        Event event = parser.getEvent();
+        if (event.is(Event.ID.Alias)) {
+            return parseAlias((AliasEvent) event, validator, path, anchors);
+        }
+        if (event.is(Event.ID.Scalar)) {
+            Object value = YamlScalarConstructor.construct((ScalarEvent) event);
+            addAnchor((ScalarEvent) event, value, anchors);
+            if (validator != null) {
+                validator.validate(value, path, null);
+            }
+            return value;
+        }
+        if (event.is(Event.ID.MappingStart)) {
+            return parseMapping(parser, (CollectionStartEvent) event, validator, path, anchors);
+        }
+        if (event.is(Event.ID.SequenceStart)) {
+            return parseSequence(parser, (CollectionStartEvent) event, validator, path, anchors);
+        }
+        throw new UnsupportedYamlException();
+    }
+
+    private Object parseAlias(AliasEvent event, ElementValidator validator, ElementPath path, Map<String, Object> anchors) {
+        if (!anchors.containsKey(event.getAnchor())) {
+            throw new UnsupportedYamlException();
+        }
+        Object value = anchors.get(event.getAnchor());
+        if (validator != null) {
+            validator.validate(value, path, null);
+        }
+        return value;
+    }
+
+    private Map<Object, Object> parseMapping(Parser parser, CollectionStartEvent event, ElementValidator validator, ElementPath path,
+        Map<String, Object> anchors) {
+        validateCollectionTag(event, Tag.MAP);
+        Map<Object, Object> map = new LinkedHashMap<>();
+        addAnchor(event, map, anchors);
+        if (validator != null) {
+            validator.validateType(map, path, null);
+        }
+        while (!parser.checkEvent(Event.ID.MappingEnd)) {
+            Object key = parseKey(parser, anchors);
+            ElementValidator keyValidator = validator != null ? validator.getChild(key) : null;
+            map.put(key, parseNode(parser, keyValidator, path.getChild(key), anchors));
+        }
+        parser.getEvent();
+        if (validator != null) {
+            validator.validateRequiredKeys(map, path, null);
+        }
+        return map;
+    }
+
+    private Object parseKey(Parser parser, Map<String, Object> anchors) {
+        if (!parser.checkEvent(Event.ID.Scalar)) {
+            throw new UnsupportedYamlException();
+        }
+        ScalarEvent event = (ScalarEvent) parser.getEvent();
+        if (Tag.MERGE.equals(YamlScalarConstructor.resolveTag(event))) {
+            throw new UnsupportedYamlException();
+        }
+        Object key = YamlScalarConstructor.construct(event);
+        addAnchor(event, key, anchors);
+        return key;
+    }
+
+    private List<Object> parseSequence(Parser parser, CollectionStartEvent event, ElementValidator validator, ElementPath path,
+        Map<String, Object> anchors) {
+        validateCollectionTag(event, Tag.SEQ);
+        List<Object> list = new ArrayList<>();
+        addAnchor(event, list, anchors);
+        if (validator != null) {
+            validator.validateType(list, path, null);
+        }
+        while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+            int index = list.size();
+            ElementValidator elementValidator = validator != null ? validator.getChild(index) : null;
+            list.add(parseNode(parser, elementValidator, path.getChild(index), anchors));
+        }
+        parser.getEvent();
+        return list;
+    }
+
+    private void validateCollectionTag(CollectionStartEvent event, Tag defaultTag) {
+        String tag = event.getTag();
+        if (tag != null && !tag.equals("!") && !tag.equals(defaultTag.getValue())) {
+            throw new UnsupportedYamlException();
+        }
+    }
+
+    private void addAnchor(NodeEvent event, Object value, Map<String, Object> anchors) {
+        if (event.getAnchor() != null) {
+            anchors.put(event.getAnchor(), value);
+        }
+    }
+
+    private static class UnsupportedYamlException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
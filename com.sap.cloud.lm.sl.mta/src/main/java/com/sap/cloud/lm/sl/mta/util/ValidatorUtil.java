@@ -10,6 +10,11 @@ public class ValidatorUtil {
 
     public static final String DEFAULT_SEPARATOR = "#";
 
+    /**
+     * @deprecated the extension descriptor validators report the modified elements through their {@code ValidationErrors}, so that all of
+     *             them can be collected
+     */
+    @Deprecated
     public static void validateModifiableElements(String elementType, String elementPrefix, String containerName, String key, Object value,
         Object parentValue) throws ContentException {
         if (!CommonUtil.isNullOrEmpty(parentValue) && !parentValue.equals(value)) {
@@ -0,0 +1,43 @@
+package com.sap.cloud.lm.sl.mta.validators;
+
+import java.text.MessageFormat;
+
+public class ValidationError {
+
+    private final String path;
+    private final String rule;
+    private final Object value;
+    private final String message;
+
+    /**
+     * @param rule the message pattern of the violated rule, one of the constants in {@link com.sap.cloud.lm.sl.mta.message.Messages}
+     */
+    public ValidationError(String path, String rule, Object value, Object... arguments) {
+        this.path = path;
+        this.rule = rule;
+        this.value = value;
+        this.message = MessageFormat.format(rule, arguments);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return message;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.sap.cloud.lm.sl.mta.validators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.sap.cloud.lm.sl.common.ContentException;
+
+/**
+ * Collects the errors found by validators that are run in accumulate mode, instead of failing on the first error. Validation stops once the
+ * maximum number of errors has been collected.
+ */
+public class ValidationErrors {
+
+    private final int maxErrors;
+    private final List<ValidationError> errors = new ArrayList<>();
+
+    public ValidationErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Reports an error to the specified collector, or throws it if there is no collector and validation has to fail on the first error.
+     */
+    public static void report(ValidationErrors errors, String path, Object value, String rule, Object... arguments)
+        throws ContentException {
+        if (errors == null) {
+            throw new ContentException(rule, arguments);
+        }
+        errors.add(new ValidationError(path, rule, value, arguments));
+    }
+
+    /**
+     * Runs the specified validation, which stops early if the maximum number of errors is reached while it is running.
+     */
+    public void collect(Runnable validation) {
+        if (isLimitReached()) {
+            return;
+        }
+        try {
+            validation.run();
+        } catch (LimitReachedException e) {
+            // The remaining content is not validated.
+        }
+    }
+
+    public void add(ValidationError error) {
+        if (isLimitReached()) {
+            throw new LimitReachedException();
+        }
+        errors.add(error);
+        if (isLimitReached()) {
+            throw new LimitReachedException();
+        }
+    }
+
+    public boolean isLimitReached() {
+        return errors.size() >= maxErrors;
+    }
+
+    public boolean isEmpty() {
+        return errors.isEmpty();
+    }
+
+    public List<ValidationError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    private static class LimitReachedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
@@ -2,9 +2,8 @@ package com.sap.cloud.lm.sl.mta.validators.v2;
 
 import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.getPrefixedName;
 
+import java.util.Collections;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -14,11 +13,28 @@ import com.sap.cloud.lm.sl.mta.model.ElementContext;
 import com.sap.cloud.lm.sl.mta.model.ParametersContainer;
 import com.sap.cloud.lm.sl.mta.model.PropertiesContainer;
 import com.sap.cloud.lm.sl.mta.validators.DescriptorValidationRules;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 
 public class DefaultDescriptorValidationRules implements DescriptorValidationRules {
 
     protected final Set<String> emptyProperties = new TreeSet<>();
     protected final Set<String> emptyParameters = new TreeSet<>();
+    protected final ValidationErrors errors;
+
+    public DefaultDescriptorValidationRules() {
+        this(null);
+    }
+
+    /**
+     * @param errors the collector of all errors in the descriptor, or null if validation should fail on the first error
+     */
+    public DefaultDescriptorValidationRules(ValidationErrors errors) {
+        this.errors = errors;
+    }
+
+    protected void fail(String path, Object value, String rule, Object... arguments) {
+        ValidationErrors.report(errors, path, value, rule, arguments);
+    }
 
     @Override
     public void validateProperties(ElementContext elementContext, PropertiesContainer propertiesContainer) throws ContentException {
@@ -40,12 +56,20 @@ public class DefaultDescriptorValidationRules implements DescriptorValidationRul
 
     @Override
     public void postValidate() throws ContentException {
-        if (!emptyProperties.isEmpty()) {
-            throw new ContentException(Messages.UNRESOLVED_PROPERTIES, emptyProperties);
+        if (errors == null) {
+            if (!emptyProperties.isEmpty()) {
+                throw new ContentException(Messages.UNRESOLVED_PROPERTIES, emptyProperties);
+            }
+            if (!emptyParameters.isEmpty()) {
+                throw new ContentException(Messages.UNRESOLVED_PARAMETERS, emptyParameters);
+            }
+            return;
         }
-
-        if (!emptyParameters.isEmpty()) {
-            throw new ContentException(Messages.UNRESOLVED_PARAMETERS, emptyParameters);
+        for (String emptyProperty : emptyProperties) {
+            fail(emptyProperty, null, Messages.UNRESOLVED_PROPERTIES, Collections.singleton(emptyProperty));
+        }
+        for (String emptyParameter : emptyParameters) {
+            fail(emptyParameter, null, Messages.UNRESOLVED_PARAMETERS, Collections.singleton(emptyParameter));
         }
     }
 
@@ -12,33 +12,52 @@ import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.model.Resource;
 import com.sap.cloud.lm.sl.mta.model.VisitableElement;
 import com.sap.cloud.lm.sl.mta.model.Visitor;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 
 public class DeploymentDescriptorValidator extends Visitor {
 
     protected final Platform platform;
     protected final DeploymentDescriptor descriptor;
     protected final DescriptorHandler handler;
+    protected final ValidationErrors errors;
 
     public DeploymentDescriptorValidator(DeploymentDescriptor descriptor, Platform platform, DescriptorHandler handler) {
+        this(descriptor, platform, handler, null);
+    }
+
+    /**
+     * @param errors the collector of all errors in the descriptor, or null if validation should fail on the first error
+     */
+    public DeploymentDescriptorValidator(DeploymentDescriptor descriptor, Platform platform, DescriptorHandler handler,
+        ValidationErrors errors) {
         this.descriptor = descriptor;
         this.platform = platform;
         this.handler = handler;
+        this.errors = errors;
     }
     
     public void validate() throws ContentException {
+        if (errors != null) {
+            errors.collect(() -> descriptor.accept(this));
+            return;
+        }
         descriptor.accept(this);
     }
 
+    protected void fail(String path, Object value, String rule, Object... arguments) {
+        ValidationErrors.report(errors, path, value, rule, arguments);
+    }
+
     @Override
     public void visit(ElementContext context, RequiredDependency requiredDependency) throws ContentException {
         VisitableElement previousElement = context.getPreviousElementContext()
             .getVisitableElement();
-        validate((NamedElement) previousElement, requiredDependency.getName());
+        validate((NamedElement) previousElement, requiredDependency.getName(), context.getPrefixedName());
     }
 
-    protected void validate(NamedElement container, String requiredDependency) {
+    protected void validate(NamedElement container, String requiredDependency, String path) {
         if (!canBeResolved(requiredDependency)) {
-            throw new ContentException(Messages.UNRESOLVED_MODULE_REQUIRED_DEPENDENCY, requiredDependency, container.getName());
+            fail(path, requiredDependency, Messages.UNRESOLVED_MODULE_REQUIRED_DEPENDENCY, requiredDependency, container.getName());
         }
     }
 
@@ -49,7 +68,7 @@ public class DeploymentDescriptorValidator extends Visitor {
     @Override
     public void visit(ElementContext context, Resource resource) throws ContentException {
         if (isService(resource) && !isSupported(resource) && !isOptional(resource)) {
-            throw new ContentException(Messages.UNSUPPORTED_RESOURCE_TYPE, resource.getType(), platform.getName());
+            fail(context.getPrefixedName(), resource.getType(), Messages.UNSUPPORTED_RESOURCE_TYPE, resource.getType(), platform.getName());
         }
     }
     
@@ -64,7 +83,7 @@ public class DeploymentDescriptorValidator extends Visitor {
     @Override
     public void visit(ElementContext context, Module module) throws ContentException {
         if (!isSupported(module)) {
-            throw new ContentException(Messages.UNSUPPORTED_MODULE_TYPE, module.getType(), platform.getName());
+            fail(context.getPrefixedName(), module.getType(), Messages.UNSUPPORTED_MODULE_TYPE, module.getType(), platform.getName());
         }
         validateRequiredDependencies(module);
     }
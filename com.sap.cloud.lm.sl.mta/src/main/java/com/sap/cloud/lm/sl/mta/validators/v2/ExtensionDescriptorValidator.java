@@ -1,11 +1,12 @@
 package com.sap.cloud.lm.sl.mta.validators.v2;
 
-import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.validateModifiableElements;
+import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.getPrefixedName;
 
 import java.util.Map;
 import java.util.Map.Entry;
 
 import com.sap.cloud.lm.sl.common.ContentException;
+import com.sap.cloud.lm.sl.common.util.CommonUtil;
 import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorHandler;
 import com.sap.cloud.lm.sl.mta.message.Constants;
 import com.sap.cloud.lm.sl.mta.message.Messages;
@@ -25,32 +26,58 @@ import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.model.Resource;
 import com.sap.cloud.lm.sl.mta.model.VisitableElement;
 import com.sap.cloud.lm.sl.mta.model.Visitor;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 
 public class ExtensionDescriptorValidator extends Visitor {
 
     protected final ExtensionDescriptor extensionDescriptor;
     protected final DeploymentDescriptor deploymentDescriptor;
     protected final DescriptorHandler handler;
+    protected final ValidationErrors errors;
 
     public ExtensionDescriptorValidator(ExtensionDescriptor extensionDescriptor, DeploymentDescriptor deploymentDescriptor,
         DescriptorHandler handler) {
+        this(extensionDescriptor, deploymentDescriptor, handler, null);
+    }
+
+    /**
+     * @param errors the collector of all errors in the extension descriptor, or null if validation should fail on the first error
+     */
+    public ExtensionDescriptorValidator(ExtensionDescriptor extensionDescriptor, DeploymentDescriptor deploymentDescriptor,
+        DescriptorHandler handler, ValidationErrors errors) {
         this.extensionDescriptor = extensionDescriptor;
         this.deploymentDescriptor = deploymentDescriptor;
         this.handler = handler;
+        this.errors = errors;
     }
 
     public void validate() throws ContentException {
+        if (errors != null) {
+            errors.collect(this::validateDescriptor);
+            return;
+        }
+        validateDescriptor();
+    }
+
+    private void validateDescriptor() {
         validateParameters(deploymentDescriptor, extensionDescriptor, "");
         extensionDescriptor.accept(this);
     }
 
+    protected void fail(String path, Object value, String rule, Object... arguments) {
+        ValidationErrors.report(errors, path, value, rule, arguments);
+    }
+
     @Override
     public void visit(ElementContext context, ExtensionRequiredDependency extensionRequiredDependency) throws ContentException {
         String containerName = context.getPreviousElementContext()
             .getVisitableElementName();
         if (!extendsDeploymentDescriptorElement(containerName, extensionRequiredDependency)) {
-            throw new ContentException(Messages.UNKNOWN_REQUIRED_DEPENDENCY_IN_MTAEXT, extensionRequiredDependency.getName(), containerName,
+            // The context has no name for the required dependency, since it is not a named element:
+            fail(getPrefixedName(containerName, extensionRequiredDependency.getName()), extensionRequiredDependency.getName(),
+                Messages.UNKNOWN_REQUIRED_DEPENDENCY_IN_MTAEXT, extensionRequiredDependency.getName(), containerName,
                 extensionDescriptor.getId());
+            return;
         }
         RequiredDependency parentContainer = findRequiredDependency(containerName, extensionRequiredDependency);
         validateProperties(parentContainer, extensionRequiredDependency, extensionRequiredDependency.getName());
@@ -65,7 +92,9 @@ public class ExtensionDescriptorValidator extends Visitor {
     @Override
     public void visit(ElementContext context, ExtensionModule extensionModule) throws ContentException {
         if (!extendsDeploymentDescriptorElement(extensionModule)) {
-            throw new ContentException(Messages.UNKNOWN_MODULE_IN_MTAEXT, extensionModule.getName(), extensionDescriptor.getId());
+            fail(context.getPrefixedName(), extensionModule.getName(), Messages.UNKNOWN_MODULE_IN_MTAEXT, extensionModule.getName(),
+                extensionDescriptor.getId());
+            return;
         }
         Module module = findModule(extensionModule);
         validateProperties(module, extensionModule, extensionModule.getName());
@@ -86,14 +115,24 @@ public class ExtensionDescriptorValidator extends Visitor {
             String propertyName = extensionProperty.getKey();
             Object parentValue = properties.get(propertyName);
             Object value = extensionProperty.getValue();
-            validateModifiableElements(elementType, containerName, extensionDescriptor.getId(), propertyName, value, parentValue);
+            validateModifiableElement(elementType, containerName, propertyName, value, parentValue);
+        }
+    }
+
+    protected void validateModifiableElement(String elementType, String containerName, String propertyName, Object value,
+        Object parentValue) {
+        if (!CommonUtil.isNullOrEmpty(parentValue) && !parentValue.equals(value)) {
+            String prefixedName = getPrefixedName(containerName, propertyName);
+            fail(prefixedName, value, Messages.CANNOT_MODIFY_ELEMENT, elementType, prefixedName, extensionDescriptor.getId());
         }
     }
 
     @Override
     public void visit(ElementContext context, ExtensionResource extensionResource) throws ContentException {
         if (!extendsDeploymentDescriptorElement(extensionResource)) {
-            throw new ContentException(Messages.UNKNOWN_RESOURCE_IN_MTAEXT, extensionResource.getName(), extensionDescriptor.getId());
+            fail(context.getPrefixedName(), extensionResource.getName(), Messages.UNKNOWN_RESOURCE_IN_MTAEXT, extensionResource.getName(),
+                extensionDescriptor.getId());
+            return;
         }
         Resource resource = findResource(extensionResource);
         validateProperties(resource, extensionResource, extensionResource.getName());
@@ -128,8 +167,9 @@ public class ExtensionDescriptorValidator extends Visitor {
             .getVisitableElement();
         if (!extendsDeploymentDescriptorElement(extensionProvidedDependency)) {
             String containerName = container instanceof NamedElement ? ((NamedElement) container).getName() : "";
-            throw new ContentException(Messages.UNKNOWN_PROVIDED_DEPENDENCY_IN_MTAEXT, extensionProvidedDependency.getName(), containerName,
-                extensionDescriptor.getId());
+            fail(context.getPrefixedName(), extensionProvidedDependency.getName(), Messages.UNKNOWN_PROVIDED_DEPENDENCY_IN_MTAEXT,
+                extensionProvidedDependency.getName(), containerName, extensionDescriptor.getId());
+            return;
         }
         ProvidedDependency providedDependency = findProvidedDependency(extensionProvidedDependency);
         validateProperties(providedDependency, extensionProvidedDependency, extensionProvidedDependency.getName());
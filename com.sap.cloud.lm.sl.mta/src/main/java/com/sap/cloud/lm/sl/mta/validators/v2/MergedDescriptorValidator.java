@@ -13,6 +13,7 @@ import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.model.Resource;
 import com.sap.cloud.lm.sl.mta.model.Visitor;
 import com.sap.cloud.lm.sl.mta.validators.DescriptorValidationRules;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 
 public class MergedDescriptorValidator extends Visitor {
 
@@ -20,16 +21,34 @@ public class MergedDescriptorValidator extends Visitor {
     protected final DescriptorHandler handler;
     protected final DescriptorValidationRules validationRules;
     protected final Set<String> emptyParameters = new TreeSet<>();
+    protected final ValidationErrors errors;
 
     public MergedDescriptorValidator(DeploymentDescriptor mergedDescriptor, DescriptorValidationRules validationRules,
         DescriptorHandler handler) {
+        this(mergedDescriptor, validationRules, handler, null);
+    }
+
+    /**
+     * @param errors the collector to which the validation rules add all errors in the descriptor, or null if validation should fail on the
+     *        first error
+     */
+    public MergedDescriptorValidator(DeploymentDescriptor mergedDescriptor, DescriptorValidationRules validationRules,
+        DescriptorHandler handler, ValidationErrors errors) {
         this.mergedDescriptor = mergedDescriptor;
         this.validationRules = validationRules;
         this.handler = handler;
-
+        this.errors = errors;
     }
 
     public void validate() throws ContentException {
+        if (errors != null) {
+            errors.collect(this::validateDescriptor);
+            return;
+        }
+        validateDescriptor();
+    }
+
+    private void validateDescriptor() {
         mergedDescriptor.accept(this);
         validationRules.postValidate();
     }
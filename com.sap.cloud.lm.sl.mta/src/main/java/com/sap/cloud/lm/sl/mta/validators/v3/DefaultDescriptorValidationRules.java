@@ -12,9 +12,17 @@ import com.sap.cloud.lm.sl.mta.model.ParametersWithMetadataContainer;
 import com.sap.cloud.lm.sl.mta.model.PropertiesContainer;
 import com.sap.cloud.lm.sl.mta.model.PropertiesWithMetadataContainer;
 import com.sap.cloud.lm.sl.mta.util.ValidatorUtil;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 
 public class DefaultDescriptorValidationRules extends com.sap.cloud.lm.sl.mta.validators.v2.DefaultDescriptorValidationRules {
 
+    public DefaultDescriptorValidationRules() {
+    }
+
+    public DefaultDescriptorValidationRules(ValidationErrors errors) {
+        super(errors);
+    }
+
     @Override
     public void validateProperties(ElementContext elementContext, PropertiesContainer propertiesContainer) throws ContentException {
         PropertiesWithMetadataContainer propertiesWithMetadata = (PropertiesWithMetadataContainer) propertiesContainer;
@@ -33,8 +41,8 @@ public class DefaultDescriptorValidationRules extends com.sap.cloud.lm.sl.mta.va
         String elementType) {
         for (String propertyName : properties.keySet()) {
             if (!isPropertyValid(properties.get(propertyName), propertyName, metadata)) {
-                throw new ContentException(Messages.MANDATORY_ELEMENT_HAS_NO_VALUE, elementType,
-                    ValidatorUtil.getPrefixedName(elementContext.getPrefixedName(), propertyName));
+                String prefixedName = ValidatorUtil.getPrefixedName(elementContext.getPrefixedName(), propertyName);
+                fail(prefixedName, null, Messages.MANDATORY_ELEMENT_HAS_NO_VALUE, elementType, prefixedName);
             }
         }
     }
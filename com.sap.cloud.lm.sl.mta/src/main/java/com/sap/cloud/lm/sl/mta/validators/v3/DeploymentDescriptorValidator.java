@@ -22,6 +22,7 @@ import com.sap.cloud.lm.sl.mta.model.ProvidedDependency;
 import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
 import com.sap.cloud.lm.sl.mta.model.Resource;
 import com.sap.cloud.lm.sl.mta.util.ValidatorUtil;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 
 public class DeploymentDescriptorValidator extends com.sap.cloud.lm.sl.mta.validators.v2.DeploymentDescriptorValidator {
 
@@ -29,6 +30,11 @@ public class DeploymentDescriptorValidator extends com.sap.cloud.lm.sl.mta.valid
         super(descriptor, platform, handler);
     }
 
+    public DeploymentDescriptorValidator(DeploymentDescriptor descriptor, Platform platform, DescriptorHandler handler,
+        ValidationErrors errors) {
+        super(descriptor, platform, handler, errors);
+    }
+
     @Override
     public void visit(ElementContext context, RequiredDependency requiredDependency) throws ContentException {
         super.visit(context, requiredDependency);
@@ -37,15 +43,15 @@ public class DeploymentDescriptorValidator extends com.sap.cloud.lm.sl.mta.valid
     }
 
     @Override
-    protected void validate(NamedElement container, String requiredDependency) {
+    protected void validate(NamedElement container, String requiredDependency, String path) {
         if (!canBeResolved(requiredDependency)) {
             if (container instanceof Module) {
-                throw new ContentException(Messages.UNRESOLVED_MODULE_REQUIRED_DEPENDENCY, requiredDependency, container.getName());
-            }
-            if (container instanceof Resource) {
-                throw new ContentException(Messages.UNRESOLVED_RESOURCE_REQUIRED_DEPENDENCY, requiredDependency, container.getName());
+                fail(path, requiredDependency, Messages.UNRESOLVED_MODULE_REQUIRED_DEPENDENCY, requiredDependency, container.getName());
+            } else if (container instanceof Resource) {
+                fail(path, requiredDependency, Messages.UNRESOLVED_RESOURCE_REQUIRED_DEPENDENCY, requiredDependency, container.getName());
+            } else {
+                throw new IllegalStateException("Required reference container not supported");
             }
-            throw new IllegalStateException("Required reference container not supported");
         }
     }
 
@@ -91,8 +97,8 @@ public class DeploymentDescriptorValidator extends com.sap.cloud.lm.sl.mta.valid
             boolean isOverwritable = metadata.getOverwritableMetadata(propertyName);
             boolean isOptional = metadata.getOptionalMetadata(propertyName);
             if (properties.get(propertyName) == null && !isOverwritable && !isOptional) {
-                throw new ContentException(Messages.MANDATORY_ELEMENT_HAS_NO_VALUE, elementType,
-                    ValidatorUtil.getPrefixedName(containerName, propertyName));
+                String prefixedName = ValidatorUtil.getPrefixedName(containerName, propertyName);
+                fail(prefixedName, null, Messages.MANDATORY_ELEMENT_HAS_NO_VALUE, elementType, prefixedName);
             }
         }
     }
@@ -2,11 +2,9 @@ package com.sap.cloud.lm.sl.mta.validators.v3;
 
 import static com.sap.cloud.lm.sl.common.util.CommonUtil.cast;
 import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.getPrefixedName;
-import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.validateModifiableElements;
 
 import java.util.Map;
 
-import com.sap.cloud.lm.sl.common.ContentException;
 import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorHandler;
 import com.sap.cloud.lm.sl.mta.message.Constants;
 import com.sap.cloud.lm.sl.mta.message.Messages;
@@ -17,6 +15,7 @@ import com.sap.cloud.lm.sl.mta.model.ParametersContainer;
 import com.sap.cloud.lm.sl.mta.model.ParametersWithMetadataContainer;
 import com.sap.cloud.lm.sl.mta.model.PropertiesContainer;
 import com.sap.cloud.lm.sl.mta.model.PropertiesWithMetadataContainer;
+import com.sap.cloud.lm.sl.mta.validators.ValidationErrors;
 
 public class ExtensionDescriptorValidator extends com.sap.cloud.lm.sl.mta.validators.v2.ExtensionDescriptorValidator {
 
@@ -25,6 +24,11 @@ public class ExtensionDescriptorValidator extends com.sap.cloud.lm.sl.mta.valida
         super(extensionDescriptor, deploymentDescriptor, handler);
     }
 
+    public ExtensionDescriptorValidator(ExtensionDescriptor extensionDescriptor, DeploymentDescriptor deploymentDescriptor,
+        DescriptorHandler handler, ValidationErrors errors) {
+        super(extensionDescriptor, deploymentDescriptor, handler, errors);
+    }
+
     @Override
     protected void validateParameters(ParametersContainer container, ParametersContainer extensionContainer, String containerName) {
         ParametersWithMetadataContainer containerWithMetadata = cast(container);
@@ -47,10 +51,12 @@ public class ExtensionDescriptorValidator extends com.sap.cloud.lm.sl.mta.valida
             Object extensionValue = extensionProperties.get(propertyName);
             if (!isOverwritable && extensionValue != null) {
                 if (value == null) {
-                    throw new ContentException(Messages.CANNOT_MODIFY_ELEMENT, elementType, getPrefixedName(containerName, propertyName),
+                    String prefixedName = getPrefixedName(containerName, propertyName);
+                    fail(prefixedName, extensionValue, Messages.CANNOT_MODIFY_ELEMENT, elementType, prefixedName,
                         extensionDescriptor.getId());
+                } else {
+                    validateModifiableElement(elementType, containerName, propertyName, extensionValue, value);
                 }
-                validateModifiableElements(elementType, containerName, extensionDescriptor.getId(), propertyName, extensionValue, value);
             }
         }
     }
@@ -0,0 +1,58 @@
+package com.sap.cloud.lm.sl.mta;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.sap.cloud.lm.sl.common.util.Runnable;
+
+/**
+ * Runs the microbenchmarks next to the tests, which are not part of the test suite and are started through their main methods. Each
+ * benchmark is run a few times to warm up the JIT compiler, before the measured runs. The results are only indicative, since the garbage
+ * collector and the other threads of the JVM are not isolated from the measured runs.
+ */
+public class BenchmarkUtil {
+
+    public static final int DEFAULT_WARM_UP_RUNS = 10;
+    public static final int DEFAULT_MEASURED_RUNS = 20;
+
+    public static void run(String name, Runnable benchmark) throws Exception {
+        run(name, DEFAULT_WARM_UP_RUNS, DEFAULT_MEASURED_RUNS, benchmark);
+    }
+
+    /**
+     * Prints the minimum and median duration of the measured runs, and the average number of bytes allocated by the current thread in each
+     * of them, if the JVM can measure it.
+     */
+    public static void run(String name, int warmUpRuns, int measuredRuns, Runnable benchmark) throws Exception {
+        for (int i = 0; i < warmUpRuns; i++) {
+            benchmark.run();
+        }
+        long[] durations = new long[measuredRuns];
+        long allocatedBytes = getAllocatedBytes();
+        for (int i = 0; i < measuredRuns; i++) {
+            long start = System.nanoTime();
+            benchmark.run();
+            durations[i] = System.nanoTime() - start;
+        }
+        allocatedBytes = getAllocatedBytes() - allocatedBytes;
+        Arrays.sort(durations);
+        System.out.println(String.format("%-40s min %8.2f ms, median %8.2f ms, %10d KB allocated per run", name, toMillis(durations[0]),
+            toMillis(durations[measuredRuns / 2]), allocatedBytes / measuredRuns / 1024));
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread()
+                .getId());
+        }
+        return 0;
+    }
+
+}
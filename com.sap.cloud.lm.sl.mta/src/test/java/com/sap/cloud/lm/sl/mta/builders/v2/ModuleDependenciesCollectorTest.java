@@ -0,0 +1,66 @@
+package com.sap.cloud.lm.sl.mta.builders.v2;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.sap.cloud.lm.sl.common.util.Callable;
+import com.sap.cloud.lm.sl.common.util.TestUtil;
+import com.sap.cloud.lm.sl.common.util.Tester;
+import com.sap.cloud.lm.sl.common.util.Tester.Expectation;
+import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorParser;
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+
+@RunWith(Parameterized.class)
+public class ModuleDependenciesCollectorTest {
+
+    protected final Tester tester = Tester.forClass(getClass());
+
+    private final String descriptorLocation;
+    private final Expectation expectation;
+
+    public ModuleDependenciesCollectorTest(String descriptorLocation, Expectation expectation) {
+        this.descriptorLocation = descriptorLocation;
+        this.expectation = expectation;
+    }
+
+    @Parameters
+    public static Iterable<Object[]> getParameters() {
+        return Arrays.asList(new Object[][] {
+// @formatter:off
+            // (0) The broker has a transitive dependency to the backend:
+            {
+                "/com/sap/cloud/lm/sl/mta/handlers/v2/mtad-08.yaml", new Expectation("{db=[], service=[db], broker=[dashboard, service, db, backend], backend=[], dashboard=[service, db, backend]}"),
+            },
+            // (1) There are two circular dependencies:
+            {
+                "/com/sap/cloud/lm/sl/mta/handlers/v2/mtad-15.yaml", new Expectation("{foo=[bar, qux, foo, baz], bar=[qux, foo, bar, baz], baz=[foo, bar, qux, baz], qux=[foo, bar, qux, baz], quux=[]}"),
+            },
+            // (2) A module requires something from the same module:
+            {
+                "/com/sap/cloud/lm/sl/mta/handlers/v2/mtad-12.yaml", new Expectation("{di-core-db=[], di-local-npm-registry=[], di-core=[di-core-db], di-builder=[di-core, di-core-db, di-local-npm-registry], di-runner=[di-local-npm-registry, di-core, di-core-db]}"),
+            },
+// @formatter:on
+        });
+    }
+
+    @Test
+    public void testCollectAll() throws Exception {
+        final DeploymentDescriptor descriptor = new DescriptorParser()
+            .parseDeploymentDescriptorYaml(TestUtil.getResourceAsString(descriptorLocation, getClass()));
+
+        tester.test(new Callable<String>() {
+
+            @Override
+            public String call() throws Exception {
+                return new ModuleDependenciesCollector(descriptor).collectAll()
+                    .toString();
+            }
+
+        }, expectation);
+    }
+
+}
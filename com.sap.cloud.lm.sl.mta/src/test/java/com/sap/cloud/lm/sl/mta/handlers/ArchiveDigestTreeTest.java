@@ -0,0 +1,103 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.common.SLException;
+
+public class ArchiveDigestTreeTest {
+
+    private static final String SAMPLE_MTAR = "com.sap.mta.sample-1.2.1-beta.mtar";
+    private static final String MANIFEST = "Manifest-Version: 1.0\n\nName: web/\nMTA-Module: web\n\nName: db.zip\nMTA-Module: db\n\n";
+    private static final ArchiveSizeLimits LIMITS = new ArchiveSizeLimits(1024 * 1024L);
+
+    @Test
+    public void testCreate() throws Exception {
+        ArchiveDigestTree tree = ArchiveDigestTree.create(getClass().getResourceAsStream(SAMPLE_MTAR), "MD5", LIMITS);
+
+        assertEquals(10, tree.getEntryDigests()
+            .size());
+        assertEquals(new HashSet<>(Arrays.asList("pricing", "shine-hana", "web-server")), tree.getModuleDigests()
+            .keySet());
+        assertFalse(tree.getModuleDigest("pricing")
+            .equals(tree.getModuleDigest("web-server")));
+        assertEquals(tree.getDigest(), ArchiveDigestTree.create(getClass().getResourceAsStream(SAMPLE_MTAR), "MD5", LIMITS)
+            .getDigest());
+    }
+
+    @Test
+    public void testDiffModules() throws Exception {
+        ArchiveDigestTree previousTree = createTree("web/index.html", "index", "web/app.js", "app", "db.zip", "db", "readme.txt", "1");
+        ArchiveDigestTree tree = createTree("web/index.html", "index", "web/app.js", "app v2", "db.zip", "db", "readme.txt", "2");
+
+        DigestDiff modulesDiff = tree.diffModules(previousTree);
+        assertTrue(modulesDiff.hasChanges());
+        assertEquals(Collections.singleton("web"), modulesDiff.getChanged());
+        assertEquals(Collections.singleton("db"), modulesDiff.getUnchanged());
+        assertTrue(modulesDiff.getAdded()
+            .isEmpty());
+        assertTrue(modulesDiff.getRemoved()
+            .isEmpty());
+
+        DigestDiff entriesDiff = tree.diffEntries(previousTree);
+        assertEquals(new HashSet<>(Arrays.asList("readme.txt", "web/app.js")), entriesDiff.getChanged());
+    }
+
+    @Test
+    public void testDiffIdenticalArchives() throws Exception {
+        ArchiveDigestTree previousTree = createTree("web/index.html", "index", "db.zip", "db");
+        ArchiveDigestTree tree = createTree("web/index.html", "index", "db.zip", "db");
+
+        assertEquals(previousTree.getDigest(), tree.getDigest());
+        assertFalse(tree.diffModules(previousTree)
+            .hasChanges());
+    }
+
+    @Test
+    public void testDiffAddedAndRemovedModules() throws Exception {
+        ArchiveDigestTree previousTree = createTree("web/index.html", "index");
+        ArchiveDigestTree tree = createTree("db.zip", "db");
+
+        DigestDiff modulesDiff = tree.diffModules(previousTree);
+        assertEquals(Collections.singleton("db"), modulesDiff.getAdded());
+        assertEquals(Collections.singleton("web"), modulesDiff.getRemoved());
+    }
+
+    @Test(expected = SLException.class)
+    public void testDiffTreesWithDifferentAlgorithms() throws Exception {
+        ArchiveDigestTree previousTree = ArchiveDigestTree.create(getClass().getResourceAsStream(SAMPLE_MTAR), "MD5", LIMITS);
+        ArchiveDigestTree tree = ArchiveDigestTree.create(getClass().getResourceAsStream(SAMPLE_MTAR), "SHA-256", LIMITS);
+        tree.diffModules(previousTree);
+    }
+
+    private ArchiveDigestTree createTree(String... entryNamesAndContents) throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            addEntry(zos, "META-INF/MANIFEST.MF", MANIFEST);
+            for (int i = 0; i < entryNamesAndContents.length; i += 2) {
+                addEntry(zos, entryNamesAndContents[i], entryNamesAndContents[i + 1]);
+            }
+        }
+        return ArchiveDigestTree.create(new ByteArrayInputStream(archive.toByteArray()), "MD5", LIMITS);
+    }
+
+    private void addEntry(ZipOutputStream zos, String entryName, String content) throws IOException {
+        zos.putNextEntry(new ZipEntry(entryName));
+        zos.write(content.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+    }
+
+}
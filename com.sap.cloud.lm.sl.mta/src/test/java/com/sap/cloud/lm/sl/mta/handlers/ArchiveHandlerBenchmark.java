@@ -0,0 +1,80 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.sap.cloud.lm.sl.mta.BenchmarkUtil;
+
+/**
+ * Inflates all entries of a generated archive with many deflated entries, sequentially from the archive stream and concurrently from an
+ * archive reader with thread pools of different sizes. The content of the entries is compressible text, so that the inflating, and not the
+ * reading of the file, dominates the durations.
+ */
+public class ArchiveHandlerBenchmark {
+
+    private static final int ENTRIES_COUNT = 64;
+    private static final int ENTRY_SIZE = 1024 * 1024;
+    private static final long MAX_ENTRY_SIZE = 2 * ENTRY_SIZE;
+
+    public static void main(String[] args) throws Exception {
+        Path archive = createArchive();
+        try {
+            BenchmarkUtil.run("Sequentially from the archive stream", 3, 10, () -> {
+                try (InputStream archiveStream = Files.newInputStream(archive)) {
+                    ArchiveHandler.visitEntries(archiveStream, entryName -> true, MAX_ENTRY_SIZE, ArchiveHandlerBenchmark::consume);
+                }
+            });
+            int processors = Runtime.getRuntime()
+                .availableProcessors();
+            for (int threads : new int[] { 1, 2, 4, processors }) {
+                run(archive, threads);
+            }
+        } finally {
+            Files.delete(archive);
+        }
+    }
+
+    private static void run(Path archive, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (ArchiveReader archiveReader = new ArchiveReader(archive)) {
+            BenchmarkUtil.run("Concurrently with " + threads + " thread(s)", 3, 10,
+                () -> ArchiveHandler.visitEntries(archiveReader, entryName -> true, MAX_ENTRY_SIZE, ArchiveHandlerBenchmark::consume,
+                    executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void consume(ZipEntry entry, InputStream entryStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (entryStream.read(buffer) != -1) {
+            // Only the inflating of the entry is measured.
+        }
+    }
+
+    private static Path createArchive() throws IOException {
+        Path archive = Files.createTempFile("benchmark", ".mtar");
+        Random random = new Random(0);
+        try (OutputStream archiveStream = Files.newOutputStream(archive); ZipOutputStream zipStream = new ZipOutputStream(archiveStream)) {
+            for (int i = 0; i < ENTRIES_COUNT; i++) {
+                zipStream.putNextEntry(new ZipEntry("entry-" + i + ".txt"));
+                byte[] content = new byte[ENTRY_SIZE];
+                for (int k = 0; k < content.length; k++) {
+                    content[k] = (byte) ('a' + random.nextInt(16));
+                }
+                zipStream.write(content);
+                zipStream.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+}
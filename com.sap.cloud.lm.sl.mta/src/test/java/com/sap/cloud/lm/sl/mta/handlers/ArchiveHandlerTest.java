@@ -1,22 +1,46 @@
 package com.sap.cloud.lm.sl.mta.handlers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
 import com.sap.cloud.lm.sl.common.ContentException;
+import com.sap.cloud.lm.sl.common.util.DigestHelper;
+import com.sap.cloud.lm.sl.common.util.DigestingInputStream;
 
 public class ArchiveHandlerTest {
 
@@ -89,19 +113,455 @@ public class ArchiveHandlerTest {
 
     @Test
     public void testGetModuleContentFlat() throws Exception {
-        InputStream mtarStream = ArchiveHandlerTest.class.getResourceAsStream(SAMPLE_FLAT_MTAR);
-        try (InputStream is = ArchiveHandler.getInputStream(mtarStream, "web/", MAX_RESOURCE_FILE_SIZE)) {
-            ZipInputStream zis = (ZipInputStream) is;
-            for (ZipEntry e; (e = zis.getNextEntry()) != null;) {
-                if (e.getName()
-                    .equals("web/readme.txt")) {
-                    String readmeContent = IOUtils.toString(zis, StandardCharsets.UTF_8);
-                    assertEquals("App router code will be packaged in this archive", readmeContent);
+        byte[] readmeContent = ArchiveHandler.getFileContent(ArchiveHandlerTest.class.getResourceAsStream(SAMPLE_FLAT_MTAR),
+            "web/readme.txt", MAX_RESOURCE_FILE_SIZE);
+        assertEquals("App router code will be packaged in this archive", new String(readmeContent, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGetManifestFromArchiveReader() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_MTAR))) {
+            Manifest manifest = ArchiveHandler.getManifest(archiveReader, MAX_MANIFEST_SIZE);
+            Map<String, Attributes> entries = manifest.getEntries();
+            assertEquals(4, entries.size());
+            assertTrue(entries.containsKey("web/web-server.zip"));
+            assertTrue(entries.containsKey("META-INF/mtad.yaml"));
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testGetManifestFromArchiveReaderExceedsSizeLimit() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_MTAR))) {
+            ArchiveHandler.getManifest(archiveReader, 512l);
+        }
+    }
+
+    @Test
+    public void testGetDescriptorAndModuleContentFromArchiveReader() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_MTAR))) {
+            String descriptor = ArchiveHandler.getDescriptor(archiveReader, MAX_MTA_DESCRIPTOR_SIZE);
+            assertTrue(descriptor.contains("com.sap.mta.sample"));
+
+            byte[] moduleContent = ArchiveHandler.getFileContent(archiveReader, "web/web-server.zip", 2 * 1024 * 1024);
+            InputStream entryStream = getEntryStream(moduleContent, "readme.txt");
+            String readmeContent = IOUtils.toString(entryStream, StandardCharsets.UTF_8);
+            assertEquals("App router code will be packaged in this archive", readmeContent);
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testGetMissingEntryFromArchiveReader() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_MTAR))) {
+            ArchiveHandler.getFileContent(archiveReader, "missing/module.zip", MAX_RESOURCE_FILE_SIZE);
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testArchiveReaderWithTruncatedZip64ExtraField() throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            ZipEntry entry = new ZipEntry("db/db.zip");
+            entry.setExtra(new byte[] { (byte) 0xFE, (byte) 0xCA, 4, 0, 0, 0, 0, 0 });
+            zos.putNextEntry(entry);
+            zos.write(new byte[16]);
+            zos.closeEntry();
+        }
+        // Turn the extra field into a Zip64 one, which is too short for the compressed size it should contain.
+        ByteBuffer content = ByteBuffer.wrap(archive.toByteArray())
+            .order(ByteOrder.LITTLE_ENDIAN);
+        int centralDirectoryHeader = findCentralDirectoryHeader(content);
+        content.putInt(centralDirectoryHeader + 20, 0xFFFFFFFF);
+        content.putShort(centralDirectoryHeader + 46 + content.getShort(centralDirectoryHeader + 28), (short) 0x0001);
+        Path archivePath = Files.createTempFile("archive", ".mtar");
+        try {
+            Files.write(archivePath, content.array());
+            new ArchiveReader(archivePath).close();
+        } finally {
+            Files.delete(archivePath);
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testGetFileContentFromArchiveReaderWithInvalidChecksum() throws Exception {
+        ByteBuffer content = ByteBuffer.wrap(createArchive("db".getBytes(StandardCharsets.UTF_8), "db/db.zip"))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        int centralDirectoryHeader = findCentralDirectoryHeader(content);
+        content.putInt(centralDirectoryHeader + 16, content.getInt(centralDirectoryHeader + 16) + 1);
+        Path archivePath = createArchiveFile(content.array());
+        try (ArchiveReader archiveReader = new ArchiveReader(archivePath)) {
+            ArchiveHandler.getFileContent(archiveReader, "db/db.zip", MAX_RESOURCE_FILE_SIZE);
+        } finally {
+            Files.delete(archivePath);
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testGetFileContentFromArchiveReaderWithInvalidSize() throws Exception {
+        ByteBuffer content = ByteBuffer.wrap(createArchive("db".getBytes(StandardCharsets.UTF_8), "db/db.zip"))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        int centralDirectoryHeader = findCentralDirectoryHeader(content);
+        content.putInt(centralDirectoryHeader + 24, 3);
+        Path archivePath = createArchiveFile(content.array());
+        try (ArchiveReader archiveReader = new ArchiveReader(archivePath)) {
+            ArchiveHandler.getFileContent(archiveReader, "db/db.zip", MAX_RESOURCE_FILE_SIZE);
+        } finally {
+            Files.delete(archivePath);
+        }
+    }
+
+    @Test
+    public void testGetStoredEntriesFromArchiveReader() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_FLAT_MTAR))) {
+            assertEquals(11, archiveReader.getEntries()
+                .size());
+            assertNull(archiveReader.getEntry("web/web-server.zip"));
+            byte[] readmeContent = ArchiveHandler.getFileContent(archiveReader, "web/readme.txt", MAX_RESOURCE_FILE_SIZE);
+            assertEquals("App router code will be packaged in this archive", new String(readmeContent, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testGetStoredFileContentBuffer() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_FLAT_MTAR))) {
+            ByteBuffer readmeContent = ArchiveHandler.getFileContentBuffer(archiveReader, "web/readme.txt", MAX_RESOURCE_FILE_SIZE);
+            assertTrue(readmeContent instanceof MappedByteBuffer);
+            assertEquals("App router code will be packaged in this archive", StandardCharsets.UTF_8.decode(readmeContent)
+                .toString());
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testGetFileContentBufferExceedsMaxBufferSize() throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            ZipEntry entry = new ZipEntry("db/db.zip");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(0);
+            entry.setCrc(0);
+            zos.putNextEntry(entry);
+            zos.closeEntry();
+        }
+        // Declare a size, which does not fit in a buffer, in the central directory.
+        ByteBuffer content = ByteBuffer.wrap(archive.toByteArray())
+            .order(ByteOrder.LITTLE_ENDIAN);
+        int centralDirectoryHeader = findCentralDirectoryHeader(content);
+        content.putInt(centralDirectoryHeader + 20, 0xFFFFFFFE);
+        content.putInt(centralDirectoryHeader + 24, 0xFFFFFFFE);
+        Path archivePath = Files.createTempFile("archive", ".mtar");
+        try (ArchiveReader archiveReader = new ArchiveReader(Files.write(archivePath, content.array()))) {
+            ArchiveHandler.getFileContentBuffer(archiveReader, "db/db.zip", Long.MAX_VALUE);
+        } finally {
+            Files.delete(archivePath);
+        }
+    }
+
+    @Test
+    public void testGetDeflatedFileContentBuffer() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_FLAT_MTAR))) {
+            assertFalse(archiveReader.isMappable(archiveReader.getEntry(ArchiveHandler.MTA_DEPLOYMENT_DESCRIPTOR_NAME)));
+            ByteBuffer descriptor = ArchiveHandler.getFileContentBuffer(archiveReader, ArchiveHandler.MTA_DEPLOYMENT_DESCRIPTOR_NAME,
+                MAX_MTA_DESCRIPTOR_SIZE);
+            assertTrue(StandardCharsets.UTF_8.decode(descriptor)
+                .toString()
+                .contains("com.sap.mta.sample"));
+        }
+    }
+
+    @Test
+    public void testTransferFileContent() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_FLAT_MTAR))) {
+            ByteArrayOutputStream storedContent = new ByteArrayOutputStream();
+            long transferred = ArchiveHandler.transferFileContent(archiveReader, "web/readme.txt", MAX_RESOURCE_FILE_SIZE,
+                Channels.newChannel(storedContent));
+            assertEquals(48, transferred);
+            assertEquals("App router code will be packaged in this archive", new String(storedContent.toByteArray(), StandardCharsets.UTF_8));
+
+            ByteArrayOutputStream deflatedContent = new ByteArrayOutputStream();
+            ArchiveHandler.transferFileContent(archiveReader, ArchiveHandler.MTA_DEPLOYMENT_DESCRIPTOR_NAME, MAX_MTA_DESCRIPTOR_SIZE,
+                Channels.newChannel(deflatedContent));
+            assertEquals(ArchiveHandler.getDescriptor(archiveReader, MAX_MTA_DESCRIPTOR_SIZE),
+                new String(deflatedContent.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testTransferFileContentExceedsSize() throws Exception {
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_FLAT_MTAR))) {
+            ArchiveHandler.transferFileContent(archiveReader, "web/readme.txt", 16l, Channels.newChannel(new ByteArrayOutputStream()));
+        }
+    }
+
+    @Test
+    public void testVisitEntries() throws Exception {
+        List<String> visitedEntries = new ArrayList<>();
+        ArchiveHandler.visitEntries(ArchiveHandlerTest.class.getResourceAsStream(SAMPLE_MTAR), entryName -> entryName.endsWith(".zip"),
+            MAX_RESOURCE_FILE_SIZE, (entry, entryStream) -> {
+                visitedEntries.add(entry.getName());
+                if (entry.getName()
+                    .equals("web/web-server.zip")) {
+                    InputStream readmeStream = getEntryStream(IOUtils.toByteArray(entryStream), "readme.txt");
+                    assertEquals("App router code will be packaged in this archive",
+                        IOUtils.toString(readmeStream, StandardCharsets.UTF_8));
                 }
+            });
+        assertEquals(Arrays.asList("db/pricing-db.zip", "web/web-server.zip", "applogic/pricing.zip"), visitedEntries);
+    }
+
+    @Test
+    public void testVisitEntriesComputesArchiveDigests() throws Exception {
+        DigestingInputStream archiveStream = new DigestingInputStream(ArchiveHandlerTest.class.getResourceAsStream(SAMPLE_MTAR), "MD5",
+            "SHA-256");
+        ArchiveHandler.visitEntries(archiveStream, entryName -> entryName.endsWith(".zip"), MAX_RESOURCE_FILE_SIZE,
+            (entry, entryStream) -> IOUtils.toByteArray(entryStream));
+        assertEquals(DigestHelper.computeFileChecksums(getResourcePath(SAMPLE_MTAR), "MD5", "SHA-256"), archiveStream.getDigests());
+    }
+
+    @Test(expected = ContentException.class)
+    public void testVisitEntriesExceedsSize() throws Exception {
+        ArchiveHandler.visitEntries(ArchiveHandlerTest.class.getResourceAsStream(SAMPLE_MTAR), entryName -> entryName.endsWith(".zip"),
+            128l, (entry, entryStream) -> IOUtils.toByteArray(entryStream));
+    }
+
+    @Test
+    public void testVisitEntriesInParallel() throws Exception {
+        Map<String, byte[]> visitedEntries = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_MTAR))) {
+            ArchiveHandler.visitEntries(archiveReader, entryName -> !entryName.endsWith("/"), MAX_RESOURCE_FILE_SIZE,
+                (entry, entryStream) -> visitedEntries.put(entry.getName(), IOUtils.toByteArray(entryStream)), executor);
+            assertEquals(10, visitedEntries.size());
+            for (String entryName : visitedEntries.keySet()) {
+                assertTrue(Arrays.equals(ArchiveHandler.getFileContent(archiveReader, entryName, MAX_RESOURCE_FILE_SIZE),
+                    visitedEntries.get(entryName)));
             }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
+    @Test(expected = ContentException.class)
+    public void testVisitEntriesInParallelExceedsSize() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_MTAR))) {
+            ArchiveHandler.visitEntries(archiveReader, entryName -> entryName.endsWith(".zip"), 128l,
+                (entry, entryStream) -> IOUtils.toByteArray(entryStream), executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVisitEntriesInParallelWaitsForAllTasksOnFailure() throws Exception {
+        CountDownLatch slowVisitStarted = new CountDownLatch(1);
+        AtomicBoolean slowVisitFinished = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (ArchiveReader archiveReader = new ArchiveReader(getResourcePath(SAMPLE_MTAR))) {
+            try {
+                ArchiveHandler.visitEntries(archiveReader, entryName -> entryName.endsWith(".zip"), MAX_RESOURCE_FILE_SIZE,
+                    (entry, entryStream) -> {
+                        if (entry.getName()
+                            .equals("web/web-server.zip")) {
+                            slowVisitStarted.countDown();
+                            sleep(200);
+                            IOUtils.toByteArray(entryStream);
+                            slowVisitFinished.set(true);
+                        } else {
+                            await(slowVisitStarted);
+                            throw new ContentException("Visit failed");
+                        }
+                    }, executor);
+                fail();
+            } catch (ContentException e) {
+                assertEquals("Visit failed", e.getMessage());
+            }
+            assertTrue(slowVisitFinished.get());
+            // The channel of the reader is still open, since the slow visit was not interrupted.
+            assertTrue(ArchiveHandler.getFileContent(archiveReader, "db/pricing-db.zip", MAX_RESOURCE_FILE_SIZE).length > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVisitMtaEntries() throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            addEntry(zos, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n\nName: web/\nMTA-Module: web\n\nName: db/db.zip\nMTA-Module: db\n\n");
+            addEntry(zos, "web/readme.txt", "web");
+            addEntry(zos, "db/db.zip", "db");
+            addEntry(zos, "other/readme.txt", "other");
+            addEntry(zos, "META-INF/mtad.yaml", "_schema-version: 3.1");
+        }
+
+        List<String> visitedEntries = new ArrayList<>();
+        ArchiveHandler.visitMtaEntries(new ByteArrayInputStream(archive.toByteArray()), MAX_MANIFEST_SIZE, MAX_RESOURCE_FILE_SIZE,
+            (entry, entryStream) -> visitedEntries.add(entry.getName() + "=" + IOUtils.toString(entryStream, StandardCharsets.UTF_8)
+                .split("\n")[0]));
+        assertEquals(Arrays.asList("META-INF/MANIFEST.MF=Manifest-Version: 1.0", "web/readme.txt=web", "db/db.zip=db",
+            "META-INF/mtad.yaml=_schema-version: 3.1"), visitedEntries);
+    }
+
+    @Test(expected = ContentException.class)
+    public void testVisitMtaEntriesWithEntryBeforeManifest() throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            addEntry(zos, "db/db.zip", "db");
+            addEntry(zos, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\n\nName: db/db.zip\nMTA-Module: db\n\n");
+        }
+
+        ArchiveHandler.visitMtaEntries(new ByteArrayInputStream(archive.toByteArray()), MAX_MANIFEST_SIZE, MAX_RESOURCE_FILE_SIZE,
+            (entry, entryStream) -> IOUtils.toByteArray(entryStream));
+    }
+
+    @Test(expected = ContentException.class)
+    public void testGetFileContentWithUnknownSizeExceedsSize() throws Exception {
+        byte[] archive = createArchive(new byte[2 * 1024 * 1024], "db/db.zip");
+        ArchiveHandler.getFileContent(new ByteArrayInputStream(archive), "db/db.zip", 1024 * 1024l);
+    }
+
+    @Test(expected = ContentException.class)
+    @SuppressWarnings("deprecation")
+    public void testGetInputStreamWithUnknownSizeExceedsSize() throws Exception {
+        byte[] archive = createArchive(new byte[2 * 1024 * 1024], "db/db.zip");
+        try (InputStream is = ArchiveHandler.getInputStream(new ByteArrayInputStream(archive), "db/db.zip", 1024 * 1024l)) {
+            IOUtils.toByteArray(is);
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testVisitEntriesExceedsCompressionRatio() throws Exception {
+        byte[] archive = createArchive(new byte[2 * 1024 * 1024], "db/db.zip");
+        ArchiveHandler.visitEntries(new ByteArrayInputStream(archive), entryName -> true,
+            new ArchiveSizeLimits(MAX_RESOURCE_FILE_SIZE, MAX_RESOURCE_FILE_SIZE, 100),
+            (entry, entryStream) -> IOUtils.toByteArray(entryStream));
+    }
+
+    @Test(expected = ContentException.class)
+    public void testVisitEntriesExceedsArchiveSize() throws Exception {
+        byte[] archive = createArchive(new byte[600 * 1024], "db/db.zip", "web/web.zip");
+        ArchiveHandler.visitEntries(new ByteArrayInputStream(archive), entryName -> true,
+            new ArchiveSizeLimits(1024 * 1024l, 1024 * 1024l, Double.POSITIVE_INFINITY),
+            (entry, entryStream) -> IOUtils.toByteArray(entryStream));
+    }
+
+    @Test
+    public void testVisitEntriesWithinLimits() throws Exception {
+        byte[] archive = createArchive(new byte[600 * 1024], "db/db.zip", "web/web.zip");
+        List<String> visitedEntries = new ArrayList<>();
+        ArchiveHandler.visitEntries(new ByteArrayInputStream(archive), entryName -> true,
+            new ArchiveSizeLimits(1024 * 1024l, 2 * 1024 * 1024l, Double.POSITIVE_INFINITY),
+            (entry, entryStream) -> visitedEntries.add(entry.getName() + "=" + IOUtils.toByteArray(entryStream).length));
+        assertEquals(Arrays.asList("db/db.zip=614400", "web/web.zip=614400"), visitedEntries);
+    }
+
+    @Test(expected = ContentException.class)
+    public void testGetFileContentFromArchiveReaderExceedsCompressionRatio() throws Exception {
+        Path archivePath = createArchiveFile(createArchive(new byte[2 * 1024 * 1024], "db/db.zip"));
+        try (ArchiveReader archiveReader = new ArchiveReader(archivePath)) {
+            ArchiveHandler.getFileContent(archiveReader, "db/db.zip",
+                new ArchiveSizeLimits(MAX_RESOURCE_FILE_SIZE, MAX_RESOURCE_FILE_SIZE, 100));
+        } finally {
+            Files.delete(archivePath);
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testVisitEntriesFromArchiveReaderWithForgedCompressedSize() throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            zos.putNextEntry(new ZipEntry("db/db.zip"));
+            zos.write(new byte[2 * 1024 * 1024]);
+            zos.closeEntry();
+            byte[] incompressibleContent = new byte[128 * 1024];
+            new Random(0).nextBytes(incompressibleContent);
+            zos.putNextEntry(new ZipEntry("web/web.zip"));
+            zos.write(incompressibleContent);
+            zos.closeEntry();
+        }
+        // Declare a compressed size, which is large enough for the compression ratio of the first entry to seem acceptable.
+        ByteBuffer content = ByteBuffer.wrap(archive.toByteArray())
+            .order(ByteOrder.LITTLE_ENDIAN);
+        content.putInt(findCentralDirectoryHeader(content) + 20, 64 * 1024);
+        Path archivePath = createArchiveFile(content.array());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ArchiveReader archiveReader = new ArchiveReader(archivePath)) {
+            ArchiveHandler.visitEntries(archiveReader, entryName -> true,
+                new ArchiveSizeLimits(MAX_RESOURCE_FILE_SIZE, MAX_RESOURCE_FILE_SIZE, 100),
+                (entry, entryStream) -> IOUtils.toByteArray(entryStream), executor);
+        } finally {
+            executor.shutdownNow();
+            Files.delete(archivePath);
+        }
+    }
+
+    @Test(expected = ContentException.class)
+    public void testVisitMtaEntriesCountsManifestTowardsArchiveSize() throws Exception {
+        String manifest = "Manifest-Version: 1.0\n\nName: db/db.zip\nMTA-Module: db\n\n";
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            addEntry(zos, "META-INF/MANIFEST.MF", manifest);
+            addEntry(zos, "db/db.zip", "db");
+        }
+
+        ArchiveHandler.visitMtaEntries(new ByteArrayInputStream(archive.toByteArray()), MAX_MANIFEST_SIZE,
+            new ArchiveSizeLimits(MAX_RESOURCE_FILE_SIZE, manifest.length() + 1, Double.POSITIVE_INFINITY),
+            (entry, entryStream) -> IOUtils.toByteArray(entryStream));
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+    }
+
+    private byte[] createArchive(byte[] content, String... entryNames) throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(archive)) {
+            for (String entryName : entryNames) {
+                zos.putNextEntry(new ZipEntry(entryName));
+                zos.write(content);
+                zos.closeEntry();
+            }
+        }
+        return archive.toByteArray();
+    }
+
+    private Path createArchiveFile(byte[] content) throws IOException {
+        Path archivePath = Files.createTempFile("archive", ".mtar");
+        Files.write(archivePath, content);
+        return archivePath;
+    }
+
+    private int findCentralDirectoryHeader(ByteBuffer archive) {
+        for (int position = 0; position < archive.limit() - 4; position++) {
+            if (archive.getInt(position) == 0x02014b50) {
+                return position;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    private void addEntry(ZipOutputStream zos, String entryName, String content) throws IOException {
+        zos.putNextEntry(new ZipEntry(entryName));
+        zos.write(content.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+    }
+
+    private Path getResourcePath(String resource) throws Exception {
+        return Paths.get(ArchiveHandlerTest.class.getResource(resource)
+            .toURI());
+    }
+
     private InputStream getEntryStream(byte[] content, String entryName) throws IOException {
         ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(content));
         for (ZipEntry e; (e = zis.getNextEntry()) != null;) {
@@ -0,0 +1,172 @@
+package com.sap.cloud.lm.sl.mta.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sap.cloud.lm.sl.common.util.DigestHelper;
+
+public class ArchiveMetadataCacheTest {
+
+    private static final String MTAD_VALID = "mtad-valid.yaml";
+    private static final String MANIFEST = "Manifest-Version: 1.0\n\nName: web/\nMTA-Module: web\n\n";
+    private static final String DIGEST_ALGORITHM = "MD5";
+    private static final long MAX_MTA_DESCRIPTOR_SIZE = 1024 * 1024L;
+    private static final long MAX_MANIFEST_SIZE = 1024 * 1024L;
+    private static final long MAX_CACHE_SIZE = 1024 * 1024 * 1024L;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path archive;
+    private Path otherArchive;
+    private Path thirdArchive;
+
+    @Before
+    public void setUp() throws Exception {
+        String descriptor;
+        try (InputStream descriptorStream = getClass().getResourceAsStream(MTAD_VALID)) {
+            descriptor = IOUtils.toString(descriptorStream, StandardCharsets.UTF_8);
+        }
+        archive = createArchive("test.mtar", descriptor);
+        otherArchive = createArchive("other.mtar", descriptor.replace("com.sap.mta.test", "com.sap.mta.other"));
+        thirdArchive = createArchive("third.mtar", descriptor.replace("com.sap.mta.test", "com.sap.mta.third"));
+    }
+
+    @Test
+    public void testGetCachedMetadata() throws Exception {
+        ArchiveMetadataCache cache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 10, MAX_CACHE_SIZE);
+        ArchiveMetadata metadata = cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+
+        assertSame(metadata, cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE));
+        assertEquals(DigestHelper.computeFileChecksum(archive, DIGEST_ALGORITHM), metadata.getDigest());
+        assertEquals("com.sap.mta.test", metadata.getDeploymentDescriptor()
+            .getId());
+        assertNotSame(metadata.getDeploymentDescriptor(), metadata.getDeploymentDescriptor());
+        assertTrue(metadata.getManifest()
+            .getEntries()
+            .containsKey("web/"));
+        assertEquals(3, metadata.getEntries()
+            .size());
+        assertEquals(ZipEntry.DEFLATED, metadata.getEntry("web/readme.txt")
+            .getMethod());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsedMetadata() throws Exception {
+        ArchiveMetadataCache cache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 1, MAX_CACHE_SIZE);
+        ArchiveMetadata metadata = cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        cache.get(otherArchive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+
+        assertEquals(1, cache.size());
+        assertNotSame(metadata, cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE));
+    }
+
+    @Test
+    public void testEvictMetadataExceedingMaxSize() throws Exception {
+        ArchiveMetadataCache cache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 10, 1024);
+        cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testRestoreSpilledMetadata() throws Exception {
+        Path spillDirectory = temporaryFolder.newFolder("spill")
+            .toPath();
+        ArchiveMetadataCache cache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 1, MAX_CACHE_SIZE, spillDirectory);
+        ArchiveMetadata metadata = cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        cache.get(otherArchive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        assertTrue(Files.isDirectory(spillDirectory.resolve(metadata.getDigest())));
+
+        Files.delete(archive);
+        ArchiveMetadata restoredMetadata = cache.get(archive, metadata.getDigest(), MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        assertEquals("com.sap.mta.test", restoredMetadata.getDeploymentDescriptor()
+            .getId());
+        assertEquals(metadata.getManifest(), restoredMetadata.getManifest());
+        assertEquals(metadata.getEntry("web/readme.txt")
+            .getLocalHeaderOffset(),
+            restoredMetadata.getEntry("web/readme.txt")
+                .getLocalHeaderOffset());
+    }
+
+    @Test
+    public void testDeleteLeastRecentlySpilledMetadata() throws Exception {
+        Path spillDirectory = temporaryFolder.newFolder("spill")
+            .toPath();
+        ArchiveMetadataCache cache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 1, MAX_CACHE_SIZE, spillDirectory, 1, MAX_CACHE_SIZE);
+        ArchiveMetadata metadata = cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        ArchiveMetadata otherMetadata = cache.get(otherArchive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        cache.get(thirdArchive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+
+        assertEquals(1, cache.spilledCount());
+        assertFalse(Files.exists(spillDirectory.resolve(metadata.getDigest())));
+        assertTrue(Files.isDirectory(spillDirectory.resolve(otherMetadata.getDigest())));
+    }
+
+    @Test
+    public void testIndexExistingSpilledMetadata() throws Exception {
+        Path spillDirectory = temporaryFolder.newFolder("spill")
+            .toPath();
+        ArchiveMetadataCache cache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 1, MAX_CACHE_SIZE, spillDirectory, 10, MAX_CACHE_SIZE);
+        cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        cache.get(otherArchive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        cache.get(thirdArchive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        assertEquals(2, cache.spilledCount());
+
+        ArchiveMetadataCache otherCache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 1, MAX_CACHE_SIZE, spillDirectory, 1, MAX_CACHE_SIZE);
+        assertEquals(1, otherCache.spilledCount());
+    }
+
+    @Test
+    public void testGetEntriesReturnsCopies() throws Exception {
+        ArchiveMetadataCache cache = new ArchiveMetadataCache(DIGEST_ALGORITHM, 10, MAX_CACHE_SIZE);
+        ArchiveMetadata metadata = cache.get(archive, MAX_MANIFEST_SIZE, MAX_MTA_DESCRIPTOR_SIZE);
+        metadata.getEntry("web/readme.txt")
+            .setSize(0);
+        metadata.getEntries()
+            .get(0)
+            .setComment("modified");
+
+        assertEquals(3, metadata.getEntry("web/readme.txt")
+            .getSize());
+        assertNull(metadata.getEntries()
+            .get(0)
+            .getComment());
+    }
+
+    private Path createArchive(String fileName, String descriptor) throws IOException {
+        Path archive = temporaryFolder.newFile(fileName)
+            .toPath();
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(archive))) {
+            addEntry(zos, "META-INF/MANIFEST.MF", MANIFEST);
+            addEntry(zos, ArchiveHandler.MTA_DEPLOYMENT_DESCRIPTOR_NAME, descriptor);
+            addEntry(zos, "web/readme.txt", "web");
+        }
+        return archive;
+    }
+
+    private void addEntry(ZipOutputStream zos, String entryName, String content) throws IOException {
+        zos.putNextEntry(new ZipEntry(entryName));
+        zos.write(content.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+    }
+
+}
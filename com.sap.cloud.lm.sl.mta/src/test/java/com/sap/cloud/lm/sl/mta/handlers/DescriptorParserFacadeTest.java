@@ -21,6 +21,8 @@ public class DescriptorParserFacadeTest {
     private static final String DESCRIPTOR_EMPTY = "empty.yaml";
     private static final String MTAEXT_VALID = "config-valid.mtaext";
     private static final String DESCRIPTOR_MISSING_SCHEMA = "mtad-missing-schema.yaml";
+    private static final String DESCRIPTOR_SCHEMA_VERSION_LAST = "mtad-schema-version-last.yaml";
+    private static final String DESCRIPTOR_UNSUPPORTED_SCHEMA = "mtad-unsupported-schema.yaml";
 
     private static final String SCHEMA_VERSION_KEY = "_schema-version";
 
@@ -62,6 +64,35 @@ public class DescriptorParserFacadeTest {
         }
     }
 
+    @Test
+    public void testMissingSchemaParseDeploymentDescriptorWithString() {
+        String descriptorString = TestUtil.getResourceAsString(DESCRIPTOR_MISSING_SCHEMA, getClass());
+        try {
+            parser.parseDeploymentDescriptor(descriptorString);
+            fail("Expected exception");
+        } catch (ContentException e) {
+            assertEquals(MessageFormat.format(Messages.MISSING_REQUIRED_KEY, SCHEMA_VERSION_KEY), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSchemaVersionAfterNestedElementsParseDeploymentDescriptorWithString() {
+        String descriptorString = TestUtil.getResourceAsString(DESCRIPTOR_SCHEMA_VERSION_LAST, getClass());
+        DeploymentDescriptor descriptor = parser.parseDeploymentDescriptor(descriptorString);
+        assertEquals("3.1.0", descriptor.getSchemaVersion());
+    }
+
+    @Test
+    public void testUnsupportedSchemaParseDeploymentDescriptorWithStream() {
+        InputStream descriptorStream = TestUtil.getResourceAsInputStream(DESCRIPTOR_UNSUPPORTED_SCHEMA, getClass());
+        try {
+            parser.parseDeploymentDescriptor(descriptorStream);
+            fail("Expected exception");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(MessageFormat.format(Messages.UNSUPPORTED_VERSION, 100), e.getMessage());
+        }
+    }
+
     @Test
     public void testValidParseExtensiontDescriptorWithStream() {
         InputStream descriptorStream = TestUtil.getResourceAsInputStream(MTAEXT_VALID, getClass());
@@ -69,7 +69,7 @@ public class DescriptorHandlerTest {
                 },
                 // (05) There is a direct circular dependency between two modules, and both of the modules are hard:
                 {
-                    "mtad-10.yaml", new Expectation(Expectation.Type.EXCEPTION, "Modules, \"baz\" and \"foo\", have hard circular dependencies"),
+                    "mtad-10.yaml", new Expectation(Expectation.Type.EXCEPTION, "Modules have hard circular dependencies: [foo, baz]"),
                 },
                 // (06) There is a direct circular dependency between two modules, and both of the modules are soft:
                 {
@@ -77,7 +77,7 @@ public class DescriptorHandlerTest {
                 },
                 // (07) There is a circular transitive dependency between two modules, and both of the modules are hard:
                 {
-                    "mtad-11.yaml", new Expectation(Expectation.Type.EXCEPTION, "Modules, \"baz\" and \"foo\", have hard circular dependencies"),
+                    "mtad-11.yaml", new Expectation(Expectation.Type.EXCEPTION, "Modules have hard circular dependencies: [foo, baz]"),
                 },
                 // (08) There is a circular transitive dependency between two modules, and both of the modules are hard:
                 {
@@ -93,7 +93,7 @@ public class DescriptorHandlerTest {
                 },
                 // (11) There are two circular dependencies and two modules are hard:
                 {
-                    "mtad-16.yaml", new Expectation(Expectation.Type.EXCEPTION, "Modules, \"baz\" and \"bar\", have hard circular dependencies"),
+                    "mtad-16.yaml", new Expectation(Expectation.Type.EXCEPTION, "Modules have hard circular dependencies: [bar, baz]"),
                 },
                 // (12) There are two circular dependencies and one  module  is hard:
                 {
@@ -103,6 +103,14 @@ public class DescriptorHandlerTest {
                 {
                     "mtad-18.yaml", new Expectation("[bar, foo]"),
                 },
+                // (14) There are two separate hard circular dependencies:
+                {
+                    "mtad-22.yaml", new Expectation(Expectation.Type.EXCEPTION, "Modules have hard circular dependencies: [foo, bar], [baz, qux]"),
+                },
+                // (15) There is a circular dependency, which is broken by its hard module, and the rest of it is sorted without that module:
+                {
+                    "mtad-23.yaml", new Expectation("[baz, bar, foo, qux]"),
+                },
 // @formatter:on
             });
         }
@@ -137,4 +145,109 @@ public class DescriptorHandlerTest {
 
     }
 
+    public static class IndexedDeployOrderTest extends DeployOrderTest {
+
+        public IndexedDeployOrderTest(String descriptorLocation, Expectation expectation) {
+            super(descriptorLocation, expectation);
+        }
+
+        @Override
+        protected DescriptorHandler getDescriptorHandler() {
+            return new IndexedDescriptorHandler();
+        }
+
+    }
+
+    @RunWith(Parameterized.class)
+    public static class DeploymentPlanTest {
+
+        protected final Tester tester = Tester.forClass(getClass());
+
+        protected final DescriptorHandler handler = getDescriptorHandler();
+
+        protected String descriptorLocation;
+        protected int maxParallelism;
+        protected Expectation expectation;
+
+        public DeploymentPlanTest(String descriptorLocation, int maxParallelism, Expectation expectation) {
+            this.descriptorLocation = descriptorLocation;
+            this.maxParallelism = maxParallelism;
+            this.expectation = expectation;
+        }
+
+        protected DescriptorHandler getDescriptorHandler() {
+            return new DescriptorHandler();
+        }
+
+        @Parameters
+        public static Iterable<Object[]> getParameters() {
+            return Arrays.asList(new Object[][] {
+// @formatter:off
+                // (00) There is a direct circular dependency between two modules, and both of the modules are soft:
+                {
+                    "mtad-05.yaml", Integer.MAX_VALUE, new Expectation("[[bar, qux], [foo], [baz]] 3"),
+                },
+                // (01) The broker has a transitive dependency to the backend:
+                {
+                    "mtad-08.yaml", Integer.MAX_VALUE, new Expectation("[[db, backend], [service], [dashboard], [broker]] 4"),
+                },
+                // (02) Only one module can be deployed at a time:
+                {
+                    "mtad-08.yaml", 1, new Expectation("[[db], [service], [backend], [dashboard], [broker]] 4"),
+                },
+                // (03) Independent modules are deployed in the same wave:
+                {
+                    "mtad-12.yaml", 2, new Expectation("[[di-core-db, di-local-npm-registry], [di-core], [di-builder, di-runner]] 3"),
+                },
+                // (04) The dependency of the hard module, which breaks a circular dependency, is ignored:
+                {
+                    "mtad-23.yaml", Integer.MAX_VALUE, new Expectation("[[baz, qux], [bar], [foo]] 3"),
+                },
+                // (05) There is a direct circular dependency between two modules, and both of the modules are hard:
+                {
+                    "mtad-10.yaml", Integer.MAX_VALUE, new Expectation(Expectation.Type.EXCEPTION, "Modules have hard circular dependencies: [foo, baz]"),
+                },
+                // (06) The maximum parallelism is not positive:
+                {
+                    "mtad-05.yaml", 0, new Expectation(Expectation.Type.EXCEPTION, "Invalid maximum parallelism 0, it must be at least 1"),
+                },
+// @formatter:on
+            });
+        }
+
+        @Test
+        public void testGetDeploymentPlan() throws Exception {
+            final DeploymentDescriptor descriptor = getDescriptorParser()
+                .parseDeploymentDescriptorYaml(TestUtil.getResourceAsString(descriptorLocation, getClass()));
+
+            tester.test(new Callable<String>() {
+
+                @Override
+                public String call() throws Exception {
+                    DeploymentPlan plan = handler.getDeploymentPlan(descriptor, DeployOrderTest.PARALLEL_DEPLOYMENTS_PROP,
+                        DeployOrderTest.DEPENDENCY_TYPE_PROP, DeployOrderTest.DEPENDENCY_TYPE_HARD, maxParallelism);
+                    return getNames(plan.getWaves()) + " " + plan.getCriticalPathLength();
+                }
+
+                private List<List<String>> getNames(List<List<Module>> waves) {
+                    List<List<String>> names = new LinkedList<>();
+                    for (List<Module> wave : waves) {
+                        List<String> waveNames = new LinkedList<>();
+                        for (Module module : wave) {
+                            waveNames.add(module.getName());
+                        }
+                        names.add(waveNames);
+                    }
+                    return names;
+                }
+
+            }, expectation);
+        }
+
+        protected DescriptorParser getDescriptorParser() {
+            return new DescriptorParser();
+        }
+
+    }
+
 }
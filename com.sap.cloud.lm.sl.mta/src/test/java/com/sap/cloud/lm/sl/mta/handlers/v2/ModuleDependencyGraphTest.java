@@ -0,0 +1,67 @@
+package com.sap.cloud.lm.sl.mta.handlers.v2;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.mta.model.Module;
+
+public class ModuleDependencyGraphTest {
+
+    private static final int LONG_CHAIN_LENGTH = 100_000;
+
+    @Test
+    public void testSortLongChain() {
+        List<Module> modules = createChain(LONG_CHAIN_LENGTH, false);
+        List<Module> sortedModules = ModuleDependencyGraph.ofDeployedAfter(modules)
+            .sort(module -> false);
+
+        assertEquals(LONG_CHAIN_LENGTH, sortedModules.size());
+        assertEquals(modules.get(LONG_CHAIN_LENGTH - 1), sortedModules.get(0));
+        assertEquals(modules.get(0), sortedModules.get(LONG_CHAIN_LENGTH - 1));
+    }
+
+    @Test
+    public void testGetCyclesOfLongCycle() {
+        List<Module> modules = createChain(LONG_CHAIN_LENGTH, true);
+        List<List<Module>> cycles = ModuleDependencyGraph.ofDeployedAfter(modules)
+            .getCycles();
+
+        assertEquals(Collections.singletonList(modules), cycles);
+    }
+
+    @Test
+    public void testGetTransitiveDependenciesOfCycle() {
+        List<Module> modules = createChain(3, true);
+        Map<String, Set<String>> transitiveDependencies = ModuleDependencyGraph.ofDeployedAfter(modules)
+            .getTransitiveDependencies();
+
+        assertEquals("{module-0=[module-1, module-2, module-0], module-1=[module-2, module-0, module-1], "
+            + "module-2=[module-0, module-1, module-2]}", transitiveDependencies.toString());
+    }
+
+    // Each module is deployed after the next one, and the last one after the first one, if the chain is closed.
+    private List<Module> createChain(int length, boolean isClosed) {
+        List<Module> modules = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            int next = i + 1;
+            List<String> deployedAfter = next < length || isClosed ? Collections.singletonList(getName(next % length))
+                : Collections.emptyList();
+            modules.add(Module.createV3()
+                .setName(getName(i))
+                .setDeployedAfter(deployedAfter));
+        }
+        return modules;
+    }
+
+    private String getName(int index) {
+        return "module-" + index;
+    }
+
+}
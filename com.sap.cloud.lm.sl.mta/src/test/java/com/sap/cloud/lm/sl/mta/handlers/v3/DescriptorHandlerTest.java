@@ -56,7 +56,7 @@ public class DescriptorHandlerTest extends com.sap.cloud.lm.sl.mta.handlers.v2.D
                 },
                 // (05) There is a direct circular dependency between two modules, and both of the modules are hard:
                 {
-                    "mtad-10.yaml", new Expectation(Type.EXCEPTION, "Modules, \"baz\" and \"foo\", have hard circular dependencies"),
+                    "mtad-10.yaml", new Expectation(Type.EXCEPTION, "Modules have hard circular dependencies: [foo, baz]"),
                 },
                 // (06) There is a direct circular dependency between two modules, and both of the modules are soft:
                 {
@@ -64,7 +64,7 @@ public class DescriptorHandlerTest extends com.sap.cloud.lm.sl.mta.handlers.v2.D
                 },
                 // (07) There is a circular transitive dependency between two modules, and both of the modules are hard:
                 {
-                    "mtad-11.yaml", new Expectation(Type.EXCEPTION, "Modules, \"baz\" and \"foo\", have hard circular dependencies"),
+                    "mtad-11.yaml", new Expectation(Type.EXCEPTION, "Modules have hard circular dependencies: [foo, baz]"),
                 },
                 // (08) There is a circular transitive dependency between two modules, and both of the modules are hard:
                 {
@@ -80,7 +80,7 @@ public class DescriptorHandlerTest extends com.sap.cloud.lm.sl.mta.handlers.v2.D
                 },
                 // (11) There are two circular dependencies and two modules are hard:
                 {
-                    "mtad-16.yaml", new Expectation(Type.EXCEPTION, "Modules, \"baz\" and \"bar\", have hard circular dependencies"),
+                    "mtad-16.yaml", new Expectation(Type.EXCEPTION, "Modules have hard circular dependencies: [bar, baz]"),
                 },
                 // (12) There are two circular dependencies and one  module  is hard:
                 {
@@ -94,6 +94,14 @@ public class DescriptorHandlerTest extends com.sap.cloud.lm.sl.mta.handlers.v2.D
                 {
                     "mtad-05-deployed-after.yaml", new Expectation("[baz, bar, foo, qux]"),
                 },
+                // (15) There are two separate hard circular dependencies:
+                {
+                    "mtad-22.yaml", new Expectation(Type.EXCEPTION, "Modules have hard circular dependencies: [foo, bar], [baz, qux]"),
+                },
+                // (16) There is a circular dependency, which is broken by its hard module, and the rest of it is sorted without that module:
+                {
+                    "mtad-23.yaml", new Expectation("[baz, bar, foo, qux]"),
+                },
 // @formatter:on
             });
         }
@@ -138,16 +146,20 @@ public class DescriptorHandlerTest extends com.sap.cloud.lm.sl.mta.handlers.v2.D
                 },
                 // (05) Circular dependencies
                 {
-                    "mtad-10-deployed-after-with-parallel-deployments.yaml", new Expectation(Type.EXCEPTION, "Modules, \"baz\" and \"foo\", both depend on each others for deployment"),
+                    "mtad-10-deployed-after-with-parallel-deployments.yaml", new Expectation(Type.EXCEPTION, "Modules depend on each other for deployment: [foo, baz]"),
                 },
                 // (07) Circular transistive dependencies
                 {
-                    "mtad-11-deployed-after-with-parallel-deployments.yaml", new Expectation(Type.EXCEPTION, "Modules, \"bar\" and \"foo\", both depend on each others for deployment"),
+                    "mtad-11-deployed-after-with-parallel-deployments.yaml", new Expectation(Type.EXCEPTION, "Modules depend on each other for deployment: [foo, bar, baz]"),
                 },
                 // (13) A module depends on itself
                 {
                     "mtad-18-deployed-after-with-parallel-deployments.yaml", new Expectation("{bar=[], foo=[bar]}"),
                 },
+                // (14) Two separate circular dependencies
+                {
+                    "mtad-22-deployed-after-with-parallel-deployments.yaml", new Expectation(Type.EXCEPTION, "Modules depend on each other for deployment: [foo, bar], [baz, qux]"),
+                },
 // @formatter:on
             });
         }
@@ -184,4 +196,51 @@ public class DescriptorHandlerTest extends com.sap.cloud.lm.sl.mta.handlers.v2.D
 
     }
 
+    @RunWith(Parameterized.class)
+    public static class DeploymentPlanTest extends com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorHandlerTest.DeploymentPlanTest {
+
+        public DeploymentPlanTest(String descriptorLocation, int maxParallelism, Expectation expectation) {
+            super(descriptorLocation, maxParallelism, expectation);
+        }
+
+        @Override
+        protected DescriptorHandler getDescriptorHandler() {
+            return new DescriptorHandler();
+        }
+
+        @Parameters
+        public static Iterable<Object[]> getParameters() {
+            return Arrays.asList(new Object[][] {
+// @formatter:off
+                // (00)
+                {
+                    "mtad-05-deployed-after-with-parallel-deployments.yaml", Integer.MAX_VALUE, new Expectation("[[bar, qux], [foo], [baz]] 3"),
+                },
+                // (01) The broker has a transitive dependency to the backend:
+                {
+                    "mtad-08-deployed-after-with-parallel-deployments.yaml", Integer.MAX_VALUE, new Expectation("[[db, backend], [service], [dashboard], [broker]] 4"),
+                },
+                // (02) Only one module can be deployed at a time:
+                {
+                    "mtad-08-deployed-after-with-parallel-deployments.yaml", 1, new Expectation("[[db], [service], [backend], [dashboard], [broker]] 4"),
+                },
+                // (03) The deployed-after attribute is used, therefore requires section is not used:
+                {
+                    "mtad-05-deployed-after.yaml", Integer.MAX_VALUE, new Expectation("[[baz, qux], [bar], [foo]] 3"),
+                },
+                // (04) Two separate circular dependencies
+                {
+                    "mtad-22-deployed-after-with-parallel-deployments.yaml", Integer.MAX_VALUE, new Expectation(Type.EXCEPTION, "Modules depend on each other for deployment: [foo, bar], [baz, qux]"),
+                },
+// @formatter:on
+            });
+        }
+
+        @Override
+        protected DescriptorParser getDescriptorParser() {
+            return new DescriptorParser();
+        }
+
+    }
+
 }
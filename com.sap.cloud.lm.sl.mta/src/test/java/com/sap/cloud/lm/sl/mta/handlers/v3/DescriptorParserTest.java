@@ -103,6 +103,14 @@ public class DescriptorParserTest extends com.sap.cloud.lm.sl.mta.handlers.v2.De
                     new Expectation(Expectation.Type.SKIP, null),
                 },
             },
+            // (11) Module hooks with the same name, since hook names do not have to be unique:
+            {
+                "mtad-with-module-hooks-with-same-name.yaml", null,
+                new Expectation[] {
+                    new Expectation(Expectation.Type.JSON, "parsed-mtad-with-hooks-with-same-name.json"),
+                    new Expectation(Expectation.Type.SKIP, null),
+                },
+            },
 // @formatter:on
         });
     }
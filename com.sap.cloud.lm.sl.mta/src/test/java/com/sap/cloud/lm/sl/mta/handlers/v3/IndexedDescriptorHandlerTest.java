@@ -0,0 +1,170 @@
+package com.sap.cloud.lm.sl.mta.handlers.v3;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.mta.MtaTestUtil;
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.model.ExtensionDescriptor;
+import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.model.NamedElement;
+import com.sap.cloud.lm.sl.mta.model.Platform;
+import com.sap.cloud.lm.sl.mta.model.ProvidedDependency;
+import com.sap.cloud.lm.sl.mta.model.RequiredDependency;
+import com.sap.cloud.lm.sl.mta.model.Resource;
+
+public class IndexedDescriptorHandlerTest {
+
+    private static final String UNKNOWN_NAME = "unknown";
+
+    private final DescriptorHandler handler = new DescriptorHandler();
+    private final DescriptorHandler indexedHandler = new IndexedDescriptorHandler();
+
+    @Test
+    public void testFindInDeploymentDescriptor() throws Exception {
+        DeploymentDescriptor descriptor = MtaTestUtil.loadDeploymentDescriptor("/mta/sample/v3/mtad-01.yaml", new DescriptorParser(),
+            getClass());
+        List<String> names = getNames(descriptor.getModules(), descriptor.getResources(), descriptor.getModules()
+            .stream()
+            .flatMap(module -> module.getProvidedDependencies()
+                .stream())
+            .collect(Collectors.toList()));
+
+        for (String name : names) {
+            assertSame(handler.findModule(descriptor, name), indexedHandler.findModule(descriptor, name));
+            assertSame(handler.findResource(descriptor, name), indexedHandler.findResource(descriptor, name));
+            assertSame(handler.findProvidedDependency(descriptor, name), indexedHandler.findProvidedDependency(descriptor, name));
+        }
+        for (Module module : descriptor.getModules()) {
+            for (RequiredDependency requiredDependency : module.getRequiredDependencies()) {
+                assertSame(handler.findRequiredDependency(descriptor, module.getName(), requiredDependency.getName()),
+                    indexedHandler.findRequiredDependency(descriptor, module.getName(), requiredDependency.getName()));
+            }
+            assertNull(indexedHandler.findRequiredDependency(descriptor, module.getName(), UNKNOWN_NAME));
+        }
+    }
+
+    @Test
+    public void testFindInExtensionDescriptor() throws Exception {
+        ExtensionDescriptor descriptor = MtaTestUtil.loadExtensionDescriptor("/mta/sample/v3/config-01.mtaext", new DescriptorParser(),
+            getClass());
+        List<String> names = getNames(descriptor.getModules(), descriptor.getResources(), descriptor.getModules()
+            .stream()
+            .flatMap(module -> module.getProvidedDependencies()
+                .stream())
+            .collect(Collectors.toList()));
+
+        for (String name : names) {
+            assertSame(handler.findModule(descriptor, name), indexedHandler.findModule(descriptor, name));
+            assertSame(handler.findResource(descriptor, name), indexedHandler.findResource(descriptor, name));
+            assertSame(handler.findProvidedDependency(descriptor, name), indexedHandler.findProvidedDependency(descriptor, name));
+        }
+    }
+
+    @Test
+    public void testFindInPlatform() throws Exception {
+        Platform platform = MtaTestUtil.loadPlatform("/mta/sample/platform-01.json", getClass());
+        List<String> names = getNames(platform.getModuleTypes(), platform.getResourceTypes());
+
+        for (String name : names) {
+            assertSame(handler.findModuleType(platform, name), indexedHandler.findModuleType(platform, name));
+            assertSame(handler.findResourceType(platform, name), indexedHandler.findResourceType(platform, name));
+        }
+    }
+
+    @Test
+    public void testFindRequiredDependencyOfResource() {
+        RequiredDependency requiredDependency = RequiredDependency.createV3()
+            .setName("bar");
+        Resource resource = Resource.createV3()
+            .setName("foo")
+            .setRequiredDependencies(Collections.singletonList(requiredDependency));
+        DeploymentDescriptor descriptor = DeploymentDescriptor.createV3()
+            .setResources(Collections.singletonList(resource));
+
+        assertSame(requiredDependency, indexedHandler.findRequiredDependency(descriptor, "foo", "bar"));
+        assertNull(indexedHandler.findRequiredDependency(descriptor, "bar", "bar"));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenModulesAreReplaced() {
+        Module foo = Module.createV3()
+            .setName("foo");
+        DeploymentDescriptor descriptor = DeploymentDescriptor.createV3()
+            .setModules(Collections.singletonList(foo));
+        assertSame(foo, indexedHandler.findModule(descriptor, "foo"));
+
+        Module bar = Module.createV3()
+            .setName("bar");
+        descriptor.setModules(Arrays.asList(foo, bar));
+        assertSame(bar, indexedHandler.findModule(descriptor, "bar"));
+
+        descriptor.setModules(Collections.singletonList(bar));
+        assertNull(indexedHandler.findModule(descriptor, "foo"));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenResourcesAreReplaced() {
+        Resource foo = Resource.createV3()
+            .setName("foo");
+        DeploymentDescriptor descriptor = DeploymentDescriptor.createV3()
+            .setResources(Collections.singletonList(foo));
+        assertSame(foo, indexedHandler.findResource(descriptor, "foo"));
+
+        Resource bar = Resource.createV3()
+            .setName("bar");
+        descriptor.setResources(Collections.singletonList(bar));
+        assertNull(indexedHandler.findResource(descriptor, "foo"));
+        assertSame(bar, indexedHandler.findResource(descriptor, "bar"));
+    }
+
+    @Test
+    public void testIndexIsRebuiltForAnotherDescriptor() {
+        Module foo = Module.createV3()
+            .setName("foo");
+        DeploymentDescriptor descriptor = DeploymentDescriptor.createV3()
+            .setModules(Collections.singletonList(foo));
+        assertSame(foo, indexedHandler.findModule(descriptor, "foo"));
+
+        DeploymentDescriptor otherDescriptor = DeploymentDescriptor.createV3();
+        assertNull(indexedHandler.findModule(otherDescriptor, "foo"));
+        assertSame(foo, indexedHandler.findModule(descriptor, "foo"));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenProvidedDependenciesChange() {
+        ProvidedDependency foo = ProvidedDependency.createV3()
+            .setName("foo");
+        Module module = Module.createV3()
+            .setName("module")
+            .setProvidedDependencies(Collections.singletonList(foo));
+        DeploymentDescriptor descriptor = DeploymentDescriptor.createV3()
+            .setModules(Collections.singletonList(module));
+        assertSame(foo, indexedHandler.findProvidedDependency(descriptor, "foo"));
+
+        ProvidedDependency bar = ProvidedDependency.createV3()
+            .setName("bar");
+        module.setProvidedDependencies(Collections.singletonList(bar));
+        assertNull(indexedHandler.findProvidedDependency(descriptor, "foo"));
+        assertSame(bar, indexedHandler.findProvidedDependency(descriptor, "bar"));
+    }
+
+    @SafeVarargs
+    private final List<String> getNames(List<? extends NamedElement>... elements) {
+        List<String> names = Stream.of(elements)
+            .flatMap(List::stream)
+            .map(NamedElement::getName)
+            .collect(Collectors.toList());
+        names.add(UNKNOWN_NAME);
+        return names;
+    }
+
+}
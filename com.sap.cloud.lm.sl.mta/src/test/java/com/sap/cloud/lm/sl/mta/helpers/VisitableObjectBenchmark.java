@@ -0,0 +1,50 @@
+package com.sap.cloud.lm.sl.mta.helpers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.sap.cloud.lm.sl.mta.BenchmarkUtil;
+import com.sap.cloud.lm.sl.mta.resolvers.PropertiesResolver;
+import com.sap.cloud.lm.sl.mta.resolvers.ReferencePattern;
+import com.sap.cloud.lm.sl.mta.resolvers.ReferencesUnescaper;
+
+/**
+ * Visits a tree of about 11 000 maps and 100 000 strings with the visitors, which are run over all properties and parameters of a
+ * descriptor. Only the maps and lists above a changed value should be copied, so a tree without references should not be copied at all.
+ */
+public class VisitableObjectBenchmark {
+
+    private static final int TREE_DEPTH = 4;
+    private static final int KEYS_PER_MAP = 10;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Object> treeWithoutReferences = createTree(TREE_DEPTH);
+        Map<String, Object> treeWithReference = createTree(TREE_DEPTH);
+        getFirstLeafMap(treeWithReference).put("reference", "~{value}");
+        ReferencesUnescaper referencesUnescaper = new ReferencesUnescaper();
+
+        BenchmarkUtil.run("Resolve tree without references", () -> new PropertiesResolver(treeWithoutReferences,
+            dependencyName -> Collections.emptyMap(), ReferencePattern.SHORT, "", false).resolve());
+        BenchmarkUtil.run("Resolve tree with one reference", () -> new PropertiesResolver(treeWithReference,
+            dependencyName -> Collections.singletonMap("value", "resolved"), ReferencePattern.SHORT, "", false).resolve());
+        BenchmarkUtil.run("Unescape tree without references", () -> new VisitableObject(treeWithoutReferences).accept(referencesUnescaper));
+    }
+
+    private static Map<String, Object> createTree(int depth) {
+        Map<String, Object> tree = new LinkedHashMap<>();
+        for (int i = 0; i < KEYS_PER_MAP; i++) {
+            tree.put("key-" + i, depth == 0 ? "value-" + i : createTree(depth - 1));
+        }
+        tree.put("list", Arrays.asList("a", "b", "c", "d"));
+        return tree;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getFirstLeafMap(Map<String, Object> tree) {
+        Object firstValue = tree.get("key-0");
+        return firstValue instanceof Map ? getFirstLeafMap((Map<String, Object>) firstValue) : tree;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.sap.cloud.lm.sl.mta.resolvers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.lm.sl.common.ContentException;
+
+public class ConcurrentResolverTest {
+
+    @Test
+    public void testResolveAllKeepsOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> resolvedElements = ConcurrentResolver.resolveAll(Arrays.asList("a", "b", "c", "d"), String::toUpperCase, executor);
+
+            assertEquals(Arrays.asList("A", "B", "C", "D"), resolvedElements);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testResolveAllWaitsForRunningTasksAfterFailure() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch isSlowTaskStarted = new CountDownLatch(1);
+        AtomicBoolean isSlowTaskFinished = new AtomicBoolean();
+        AtomicBoolean isSlowTaskInterrupted = new AtomicBoolean();
+        try {
+            ContentException exception = assertThrows(ContentException.class,
+                () -> ConcurrentResolver.resolveAll(Arrays.asList("failing", "slow"), element -> {
+                    if (element.equals("slow")) {
+                        isSlowTaskStarted.countDown();
+                        try {
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            isSlowTaskInterrupted.set(true);
+                        }
+                        isSlowTaskFinished.set(true);
+                        return element;
+                    }
+                    await(isSlowTaskStarted);
+                    throw new ContentException("Cannot resolve \"{0}\"", element);
+                }, executor));
+
+            assertEquals("Cannot resolve \"failing\"", exception.getMessage());
+            assertTrue(isSlowTaskFinished.get());
+            assertFalse(isSlowTaskInterrupted.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+}
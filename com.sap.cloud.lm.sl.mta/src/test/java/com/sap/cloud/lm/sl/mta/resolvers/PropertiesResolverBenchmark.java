@@ -0,0 +1,35 @@
+package com.sap.cloud.lm.sl.mta.resolvers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.sap.cloud.lm.sl.mta.BenchmarkUtil;
+
+/**
+ * Resolves a long JSON-like value with many references, whose substitution used to be quadratic in the length of the value.
+ */
+public class PropertiesResolverBenchmark {
+
+    private static final int REFERENCES_COUNT = 2000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Object> providedValues = new HashMap<>();
+        StringBuilder value = new StringBuilder("{");
+        for (int i = 0; i < REFERENCES_COUNT; i++) {
+            providedValues.put("key-" + i, "value-" + i);
+            value.append(i == 0 ? "" : ", ")
+                .append("\"key-")
+                .append(i)
+                .append("\": \"~{key-")
+                .append(i)
+                .append("}\"");
+        }
+        value.append("}");
+        Map<String, Object> properties = Collections.singletonMap("value", value.toString());
+
+        BenchmarkUtil.run("Value with " + REFERENCES_COUNT + " references", () -> new PropertiesResolver(properties,
+            dependencyName -> providedValues, ReferencePattern.SHORT, "", true).resolve());
+    }
+
+}
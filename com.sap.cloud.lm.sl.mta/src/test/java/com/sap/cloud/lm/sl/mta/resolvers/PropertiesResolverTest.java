@@ -1,8 +1,19 @@
 package com.sap.cloud.lm.sl.mta.resolvers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -16,6 +27,21 @@ public class PropertiesResolverTest {
 
     protected static final PropertiesResolver testResolver = new PropertiesResolver(null, null, null, "test-", false);
 
+    private static final Map<String, Object> PROVIDED_VALUES = new HashMap<>();
+
+    static {
+        PROVIDED_VALUES.put("a", "x");
+        PROVIDED_VALUES.put("b", "~{a}");
+        PROVIDED_VALUES.put("c", "~{a}");
+        PROVIDED_VALUES.put("diamond", "~{b}~{c}");
+        PROVIDED_VALUES.put("escaped", "\\~{a}");
+        PROVIDED_VALUES.put("empty", "");
+        PROVIDED_VALUES.put("map", Collections.singletonMap("b", "~{b}"));
+        PROVIDED_VALUES.put("loop", "~{loop}");
+        PROVIDED_VALUES.put("ping", "~{pong}");
+        PROVIDED_VALUES.put("pong", "~{ping}");
+    }
+
     private final Tester tester = Tester.forClass(getClass());
 
     @Parameters
@@ -49,4 +75,123 @@ public class PropertiesResolverTest {
         }, expectation);
     }
 
+    public static Stream<Arguments> testResolveReferences() {
+        return Stream.of(
+        // @formatter:off
+            // (0) The same reference is repeated:
+            Arguments.of("~{a}~{a}", new Expectation("xx")),
+            // (1) The same reference is repeated with text between the occurrences:
+            Arguments.of("http://~{a}:~{a}/~{a}", new Expectation("http://x:x/x")),
+            // (2) The referenced value contains another reference, which is repeated in the value:
+            Arguments.of("~{b}~{b}", new Expectation("xx")),
+            // (3) The referenced value contains the text of a reference, which follows it in the value:
+            Arguments.of("~{escaped}~{a}", new Expectation("\\~{a}x")),
+            // (4) The reference is escaped, but the same reference is not:
+            Arguments.of("\\~{a}~{a}", new Expectation("\\~{a}x")),
+            // (5) The referenced values are empty:
+            Arguments.of("~{empty}~{a}~{empty}", new Expectation("x")),
+            // (6) The value contains no references:
+            Arguments.of("no references", new Expectation("no references")),
+            // (7) One of the references cannot be resolved:
+            Arguments.of("~{a}~{missing}~{a}", new Expectation(null)),
+            // (8) The same value is referenced through different references:
+            Arguments.of("~{diamond}", new Expectation("xx")),
+            // (9) The value references itself:
+            Arguments.of("~{loop}", new Expectation(Expectation.Type.EXCEPTION, "Circular reference detected in \"value\": ~{loop} -> ~{loop}")),
+            // (10) The values reference each other:
+            Arguments.of("~{ping}", new Expectation(Expectation.Type.EXCEPTION, "Circular reference detected in \"value\": ~{ping} -> ~{pong} -> ~{ping}")),
+            // (11) The values reference each other through another value:
+            Arguments.of("~{b}~{ping}", new Expectation(Expectation.Type.EXCEPTION, "Circular reference detected in \"value\": ~{ping} -> ~{pong} -> ~{ping}")));
+        // @formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void testResolveReferences(String value, Expectation expectation) {
+        PropertiesResolver resolver = new PropertiesResolver(Collections.singletonMap("value", value), dependencyName -> PROVIDED_VALUES,
+            ReferencePattern.SHORT, "", false);
+
+        tester.test(() -> {
+            return resolver.resolve()
+                .get("value");
+        }, expectation);
+    }
+
+    @Test
+    public void testResolveReturnsUnchangedMapsAndLists() {
+        List<Object> unchangedList = Arrays.asList("a", Collections.singletonMap("b", "c"));
+        Map<String, Object> changedMap = new TreeMap<>();
+        changedMap.put("list", unchangedList);
+        changedMap.put("reference", "~{a}");
+        Map<String, Object> properties = new TreeMap<>();
+        properties.put("changed", changedMap);
+        properties.put("unchanged", Collections.singletonMap("list", unchangedList));
+
+        Map<String, Object> resolvedProperties = new PropertiesResolver(properties, dependencyName -> PROVIDED_VALUES,
+            ReferencePattern.SHORT, "").resolve();
+
+        assertEquals("{changed={list=[a, {b=c}], reference=x}, unchanged={list=[a, {b=c}]}}", resolvedProperties.toString());
+        assertNotSame(properties, resolvedProperties);
+        assertNotSame(changedMap, resolvedProperties.get("changed"));
+        assertSame(unchangedList, ((Map<?, ?>) resolvedProperties.get("changed")).get("list"));
+        assertSame(properties.get("unchanged"), resolvedProperties.get("unchanged"));
+
+        Map<String, Object> propertiesWithoutReferences = Collections.singletonMap("unchanged", properties.get("unchanged"));
+        assertSame(propertiesWithoutReferences, new PropertiesResolver(propertiesWithoutReferences, dependencyName -> PROVIDED_VALUES,
+            ReferencePattern.SHORT, "").resolve());
+    }
+
+    @Test
+    public void testResolveKeepsOrderOfChangedMaps() {
+        Map<String, Object> referencedMap = new LinkedHashMap<>();
+        referencedMap.put("z", "~{a}");
+        referencedMap.put("y", "y");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("unchanged", "b");
+        properties.put("reference", "~{a}");
+        properties.put("copy", "~{ordered}");
+
+        Map<String, Object> providedValues = new HashMap<>(PROVIDED_VALUES);
+        providedValues.put("ordered", referencedMap);
+
+        Map<String, Object> resolvedProperties = new PropertiesResolver(properties, dependencyName -> providedValues,
+            ReferencePattern.SHORT, "").resolve();
+
+        assertEquals("{unchanged=b, reference=x, copy={z=x, y=y}}", resolvedProperties.toString());
+    }
+
+    @Test
+    public void testResolveReferencesWithSharedCache() {
+        ResolutionCache resolutionCache = new ResolutionCache();
+        Object firstValue = resolveWithCache("~{map}", resolutionCache);
+        Object secondValue = resolveWithCache("~{map}", resolutionCache);
+
+        assertEquals(Collections.singletonMap("b", "x"), firstValue);
+        assertEquals(firstValue, secondValue);
+        assertNotSame(firstValue, secondValue);
+    }
+
+    @Test
+    public void testResolveReferencesWithCollectedFailures() {
+        Map<String, Object> properties = new TreeMap<>();
+        properties.put("circular", "~{loop}");
+        properties.put("resolvable", "~{b}");
+        properties.put("unresolvable", "~{missing}");
+        ResolutionCache resolutionCache = new ResolutionCache(true);
+        PropertiesResolver resolver = new PropertiesResolver(properties, dependencyName -> PROVIDED_VALUES, ReferencePattern.SHORT, "",
+            true, resolutionCache);
+
+        assertEquals("{circular=~{loop}, resolvable=x, unresolvable=~{missing}}", resolver.resolve()
+            .toString());
+        String expectedMessage = "2 references cannot be resolved: Circular reference detected in \"circular\": ~{loop} -> ~{loop}; "
+            + "Unable to resolve \"missing\"";
+        tester.test(resolutionCache::reportFailures, new Expectation(Expectation.Type.EXCEPTION, expectedMessage));
+    }
+
+    private Object resolveWithCache(String value, ResolutionCache resolutionCache) {
+        return new PropertiesResolver(Collections.singletonMap("value", value), dependencyName -> PROVIDED_VALUES, ReferencePattern.SHORT,
+            "", true, resolutionCache).resolve()
+                .get("value");
+    }
+
 }
@@ -5,8 +5,12 @@ import static com.sap.cloud.lm.sl.mta.resolvers.ReferencePattern.PLACEHOLDER;
 import static com.sap.cloud.lm.sl.mta.resolvers.ReferencePattern.SHORT;
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -132,4 +136,88 @@ public class ReferencePatternTest {
 
     }
 
+    @RunWith(Parameterized.class)
+    public static class ReferencePatternTest3 {
+
+        private static final String ALPHABET = "$~{}/\\ab\n\r";
+        private static final int RANDOM_LINES_COUNT = 20000;
+
+        private ReferencePattern referencePattern;
+        private Pattern regex;
+
+        public ReferencePatternTest3(ReferencePattern referencePattern, String regex) {
+            this.referencePattern = referencePattern;
+            this.regex = Pattern.compile(regex);
+        }
+
+        @Parameters
+        public static Iterable<Object[]> getParameters() {
+            return Arrays.asList(new Object[][] {
+// @formatter:off
+                // (0)
+                {
+                    ReferencePattern.PLACEHOLDER, "(?<!\\\\)\\$\\{(.+?)\\}",
+                },
+                // (1)
+                {
+                    ReferencePattern.SHORT, "(?<!\\\\)~\\{(.+?)\\}",
+                },
+                // (2)
+                {
+                    ReferencePattern.FULLY_QUALIFIED, "(?<!\\\\)~\\{(.+?)/(.+?)\\}",
+                },
+// @formatter:on
+            });
+        }
+
+        @Test
+        public void testMatchIsEquivalentToRegex() {
+            List<String> lines = new ArrayList<>(Arrays.asList("", "no references", "${}", "~{}", "${}}", "~{a/}/b}", "~{/a/b}", "~{a}~{b/c}",
+                "\\${a}${b}", "${a\nb}${c}", "~{a/b\n}~{c/d}", "${a\u2028}", "~{a}\\~{b}~{", "${{to}}", "$${a}", "~~{a/b}"));
+            Random random = new Random(0);
+            for (int i = 0; i < RANDOM_LINES_COUNT; i++) {
+                lines.add(getRandomLine(random));
+            }
+            for (String line : lines) {
+                assertEquals(line, toString(matchWithRegex(line)), toString(referencePattern.match(line)));
+            }
+        }
+
+        private static String getRandomLine(Random random) {
+            StringBuilder line = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int i = 0; i < length; i++) {
+                line.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            return line.toString();
+        }
+
+        private List<Reference> matchWithRegex(String line) {
+            Matcher matcher = regex.matcher(line);
+            List<Reference> references = new ArrayList<>();
+            while (matcher.find()) {
+                if (referencePattern.hasPropertySetSegment()) {
+                    references.add(new Reference(matcher.group(0), matcher.group(2), matcher.group(1)));
+                } else {
+                    references.add(new Reference(matcher.group(0), matcher.group(1)));
+                }
+            }
+            return references;
+        }
+
+        private static String toString(List<Reference> references) {
+            StringBuilder result = new StringBuilder();
+            for (Reference reference : references) {
+                result.append(reference.getMatchedPattern())
+                    .append('|')
+                    .append(reference.getDependencyName())
+                    .append('|')
+                    .append(reference.getKey())
+                    .append(';');
+            }
+            return result.toString();
+        }
+
+    }
+
 }
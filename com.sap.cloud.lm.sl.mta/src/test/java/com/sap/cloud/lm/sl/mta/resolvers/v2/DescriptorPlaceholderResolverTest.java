@@ -2,6 +2,8 @@ package com.sap.cloud.lm.sl.mta.resolvers.v2;
 
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.params.ParameterizedTest;
@@ -100,6 +102,10 @@ public class DescriptorPlaceholderResolverTest {
             // (19)
             Arguments.of(
                 "mtad-with-escaped-placeholders.yaml", new Expectation(Expectation.Type.JSON, "result-from-escaped-placeholders.json")
+            ),
+            // (20) All placeholders, which cannot be resolved, are reported together:
+            Arguments.of(
+                "mtad-with-multiple-unresolvable-placeholders.yaml", new Expectation(Expectation.Type.EXCEPTION, "4 references cannot be resolved: Unable to resolve \"bar#non-existing\"; Unable to resolve \"foo#bar#non-existing\"; Unable to resolve \"foo#non-existing\"; Unable to resolve \"non-existing\"")
             )
 // @formatter:on
         );
@@ -114,6 +120,21 @@ public class DescriptorPlaceholderResolverTest {
         tester.test(() -> resolver.resolve(), expectation);
     }
 
+    @ParameterizedTest
+    @MethodSource("testResolve")
+    public void testResolveConcurrently(String descriptorLocation, Expectation expectation) {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            DeploymentDescriptor deploymentDescriptor = parseDeploymentDescriptor(descriptorLocation);
+            resolver = new DescriptorPlaceholderResolver(deploymentDescriptor, new ResolverBuilder(), new ResolverBuilder(),
+                Collections.emptyMap(), executor);
+
+            tester.test(() -> resolver.resolve(), expectation);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void init(String descriptorLocation) {
         DeploymentDescriptor deploymentDescriptor = parseDeploymentDescriptor(descriptorLocation);
         this.resolver = createDescriptorPlaceholderResolver(deploymentDescriptor);
@@ -0,0 +1,73 @@
+package com.sap.cloud.lm.sl.mta.resolvers.v2;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.sap.cloud.lm.sl.mta.BenchmarkUtil;
+import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorParser;
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.model.Module;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolutionCache;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
+
+/**
+ * Resolves a descriptor, in which many modules reference the same value, which is itself built from many references. The value is resolved
+ * once for the whole descriptor with a shared resolution cache, and once for each module with a cache per module resolver. The modules
+ * also require the dependency referenced by the shared value, since the references in it are resolved on behalf of each of them.
+ */
+public class DescriptorReferenceResolverBenchmark {
+
+    private static final int MODULES_COUNT = 500;
+    private static final int REFERENCES_PER_MODULE = 5;
+    private static final int REFERENCES_PER_SHARED_VALUE = 20;
+
+    public static void main(String[] args) throws Exception {
+        String descriptor = createDescriptor();
+
+        BenchmarkUtil.run("Shared resolution cache", () -> new DescriptorReferenceResolver(parse(descriptor), new ResolverBuilder(),
+            new ResolverBuilder()).resolve());
+        BenchmarkUtil.run("Resolution cache per module", () -> new DescriptorReferenceResolverWithCachePerModule(parse(descriptor))
+            .resolve());
+    }
+
+    private static String createDescriptor() {
+        StringBuilder descriptor = new StringBuilder("_schema-version: \"2.0.0\"\nID: benchmark\nversion: 1.0.0\nmodules:\n");
+        descriptor.append("  - name: base\n    type: benchmark\n    provides:\n      - name: base-values\n        properties:\n");
+        for (int i = 0; i < REFERENCES_PER_SHARED_VALUE; i++) {
+            descriptor.append("          value-" + i + ": base-" + i + "\n");
+        }
+        descriptor.append("  - name: shared\n    type: benchmark\n    requires:\n      - name: base-values\n");
+        descriptor.append("    provides:\n      - name: shared-values\n        properties:\n          value: \"");
+        for (int i = 0; i < REFERENCES_PER_SHARED_VALUE; i++) {
+            descriptor.append("~{base-values/value-" + i + "}/");
+        }
+        descriptor.append("\"\n");
+        for (int i = 0; i < MODULES_COUNT; i++) {
+            descriptor.append("  - name: module-" + i + "\n    type: benchmark\n    requires:\n      - name: base-values\n");
+            descriptor.append("      - name: shared-values\n    properties:\n");
+            for (int k = 0; k < REFERENCES_PER_MODULE; k++) {
+                descriptor.append("      property-" + k + ": \"~{shared-values/value}\"\n");
+            }
+        }
+        return descriptor.toString();
+    }
+
+    private static DeploymentDescriptor parse(String descriptor) {
+        return new DescriptorParser().parseDeploymentDescriptorYaml(new ByteArrayInputStream(descriptor.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static class DescriptorReferenceResolverWithCachePerModule extends DescriptorReferenceResolver {
+
+        DescriptorReferenceResolverWithCachePerModule(DeploymentDescriptor descriptor) {
+            super(descriptor, new ResolverBuilder(), new ResolverBuilder());
+        }
+
+        @Override
+        protected ModuleReferenceResolver createModuleResolver(Module module) {
+            return new ModuleReferenceResolver(descriptor, module, "", modulesPropertiesResolverBuilder,
+                requiredDepencenciesPropertiesResolverBuilder, new ResolutionCache(true));
+        }
+
+    }
+
+}
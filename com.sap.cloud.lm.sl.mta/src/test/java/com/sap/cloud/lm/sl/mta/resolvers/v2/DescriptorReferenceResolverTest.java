@@ -1,5 +1,7 @@
 package com.sap.cloud.lm.sl.mta.resolvers.v2;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.params.ParameterizedTest;
@@ -55,6 +57,14 @@ public class DescriptorReferenceResolverTest {
             // (7)
             Arguments.of(
                 "mtad-with-escaped-references.yaml", new Expectation(Expectation.Type.JSON, "result-from-escaped-references.json")
+            ),
+            // (8) A resolved value, which references another dependency, is reused by a module that does not require that dependency:
+            Arguments.of(
+                "merged-07.yaml", new Expectation(Expectation.Type.EXCEPTION, "Module \"bar\" does not contain a required dependency for \"host\", but contains references to its properties")
+            ),
+            // (9) All references, which cannot be resolved, are reported together:
+            Arguments.of(
+                "merged-08.yaml", new Expectation(Expectation.Type.EXCEPTION, "3 references cannot be resolved: Circular reference detected in \"baz##circular\": ~{bar/loop} -> ~{bar/ping} -> ~{bar/loop}; Module \"baz\" does not contain a required dependency for \"qux\", but contains references to its properties; Unable to resolve \"foo##missing\"")
             )
 // @formatter:on
         );
@@ -70,10 +80,27 @@ public class DescriptorReferenceResolverTest {
         tester.test(() -> resolver.resolve(), expectation);
     }
 
+    @ParameterizedTest
+    @MethodSource("testResolve")
+    public void testResolveConcurrently(String mergedDescriptorLocation, Expectation expectation) {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            init(mergedDescriptorLocation, executor);
+
+            tester.test(() -> resolver.resolve(), expectation);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void init(String mergedDescriptorLocation) {
+        init(mergedDescriptorLocation, null);
+    }
+
+    private void init(String mergedDescriptorLocation, ExecutorService executor) {
         DeploymentDescriptor mergedDescriptor = MtaTestUtil.loadDeploymentDescriptor(mergedDescriptorLocation, new DescriptorParser(),
             getClass());
-        resolver = new DescriptorReferenceResolver(mergedDescriptor, new ResolverBuilder(), new ResolverBuilder());
+        resolver = new DescriptorReferenceResolver(mergedDescriptor, new ResolverBuilder(), new ResolverBuilder(), executor);
     }
 
 }
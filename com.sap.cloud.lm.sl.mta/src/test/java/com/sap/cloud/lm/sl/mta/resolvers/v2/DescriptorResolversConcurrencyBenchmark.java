@@ -0,0 +1,68 @@
+package com.sap.cloud.lm.sl.mta.resolvers.v2;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import com.sap.cloud.lm.sl.mta.BenchmarkUtil;
+import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorParser;
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.resolvers.ResolverBuilder;
+
+/**
+ * Resolves the references and the placeholders of a descriptor with many modules, one after another and concurrently with a fixed thread
+ * pool and with the common fork-join pool. Each module references the values provided by the previous one, and its properties contain
+ * placeholders for its own parameters and for the global ones. The durations include the parsing of the descriptor, which is the same in
+ * all cases, and only the memory allocated by the calling thread is reported.
+ */
+public class DescriptorResolversConcurrencyBenchmark {
+
+    private static final int MODULES_COUNT = 500;
+    private static final int PROPERTIES_PER_MODULE = 20;
+
+    public static void main(String[] args) throws Exception {
+        String descriptor = createDescriptor();
+        ExecutorService fixedThreadPool = Executors.newFixedThreadPool(Runtime.getRuntime()
+            .availableProcessors());
+        try {
+            run("sequentially", descriptor, null);
+            run("with a fixed thread pool", descriptor, fixedThreadPool);
+            run("with the fork-join pool", descriptor, ForkJoinPool.commonPool());
+        } finally {
+            fixedThreadPool.shutdownNow();
+        }
+    }
+
+    private static void run(String mode, String descriptor, ExecutorService executor) throws Exception {
+        BenchmarkUtil.run("References " + mode, () -> new DescriptorReferenceResolver(parse(descriptor), new ResolverBuilder(),
+            new ResolverBuilder(), executor).resolve());
+        BenchmarkUtil.run("Placeholders " + mode, () -> new DescriptorPlaceholderResolver(parse(descriptor), new ResolverBuilder(),
+            new ResolverBuilder(), Collections.emptyMap(), executor).resolve());
+    }
+
+    private static String createDescriptor() {
+        StringBuilder descriptor = new StringBuilder("_schema-version: \"2.0.0\"\nID: benchmark\nversion: 1.0.0\n");
+        descriptor.append("parameters:\n  domain: example.com\nmodules:\n");
+        for (int i = 0; i < MODULES_COUNT; i++) {
+            String requiredDependency = "values-" + Math.max(i - 1, 0);
+            descriptor.append("  - name: module-" + i + "\n    type: benchmark\n    parameters:\n      host: host-" + i + "\n");
+            descriptor.append("    requires:\n      - name: " + requiredDependency + "\n    properties:\n");
+            for (int k = 0; k < PROPERTIES_PER_MODULE; k++) {
+                descriptor.append("      property-" + k + ": \"${host}.${domain}/~{" + requiredDependency + "/value-" + k + "}\"\n");
+            }
+            descriptor.append("    provides:\n      - name: values-" + i + "\n        properties:\n");
+            for (int k = 0; k < PROPERTIES_PER_MODULE; k++) {
+                descriptor.append("          value-" + k + ": \"${host}-" + k + "\"\n");
+            }
+        }
+        return descriptor.toString();
+    }
+
+    private static DeploymentDescriptor parse(String descriptor) {
+        return new DescriptorParser().parseDeploymentDescriptorYaml(new ByteArrayInputStream(descriptor.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.sap.cloud.lm.sl.mta.resolvers.v3;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,6 +43,14 @@ public class DescriptorReferenceResolverTest {
             // (4)
             Arguments.of(
                 "mtad-with-escaped-references.yaml", new Expectation(Expectation.Type.JSON, "result-from-escaped-references.json")
+            ),
+            // (5) Failures outside of the resolved values, like a hook, which requires a dependency not required by its module, are reported together with the other failures:
+            Arguments.of(
+                "merged-05.yaml", new Expectation(Expectation.Type.EXCEPTION, "3 references cannot be resolved: Module \"foo\" does not contain a required dependency for \"qux\", but contains references to its properties; Unable to resolve \"baz##non-existing\"; Unable to resolve \"foo##missing\"")
+            ),
+            // (6) A resource references a value of a preceding resource, which references a resource it does not require itself:
+            Arguments.of(
+                "merged-06.yaml", new Expectation(Expectation.Type.JSON, "resolved-04.yaml.json")
             )
 // @formatter:on
         );
@@ -54,10 +64,28 @@ public class DescriptorReferenceResolverTest {
         tester.test(() -> resolver.resolve(), expectation);
     }
 
+    @ParameterizedTest
+    @MethodSource("testResolve")
+    public void testResolveConcurrently(String mergedDescriptorLocation, Expectation expectation) {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            init(mergedDescriptorLocation, executor);
+
+            tester.test(() -> resolver.resolve(), expectation);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void init(String mergedDescriptorLocation) {
+        init(mergedDescriptorLocation, null);
+    }
+
+    private void init(String mergedDescriptorLocation, ExecutorService executor) {
         DeploymentDescriptor mergedDescriptor = MtaTestUtil.loadDeploymentDescriptor(mergedDescriptorLocation, new DescriptorParser(),
             getClass());
-        resolver = new DescriptorReferenceResolver(mergedDescriptor, new ResolverBuilder(), new ResolverBuilder(), new ResolverBuilder());
+        resolver = new DescriptorReferenceResolver(mergedDescriptor, new ResolverBuilder(), new ResolverBuilder(), new ResolverBuilder(),
+            executor);
     }
 
 }
@@ -0,0 +1,125 @@
+package com.sap.cloud.lm.sl.mta.schema;
+
+import static com.sap.cloud.lm.sl.mta.util.ValidatorUtil.getPrefixedName;
+
+import java.util.List;
+import java.util.Map;
+
+import com.sap.cloud.lm.sl.common.ParsingException;
+import com.sap.cloud.lm.sl.common.util.MiscUtil;
+import com.sap.cloud.lm.sl.common.util.YamlUtil;
+import com.sap.cloud.lm.sl.mta.BenchmarkUtil;
+import com.sap.cloud.lm.sl.mta.handlers.v3.Schemas;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+
+/**
+ * Validates a descriptor with many modules and resources against the v3 deployment descriptor schema, with the compiled schema, with a
+ * schema compiled for each validation and with the interpretive validator, which walked the schema elements for each value before the
+ * schemas were compiled. The compiled validator also checks the uniqueness of the identifiers, which the interpretive one did not do.
+ */
+public class SchemaValidatorBenchmark {
+
+    private static final int MODULES_COUNT = 500;
+    private static final int PROPERTIES_PER_MODULE = 20;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Object> descriptor = YamlUtil.convertYamlToMap(createDescriptor());
+        SchemaValidator compiledValidator = new SchemaValidator(Schemas.COMPILED_MTAD);
+        SchemaValidator validator = new SchemaValidator(Schemas.MTAD);
+        BenchmarkUtil.run("Compiled schema", () -> compiledValidator.validate(descriptor));
+        BenchmarkUtil.run("Schema compiled for each validation", () -> validator.validate(descriptor));
+        BenchmarkUtil.run("Interpretive validator", () -> InterpretiveValidator.validate(descriptor, Schemas.MTAD, ""));
+    }
+
+    private static String createDescriptor() {
+        StringBuilder descriptor = new StringBuilder("_schema-version: \"3.1.0\"\nID: benchmark\nversion: 1.0.0\n");
+        descriptor.append("parameters:\n  domain: example.com\nmodules:\n");
+        for (int i = 0; i < MODULES_COUNT; i++) {
+            descriptor.append("  - name: module-" + i + "\n    type: benchmark\n    parameters:\n      host: host-" + i + "\n");
+            descriptor.append("    requires:\n      - name: resource-" + i + "\n    properties:\n");
+            for (int k = 0; k < PROPERTIES_PER_MODULE; k++) {
+                descriptor.append("      property-" + k + ": \"${host}.${domain}\"\n");
+            }
+            descriptor.append("    provides:\n      - name: values-" + i + "\n        properties:\n          value: \"${host}\"\n");
+        }
+        descriptor.append("resources:\n");
+        for (int i = 0; i < MODULES_COUNT; i++) {
+            descriptor.append("  - name: resource-" + i + "\n    type: benchmark\n    parameters:\n      service: service-" + i + "\n");
+        }
+        return descriptor.toString();
+    }
+
+    // The validator, which was used before the schemas were compiled:
+    private static class InterpretiveValidator {
+
+        @SuppressWarnings("unchecked")
+        static void validate(Object object, Element schema, String prefix) {
+            checkNull(object, prefix);
+            checkType(object, schema, prefix);
+
+            if (schema instanceof MapElement) {
+                validate((Map<String, Object>) object, (MapElement) schema, prefix);
+            } else if (schema instanceof ListElement) {
+                validate((List<Object>) object, (ListElement) schema, prefix);
+            } else if (schema.getType() == String.class) {
+                validateStringElement(object, schema, prefix);
+            }
+        }
+
+        private static void validate(Map<String, Object> map, MapElement schema, String prefix) {
+            for (String key : map.keySet()) {
+                Element element = schema.getMap()
+                    .get(key);
+                if (element != null) {
+                    validate(map.get(key), element, getPrefixedName(prefix, key));
+                }
+            }
+            for (String key : schema.getMap()
+                .keySet()) {
+                Element element = schema.getMap()
+                    .get(key);
+                if (element.isRequired() && !map.containsKey(key)) {
+                    throw new ParsingException(Messages.MISSING_REQUIRED_KEY, getPrefixedName(prefix, key));
+                }
+            }
+        }
+
+        private static void validate(List<Object> list, ListElement schema, String prefix) {
+            for (int i = 0; i < list.size(); i++) {
+                validate(list.get(i), schema.getElement(), getPrefixedName(prefix, Integer.toString(i)));
+            }
+        }
+
+        private static void validateStringElement(Object object, Element schema, String objectName) {
+            if (schema.getPattern() != null) {
+                String value = String.valueOf(object);
+                if (value.length() > schema.getMaxLength()) {
+                    throw new ParsingException(Messages.VALUE_TOO_LONG, objectName, schema.getMaxLength());
+                }
+                String pattern = schema.getPattern();
+                if (!value.matches(pattern)) {
+                    throw new ParsingException(Messages.INVALID_STRING_VALUE_FOR_KEY, objectName,
+                        MiscUtil.outlineProblematicCharacter(pattern, value));
+                }
+            }
+        }
+
+        private static void checkNull(Object object, String prefix) {
+            if (object == null) {
+                throw new ParsingException(prefix.isEmpty() ? Messages.NULL_CONTENT : Messages.NULL_VALUE_FOR_KEY, prefix);
+            }
+        }
+
+        private static void checkType(Object object, Element element, String prefix) {
+            if (!element.getType()
+                .isInstance(object)) {
+                throw new ParsingException(Messages.INVALID_TYPE_FOR_KEY, prefix, element.getType()
+                    .getSimpleName(),
+                    object.getClass()
+                        .getSimpleName());
+            }
+        }
+
+    }
+
+}
@@ -73,6 +73,14 @@ public class SchemaValidatorTest {
             {
                 null, Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Null content"),
             },
+            // (11) Deployment descriptor has modules with the same name:
+            {
+                "mtad-13.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Value \"web-server\" for key \"name\" not unique for object \"MTA module\""),
+            },
+            // (12) Deployment descriptor module provides a dependency with the name of another module:
+            {
+                "mtad-14.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Value \"backend\" for key \"name\" not unique for object \"MTA provided dependency\""),
+            },
 // @formatter:on
         });
     }
@@ -90,6 +98,15 @@ public class SchemaValidatorTest {
 
     @Test
     public void testValidateSchema() throws Exception {
+        testValidate(validator);
+    }
+
+    @Test
+    public void testValidateCompiledSchema() throws Exception {
+        testValidate(new SchemaValidator(CompiledSchema.compile(schema)));
+    }
+
+    private void testValidate(SchemaValidator validator) {
         tester.test(new Runnable() {
             @Override
             public void run() throws Exception {
@@ -0,0 +1,138 @@
+package com.sap.cloud.lm.sl.mta.schema;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.sap.cloud.lm.sl.common.util.JsonUtil;
+import com.sap.cloud.lm.sl.common.util.Runnable;
+import com.sap.cloud.lm.sl.common.util.TestUtil;
+import com.sap.cloud.lm.sl.common.util.Tester;
+import com.sap.cloud.lm.sl.common.util.Tester.Expectation;
+import com.sap.cloud.lm.sl.common.util.YamlUtil;
+import com.sap.cloud.lm.sl.mta.handlers.v2.Schemas;
+
+@RunWith(Parameterized.class)
+public class ValidatingYamlParserTest {
+
+    private final Tester tester = Tester.forClass(getClass());
+
+    private final Element schema;
+    private final String file;
+    private final Expectation expectation;
+
+    private ValidatingYamlParser parser;
+
+    @Parameters
+    public static Iterable<Object[]> getParameters() {
+        return Arrays.asList(new Object[][] {
+// @formatter:off
+            // (00) Valid extension descriptor:
+            {
+                "/mta/sample/v2/config-01-v2.mtaext", Schemas.MTAEXT, new Expectation(null),
+            },
+            // (01) Valid deployment descriptor:
+            {
+                "/mta/sample/v2/mtad-01-v2.yaml", Schemas.MTAD, new Expectation(null),
+            },
+            // (02) Valid platform JSON:
+            {
+                "/mta/sample/platform-01.json", Schemas.PLATFORM, new Expectation(null),
+            },
+            // (03) Deployment descriptor is missing a required key:
+            {
+                "mtad-03.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Missing required key \"ID\""),
+            },
+            // (04) Deployment descriptor module has invalid content for requires dependency:
+            {
+                "mtad-04.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Invalid type for key \"modules#0#requires\", expected \"List\" but got \"String\""),
+            },
+            // (05) Deployment descriptor has an invalid ID:
+            {
+                "mtad-06.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Invalid value for key \"ID\", matching failed at \"com[/]sap/mta/sample\""),
+            },
+            // (06) Deployment descriptor has a too long ID:
+            {
+                "mtad-07.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Invalid value for key \"ID\", maximum length is 128"),
+            },
+            // (07) Deployment descriptor provided dependency has an invalid name:
+            {
+                "mtad-08.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Invalid value for key \"modules#0#provides#0#name\", matching failed at \"internal-od[@]ta\""),
+            },
+            // (08) Deployment descriptor module has an invalid name:
+            {
+                "mtad-09.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Invalid value for key \"modules#0#name\", matching failed at \"web[ ]server\""),
+            },
+            // (09) Deployment descriptor module provides public has String, but not a Boolean value:
+            {
+                "mtad-10.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Invalid type for key \"modules#0#provides#0#public\", expected \"Boolean\" but got \"String\""),
+            },
+            // (10) Deployment descriptor with anchors, aliases, merge keys and sensitive values:
+            {
+                "mtad-11.yaml", Schemas.MTAD, new Expectation(null),
+            },
+            // (11) Deployment descriptor with an invalid ID and invalid YAML syntax:
+            {
+                "mtad-12.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Error while parsing YAML"),
+            },
+            // (12) Empty content:
+            {
+                "", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Null content"),
+            },
+            // (13) Deployment descriptor has modules with the same name:
+            {
+                "mtad-13.yaml", Schemas.MTAD, new Expectation(Expectation.Type.EXCEPTION, "Value \"web-server\" for key \"name\" not unique for object \"MTA module\""),
+            },
+// @formatter:on
+        });
+    }
+
+    public ValidatingYamlParserTest(String file, Element schema, Expectation expectation) {
+        this.schema = schema;
+        this.file = file;
+        this.expectation = expectation;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        parser = new ValidatingYamlParser(schema);
+    }
+
+    @Test
+    public void testParseString() throws Exception {
+        tester.test(new Runnable() {
+            @Override
+            public void run() throws Exception {
+                String yaml = getYaml();
+                Map<String, Object> map = parser.parseMap(yaml);
+                assertEquals(JsonUtil.toJson(YamlUtil.convertYamlToMap(yaml), true), JsonUtil.toJson(map, true));
+            }
+        }, expectation);
+    }
+
+    @Test
+    public void testParseStream() throws Exception {
+        tester.test(new Runnable() {
+            @Override
+            public void run() throws Exception {
+                String yaml = getYaml();
+                Map<String, Object> map = parser.parseMap(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+                assertEquals(JsonUtil.toJson(YamlUtil.convertYamlToMap(yaml), true), JsonUtil.toJson(map, true));
+            }
+        }, expectation);
+    }
+
+    private String getYaml() {
+        return file.isEmpty() ? file : TestUtil.getResourceAsString(file, getClass());
+    }
+
+}
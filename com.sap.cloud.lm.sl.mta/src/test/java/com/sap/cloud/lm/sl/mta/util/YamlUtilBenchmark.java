@@ -0,0 +1,51 @@
+package com.sap.cloud.lm.sl.mta.util;
+
+import java.util.Map;
+
+import org.yaml.snakeyaml.Yaml;
+
+import com.sap.cloud.lm.sl.common.tags.YamlTaggedObjectsConstructor;
+import com.sap.cloud.lm.sl.common.util.YamlUtil;
+import com.sap.cloud.lm.sl.mta.BenchmarkUtil;
+
+/**
+ * Parses many small documents, like the parameters of a single module, and a descriptor with many modules, with the parser reused by the
+ * current thread and with a new parser for each document, as YamlUtil did before. Creating a parser costs the most for small documents.
+ */
+public class YamlUtilBenchmark {
+
+    private static final int SMALL_DOCUMENTS_COUNT = 1000;
+    private static final int MODULES_COUNT = 500;
+
+    public static void main(String[] args) throws Exception {
+        String smallDocument = "host: host-0\ndomain: example.com\nmemory: 1G\ninstances: 2\n";
+        String descriptor = createDescriptor();
+        BenchmarkUtil.run("Small documents with the reused parser", () -> {
+            for (int i = 0; i < SMALL_DOCUMENTS_COUNT; i++) {
+                YamlUtil.convertYamlToMap(smallDocument);
+            }
+        });
+        BenchmarkUtil.run("Small documents with a new parser each", () -> {
+            for (int i = 0; i < SMALL_DOCUMENTS_COUNT; i++) {
+                parseWithNewParser(smallDocument);
+            }
+        });
+        BenchmarkUtil.run("Descriptor with the reused parser", () -> YamlUtil.convertYamlToMap(descriptor));
+        BenchmarkUtil.run("Descriptor with a new parser", () -> parseWithNewParser(descriptor));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parseWithNewParser(String yaml) {
+        return (Map<String, Object>) new Yaml(new YamlTaggedObjectsConstructor()).load(yaml);
+    }
+
+    private static String createDescriptor() {
+        StringBuilder descriptor = new StringBuilder("_schema-version: \"3.1.0\"\nID: benchmark\nversion: 1.0.0\nmodules:\n");
+        for (int i = 0; i < MODULES_COUNT; i++) {
+            descriptor.append("  - name: module-" + i + "\n    type: benchmark\n    parameters:\n      host: host-" + i + "\n");
+            descriptor.append("    properties:\n      url: \"https://host-" + i + ".example.com\"\n");
+        }
+        return descriptor.toString();
+    }
+
+}
@@ -1,15 +1,23 @@
 package com.sap.cloud.lm.sl.mta.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import com.sap.cloud.lm.sl.common.ParsingException;
+import com.sap.cloud.lm.sl.common.tags.SecureObject;
 import com.sap.cloud.lm.sl.common.util.TestUtil;
 import com.sap.cloud.lm.sl.common.util.YamlUtil;
 
@@ -62,4 +70,45 @@ public class YamlUtilTest {
 
     }
 
+    @Nested
+    class WithReusedParsers {
+
+        private static final String DESCRIPTOR = "mtad.yaml";
+        private static final String SENSITIVE_YAML = "password: !sensitive secret";
+
+        @Test
+        public void testParsingAfterFailure() {
+            String descriptorString = TestUtil.getResourceAsString(DESCRIPTOR, getClass());
+            assertThrows(ParsingException.class, () -> YamlUtil.convertYamlToMap("key: [value"));
+            assertEquals(YamlUtil.convertYamlToMap(descriptorString), YamlUtil.convertYamlToMap(descriptorString));
+            validateSensitiveValue(YamlUtil.convertYamlToMap(SENSITIVE_YAML));
+        }
+
+        @Test
+        public void testParsingConcurrently() throws Exception {
+            String descriptorString = TestUtil.getResourceAsString(DESCRIPTOR, getClass());
+            Map<String, Object> expectedDescriptor = YamlUtil.convertYamlToMap(descriptorString);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Map<String, Object>>> descriptors = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    descriptors.add(executor.submit(() -> YamlUtil.convertYamlToMap(descriptorString)));
+                }
+                for (Future<Map<String, Object>> descriptor : descriptors) {
+                    assertEquals(expectedDescriptor, descriptor.get());
+                }
+                validateSensitiveValue(executor.submit(() -> YamlUtil.convertYamlToMap(SENSITIVE_YAML))
+                    .get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private void validateSensitiveValue(Map<String, Object> map) {
+            SecureObject password = (SecureObject) map.get("password");
+            assertEquals("secret", password.getValue());
+        }
+
+    }
+
 }
@@ -0,0 +1,213 @@
+package com.sap.cloud.lm.sl.mta.validators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.sap.cloud.lm.sl.mta.MtaTestUtil;
+import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorParser;
+import com.sap.cloud.lm.sl.mta.handlers.v2.DescriptorValidator;
+import com.sap.cloud.lm.sl.mta.handlers.v2.Schemas;
+import com.sap.cloud.lm.sl.mta.message.Messages;
+import com.sap.cloud.lm.sl.mta.model.DeploymentDescriptor;
+import com.sap.cloud.lm.sl.mta.schema.SchemaValidator;
+
+public class ValidationErrorsTest {
+
+    private static final List<String> DEPLOYMENT_DESCRIPTOR_ERROR_PATHS = Arrays.asList("web-server", "web-server#backend-api", "backend",
+        "backend-db");
+    private static final List<String> DEPLOYMENT_DESCRIPTOR_ERROR_RULES = Arrays.asList(Messages.UNSUPPORTED_MODULE_TYPE,
+        Messages.UNRESOLVED_MODULE_REQUIRED_DEPENDENCY, Messages.UNSUPPORTED_MODULE_TYPE, Messages.UNSUPPORTED_RESOURCE_TYPE);
+    private static final List<String> EXTENSION_DESCRIPTOR_ERROR_PATHS = Arrays.asList("web-serverx", "web-server#docu-url",
+        "web-server#backend-apix", "backend-dbx");
+    private static final List<String> EXTENSION_DESCRIPTOR_ERROR_RULES = Arrays.asList(Messages.UNKNOWN_MODULE_IN_MTAEXT,
+        Messages.CANNOT_MODIFY_ELEMENT, Messages.UNKNOWN_REQUIRED_DEPENDENCY_IN_MTAEXT, Messages.UNKNOWN_RESOURCE_IN_MTAEXT);
+
+    @Test
+    public void testSchemaValidationCollectsAllErrors() {
+        ValidationErrors errors = new ValidationErrors(Integer.MAX_VALUE);
+        new SchemaValidator(Schemas.MTAD).validate(createInvalidDescriptor(), errors);
+
+        assertEquals(Arrays.asList("ID", "modules#0#name", "modules#1#type", "version"), getPaths(errors));
+        assertEquals(Arrays.asList(Messages.INVALID_STRING_VALUE_FOR_KEY, Messages.INVALID_STRING_VALUE_FOR_KEY,
+            Messages.MISSING_REQUIRED_KEY, Messages.MISSING_REQUIRED_KEY), getRules(errors));
+        assertEquals("web server", errors.getErrors()
+            .get(1)
+            .getValue());
+        assertEquals("Invalid value for key \"modules#0#name\", matching failed at \"web[ ]server\"", errors.getErrors()
+            .get(1)
+            .getMessage());
+    }
+
+    @Test
+    public void testSchemaValidationStopsAtMaxErrors() {
+        ValidationErrors errors = new ValidationErrors(2);
+        new SchemaValidator(Schemas.MTAD).validate(createInvalidDescriptor(), errors);
+
+        assertTrue(errors.isLimitReached());
+        assertEquals(Arrays.asList("ID", "modules#0#name"), getPaths(errors));
+    }
+
+    @Test
+    public void testSchemaValidationCollectsNonUniqueValues() {
+        Map<String, Object> descriptor = createInvalidDescriptor();
+        descriptor.put("resources", Arrays.asList(Collections.singletonMap("name", "backend")));
+        ValidationErrors errors = new ValidationErrors(Integer.MAX_VALUE);
+        new SchemaValidator(Schemas.MTAD).validate(descriptor, errors);
+
+        assertEquals(Arrays.asList("ID", "modules#0#name", "modules#1#type", "version", "resources#0#name"), getPaths(errors));
+        assertEquals("Value \"backend\" for key \"name\" not unique for object \"MTA resource\"", errors.getErrors()
+            .get(4)
+            .getMessage());
+    }
+
+    @Test
+    public void testMergedDescriptorValidationCollectsAllErrors() throws Exception {
+        DeploymentDescriptor mergedDescriptor = MtaTestUtil.loadDeploymentDescriptor("/mta/sample/v2/merged-03.yaml",
+            new DescriptorParser(), getClass());
+        ValidationErrors errors = new ValidationErrors(Integer.MAX_VALUE);
+        new DescriptorValidator().validateMergedDescriptor(mergedDescriptor, errors);
+
+        assertEquals(Arrays.asList("competitor-data#test", "pricing#internal-odata#test", "pricing-db#pricing-db-service#test",
+            "pricing-db#test"), getPaths(errors));
+        assertEquals("Unresolved mandatory properties: [pricing-db#test]", errors.getErrors()
+            .get(3)
+            .getMessage());
+    }
+
+    @Test
+    public void testDeploymentDescriptorValidationCollectsAllErrors() throws Exception {
+        ValidationErrors errors = validateDeploymentDescriptor(new DescriptorValidator(), new DescriptorParser(), "mtad-v2.yaml",
+            Integer.MAX_VALUE);
+
+        assertEquals(DEPLOYMENT_DESCRIPTOR_ERROR_PATHS, getPaths(errors));
+        assertEquals(DEPLOYMENT_DESCRIPTOR_ERROR_RULES, getRules(errors));
+        assertEquals("Unresolved required dependency \"backend-api\" for module \"web-server\"", errors.getErrors()
+            .get(1)
+            .getMessage());
+    }
+
+    @Test
+    public void testDeploymentDescriptorValidationStopsAtMaxErrors() throws Exception {
+        ValidationErrors errors = validateDeploymentDescriptor(new DescriptorValidator(), new DescriptorParser(), "mtad-v2.yaml", 2);
+
+        assertTrue(errors.isLimitReached());
+        assertEquals(DEPLOYMENT_DESCRIPTOR_ERROR_PATHS.subList(0, 2), getPaths(errors));
+    }
+
+    @Test
+    public void testExtensionDescriptorValidationCollectsAllErrors() throws Exception {
+        ValidationErrors errors = validateExtensionDescriptor(new DescriptorValidator(), new DescriptorParser(), "mtad-v2.yaml",
+            "config-v2.mtaext", Integer.MAX_VALUE);
+
+        assertEquals(EXTENSION_DESCRIPTOR_ERROR_PATHS, getPaths(errors));
+        assertEquals(EXTENSION_DESCRIPTOR_ERROR_RULES, getRules(errors));
+        assertEquals("Cannot modify property \"web-server#docu-url\" in extension descriptor \"com.sap.mta.validators.config\"",
+            errors.getErrors()
+                .get(1)
+                .getMessage());
+    }
+
+    @Test
+    public void testExtensionDescriptorValidationStopsAtMaxErrors() throws Exception {
+        ValidationErrors errors = validateExtensionDescriptor(new DescriptorValidator(), new DescriptorParser(), "mtad-v2.yaml",
+            "config-v2.mtaext", 2);
+
+        assertTrue(errors.isLimitReached());
+        assertEquals(EXTENSION_DESCRIPTOR_ERROR_PATHS.subList(0, 2), getPaths(errors));
+    }
+
+    @Test
+    public void testV3DeploymentDescriptorValidationCollectsAllErrors() throws Exception {
+        ValidationErrors errors = validateDeploymentDescriptor(new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorValidator(),
+            new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorParser(), "mtad-v3.yaml", Integer.MAX_VALUE);
+
+        assertEquals(DEPLOYMENT_DESCRIPTOR_ERROR_PATHS, getPaths(errors));
+        assertEquals(DEPLOYMENT_DESCRIPTOR_ERROR_RULES, getRules(errors));
+    }
+
+    @Test
+    public void testV3DeploymentDescriptorValidationStopsAtMaxErrors() throws Exception {
+        ValidationErrors errors = validateDeploymentDescriptor(new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorValidator(),
+            new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorParser(), "mtad-v3.yaml", 3);
+
+        assertTrue(errors.isLimitReached());
+        assertEquals(DEPLOYMENT_DESCRIPTOR_ERROR_PATHS.subList(0, 3), getPaths(errors));
+    }
+
+    @Test
+    public void testV3ExtensionDescriptorValidationCollectsAllErrors() throws Exception {
+        ValidationErrors errors = validateExtensionDescriptor(new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorValidator(),
+            new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorParser(), "mtad-v3.yaml", "config-v3.mtaext", Integer.MAX_VALUE);
+
+        assertEquals(EXTENSION_DESCRIPTOR_ERROR_PATHS, getPaths(errors));
+        assertEquals(EXTENSION_DESCRIPTOR_ERROR_RULES, getRules(errors));
+    }
+
+    @Test
+    public void testV3ExtensionDescriptorValidationStopsAtMaxErrors() throws Exception {
+        ValidationErrors errors = validateExtensionDescriptor(new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorValidator(),
+            new com.sap.cloud.lm.sl.mta.handlers.v3.DescriptorParser(), "mtad-v3.yaml", "config-v3.mtaext", 3);
+
+        assertTrue(errors.isLimitReached());
+        assertEquals(EXTENSION_DESCRIPTOR_ERROR_PATHS.subList(0, 3), getPaths(errors));
+    }
+
+    private ValidationErrors validateDeploymentDescriptor(DescriptorValidator validator, DescriptorParser parser, String descriptorLocation,
+        int maxErrors) throws Exception {
+        ValidationErrors errors = new ValidationErrors(maxErrors);
+        validator.validateDeploymentDescriptor(MtaTestUtil.loadDeploymentDescriptor(descriptorLocation, parser, getClass()),
+            MtaTestUtil.loadPlatform("/mta/sample/platform-01.json", getClass()), errors);
+        return errors;
+    }
+
+    private ValidationErrors validateExtensionDescriptor(DescriptorValidator validator, DescriptorParser parser, String descriptorLocation,
+        String extensionDescriptorLocation, int maxErrors) throws Exception {
+        ValidationErrors errors = new ValidationErrors(maxErrors);
+        validator.validateExtensionDescriptors(
+            MtaTestUtil.loadExtensionDescriptors(new String[] { extensionDescriptorLocation }, parser, getClass()),
+            MtaTestUtil.loadDeploymentDescriptor(descriptorLocation, parser, getClass()), errors);
+        return errors;
+    }
+
+    private Map<String, Object> createInvalidDescriptor() {
+        Map<String, Object> descriptor = new LinkedHashMap<>();
+        descriptor.put("_schema-version", "2.1.0");
+        descriptor.put("ID", "com/sap/mta/sample");
+        descriptor.put("modules", Arrays.asList(createModule("web server", "javascript.nodejs"), createModule("backend", null)));
+        return descriptor;
+    }
+
+    private Map<String, Object> createModule(String name, String type) {
+        Map<String, Object> module = new HashMap<>();
+        module.put("name", name);
+        if (type != null) {
+            module.put("type", type);
+        }
+        return module;
+    }
+
+    private List<String> getPaths(ValidationErrors errors) {
+        return errors.getErrors()
+            .stream()
+            .map(ValidationError::getPath)
+            .collect(Collectors.toList());
+    }
+
+    private List<String> getRules(ValidationErrors errors) {
+        return errors.getErrors()
+            .stream()
+            .map(ValidationError::getRule)
+            .collect(Collectors.toList());
+    }
+
+}